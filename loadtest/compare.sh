@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# 같은 장비에서 기본(플랫폼 스레드) 모드와 vthreads 모드를 차례로 부하 테스트하여 결과를 비교합니다.
+#
+# 사용법: ./loadtest/compare.sh [추가 프로필]    (예: ./loadtest/compare.sh prod)
+# 필요: Java 21, k6, 애플리케이션이 접속할 DB
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BASE_PROFILE="${1:-}"
+PORT="${PORT:-8080}"
+OUT_DIR="build/loadtest"
+mkdir -p "$OUT_DIR"
+
+./gradlew bootJar --no-daemon -q
+JAR=$(ls build/libs/*.jar | grep -v plain | head -1)
+
+run_mode() {
+    local mode="$1" profiles="$2"
+    echo "== ${mode} (profiles: ${profiles:-default}) =="
+    java -jar "$JAR" --server.port="$PORT" ${profiles:+--spring.profiles.active=$profiles} > "$OUT_DIR/${mode}-app.log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" RETURN
+
+    until curl -sf -o /dev/null "http://localhost:${PORT}/login"; do sleep 1; done
+
+    k6 run -q -e BASE_URL="http://localhost:${PORT}" \
+        --summary-export="$OUT_DIR/${mode}.json" loadtest/k6-blocking-endpoints.js || true
+}
+
+run_mode platform "$BASE_PROFILE"
+run_mode virtual "${BASE_PROFILE:+$BASE_PROFILE,}vthreads"
+
+# 단계별 p99 / 실패율 비교표 출력
+python3 - "$OUT_DIR" "${SLO_P99_MS:-500}" <<'PY'
+import json, re, sys
+out_dir, slo = sys.argv[1], float(sys.argv[2])
+def stages(mode):
+    metrics = json.load(open(f"{out_dir}/{mode}.json"))["metrics"]
+    result = {}
+    for name, m in metrics.items():
+        s = re.match(r"http_req_duration\{stage:(\d+)\}", name)
+        if s:
+            result.setdefault(int(s.group(1)), {})["p99"] = m["p(99)"]
+        f = re.match(r"http_req_failed\{stage:(\d+)\}", name)
+        if f:
+            result.setdefault(int(f.group(1)), {})["failed"] = m["value"]
+    return result
+platform, virtual = stages("platform"), stages("virtual")
+print(f"{'users':>6} | {'platform p99(ms)':>16} {'fail':>6} | {'virtual p99(ms)':>15} {'fail':>6}")
+best = {"platform": 0, "virtual": 0}
+for vus in sorted(set(platform) | set(virtual)):
+    row = [f"{vus:>6}"]
+    for mode, data in (("platform", platform), ("virtual", virtual)):
+        d = data.get(vus, {})
+        p99, failed = d.get("p99", float("nan")), d.get("failed", float("nan"))
+        if p99 <= slo and failed < 0.01:
+            best[mode] = vus
+        row.append(f"{p99:>16.1f} {failed:>6.2%}")
+    print(" | ".join(row))
+print(f"max users within SLO (p99 <= {slo:.0f}ms, fail < 1%): platform={best['platform']}, virtual={best['virtual']}")
+PY
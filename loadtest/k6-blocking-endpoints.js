@@ -0,0 +1,77 @@
+// JPA 기반 블로킹 엔드포인트 부하 테스트 (플랫폼 스레드 vs 가상 스레드 비교용)
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e MAX_VUS=2000 --summary-export=result.json k6-blocking-endpoints.js
+//
+// 사용자 수를 STAGE_SECONDS마다 STEP_VUS씩 늘리며, 단계별 p99와 실패율은 stage 태그로 구분됩니다.
+// "최대 동시 사용자 수"는 p99가 SLO_P99_MS 이하이고 실패율이 1% 미만인 마지막 단계의 사용자 수입니다.
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'user';
+const PASSWORD = __ENV.PASSWORD || 'password';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '2000');
+const STEP_VUS = parseInt(__ENV.STEP_VUS || '200');
+const STAGE_SECONDS = parseInt(__ENV.STAGE_SECONDS || '60');
+const SLO_P99_MS = parseInt(__ENV.SLO_P99_MS || '500');
+
+const stages = [];
+for (let vus = STEP_VUS; vus <= MAX_VUS; vus += STEP_VUS) {
+    stages.push({ duration: '10s', target: vus });
+    stages.push({ duration: `${STAGE_SECONDS}s`, target: vus });
+}
+
+const thresholds = {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: [`p(99)<${SLO_P99_MS}`],
+};
+// 단계별 지표를 요약에 포함하기 위한 태그별 임계값 (판정에는 사용하지 않음)
+for (let vus = STEP_VUS; vus <= MAX_VUS; vus += STEP_VUS) {
+    thresholds[`http_req_duration{stage:${vus}}`] = ['p(99)>=0'];
+    thresholds[`http_req_failed{stage:${vus}}`] = ['rate>=0'];
+}
+
+export const options = {
+    scenarios: {
+        step_load: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: stages,
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: thresholds,
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+let loggedIn = false;
+
+function currentStage() {
+    // 목표 사용자 수 단계 (STEP_VUS 단위로 올림)
+    return Math.ceil(exec.instance.vusActive / STEP_VUS) * STEP_VUS;
+}
+
+function login() {
+    const page = http.get(`${BASE_URL}/login`);
+    const csrf = page.html().find('input[name=_csrf]').attr('value');
+    const res = http.post(`${BASE_URL}/login`, { username: USERNAME, password: PASSWORD, _csrf: csrf });
+    loggedIn = check(res, { 'login ok': (r) => r.status === 200 && !r.url.includes('/login') });
+}
+
+export default function () {
+    if (!loggedIn) {
+        login();
+        return;
+    }
+
+    const params = { tags: { stage: `${currentStage()}` } };
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/`, null, params],
+        ['GET', `${BASE_URL}/api/food/record/today`, null, params],
+        ['GET', `${BASE_URL}/api/member/info`, null, params],
+        ['GET', `${BASE_URL}/api/food/search?keyword=${encodeURIComponent('김치')}`, null, params],
+    ]);
+    responses.forEach((r) => check(r, { 'status 200': (res) => res.status === 200 }));
+}
@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# 이전 이미지와 빠른 기동 이미지(AOT + CDS)의 첫 요청까지 걸린 시간을 비교합니다.
+#
+# 사용법: ./loadtest/startup-time.sh [기준 git 리비전]    (예: ./loadtest/startup-time.sh main)
+# 필요: Docker, git
+# DB 없이 비교하도록 h2 프로필로 실행하며, 컨테이너 시작부터 /login 첫 200 응답까지의 시간을 잽니다.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BASELINE_REF="${1:-HEAD~1}"
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+OUT_DIR="build/loadtest"
+mkdir -p "$OUT_DIR"
+
+echo "== 이미지 빌드 (baseline: ${BASELINE_REF}) =="
+git archive --format=tar "$BASELINE_REF" | docker build -q -t sample-startup:baseline - > /dev/null
+docker build -q -t sample-startup:fast . > /dev/null
+
+# 컨테이너 시작부터 첫 요청 성공까지 (ms)
+time_to_first_request() {
+    local image="$1" java_opts="$2" name="sample-startup-$$"
+    local start end
+    start=$(date +%s%N)
+    docker run -d --rm --name "$name" -p "${PORT}:8080" \
+        -e SPRING_PROFILES_ACTIVE=h2 ${java_opts:+-e JAVA_OPTS="$java_opts"} "$image" > /dev/null
+    until curl -sf -o /dev/null "http://localhost:${PORT}/login"; do sleep 0.05; done
+    end=$(date +%s%N)
+    docker logs "$name" 2>&1 | grep -o "Started .* in [0-9.]* seconds" | tail -1 >&2 || true
+    docker stop -t 5 "$name" > /dev/null
+    echo $(( (end - start) / 1000000 ))
+}
+
+run_mode() {
+    local mode="$1" image="$2" java_opts="${3:-}"
+    echo "== ${mode} ==" >&2
+    for _ in $(seq "$RUNS"); do
+        time_to_first_request "$image" "$java_opts"
+    done > "$OUT_DIR/startup-${mode}.txt"
+}
+
+run_mode baseline sample-startup:baseline
+# 같은 이미지에서 AOT/CDS만 끈 경우 (계층 jar + springdoc 지연 초기화만 적용)
+run_mode fast-off sample-startup:fast " "
+run_mode fast sample-startup:fast
+
+# 중앙값 비교표 출력
+python3 - "$OUT_DIR" <<'PY'
+import statistics, sys
+out_dir = sys.argv[1]
+rows = {}
+for mode in ("baseline", "fast-off", "fast"):
+    values = [int(v) for v in open(f"{out_dir}/startup-{mode}.txt").read().split()]
+    rows[mode] = (statistics.median(values), min(values), max(values))
+print(f"{'mode':>9} | {'median(ms)':>10} {'min':>6} {'max':>6} | {'vs baseline':>11}")
+base = rows["baseline"][0]
+for mode, (median, low, high) in rows.items():
+    print(f"{mode:>9} | {median:>10.0f} {low:>6} {high:>6} | {median / base:>10.0%}")
+PY
@@ -0,0 +1,69 @@
+package com.zinidata.sample.common.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 암호화 컬럼 컨버터 벤치마크
+ *
+ * 회원 한 명을 저장하고 다시 읽을 때 (이름, 생년월일, 성별 3개 컬럼) 드는 변환 비용을 측정합니다.
+ * 읽기는 값을 조회하지 않는 경우(로그인 등)와 모두 조회하는 경우(화면 표시)를 나누어 측정합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+public class EncryptedStringConverterBenchmark {
+
+    private static final String[] MEMBER_COLUMNS = {"홍길동", "19900101", "M"};
+
+    private final EncryptedStringConverter converter = new EncryptedStringConverter();
+
+    private String[] storedColumns;
+
+    @Setup
+    public void setUp() {
+        storedColumns = new String[MEMBER_COLUMNS.length];
+        for (int i = 0; i < MEMBER_COLUMNS.length; i++) {
+            storedColumns[i] = converter.convertToDatabaseColumn(EncryptedString.of(MEMBER_COLUMNS[i]));
+        }
+    }
+
+    @Benchmark
+    public String[] toDatabaseColumns() {
+        String[] result = new String[MEMBER_COLUMNS.length];
+        for (int i = 0; i < MEMBER_COLUMNS.length; i++) {
+            result[i] = converter.convertToDatabaseColumn(EncryptedString.of(MEMBER_COLUMNS[i]));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public EncryptedString[] toEntityAttributes() {
+        EncryptedString[] result = new EncryptedString[storedColumns.length];
+        for (int i = 0; i < storedColumns.length; i++) {
+            result[i] = converter.convertToEntityAttribute(storedColumns[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String[] toEntityAttributesAndRead() {
+        String[] result = new String[storedColumns.length];
+        for (int i = 0; i < storedColumns.length; i++) {
+            result[i] = EncryptedString.reveal(converter.convertToEntityAttribute(storedColumns[i]), "benchmark");
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String[] roundTrip() {
+        String[] result = new String[MEMBER_COLUMNS.length];
+        for (int i = 0; i < MEMBER_COLUMNS.length; i++) {
+            String column = converter.convertToDatabaseColumn(EncryptedString.of(MEMBER_COLUMNS[i]));
+            result[i] = EncryptedString.reveal(converter.convertToEntityAttribute(column), "benchmark");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,136 @@
+package com.zinidata.sample.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 요청당 로그 비용 벤치마크
+ *
+ * 음식 기록 저장 요청 하나가 남기는 로그(시작/완료)를 4개 스레드에서 동시에 기록할 때 요청 스레드가 쓰는 시간을 측정합니다.
+ * - SYNC_TEXT: 기존 방식 (요청 스레드에서 텍스트 포맷 후 바로 출력)
+ * - ASYNC_JSON: logback-spring.xml 방식 (AsyncAppender + JSON + 로거별 건수 제한, 초과분은 버려짐)
+ * - level=INFO는 기존 로그 레벨(모두 INFO), DEMOTED는 시작 로그를 DEBUG로 내린 현재 레벨입니다.
+ *
+ * 출력은 콘솔 대신 임시 파일에 씁니다. JSON은 Spring Environment가 필요 없는 logback JsonEncoder로 대신 측정합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    public enum Mode { SYNC_TEXT, ASYNC_JSON }
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"SYNC_TEXT", "ASYNC_JSON"})
+    private Mode mode;
+
+    @Param({"INFO", "DEMOTED"})
+    private String level;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path file;
+    private OutputStream out;
+    private boolean demoted;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("request-logging", ".log");
+        out = Files.newOutputStream(file);
+        demoted = "DEMOTED".equals(level);
+
+        context = new LoggerContext();
+        Appender<ILoggingEvent> appender = mode == Mode.SYNC_TEXT
+                ? fileAppender(patternEncoder())
+                : asyncAppender(fileAppender(jsonEncoder()));
+        if (mode == Mode.ASYNC_JSON) {
+            LoggerRateLimitFilter filter = new LoggerRateLimitFilter();
+            filter.setPrefix("com.zinidata.sample");
+            filter.setMaxPerSecond(200);
+            filter.setContext(context);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        logger = context.getLogger("com.zinidata.sample.domain.food.FoodRecordService");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        out.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void saveRequest() {
+        String userId = "user" + ThreadLocalRandom.current().nextInt(10_000);
+        long foodId = 42L;
+        if (demoted) {
+            logger.debug("음식 기록 저장 시작: userId={}, foodId={}, foodName={}", userId, foodId, "김치찌개");
+        } else {
+            logger.info("음식 기록 저장 시작: userId={}, foodId={}, foodName={}", userId, foodId, "김치찌개");
+        }
+        logger.info("음식 기록 저장 완료: userId={}, recordId={}", userId, foodId);
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        JsonEncoder encoder = new JsonEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    private Appender<ILoggingEvent> fileAppender(Encoder<ILoggingEvent> encoder) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(out);
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> asyncAppender(Appender<ILoggingEvent> delegate) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+}
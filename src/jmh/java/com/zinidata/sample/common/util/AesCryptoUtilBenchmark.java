@@ -0,0 +1,81 @@
+package com.zinidata.sample.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * AES 암복호화 벤치마크
+ *
+ * 회원 이름/생년월일/성별 등 짧은 값 기준으로 암호화와 복호화 1회 비용을 측정합니다.
+ * 호출마다 키와 Cipher를 새로 만들던 이전 구현을 기준값(perCall*)으로 함께 측정합니다.
+ * 스레드별 Cipher 재사용 효과를 보기 위해 4개 스레드에서 동시에 호출합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class AesCryptoUtilBenchmark {
+
+    @Param({"M", "19900101", "홍길동"})
+    private String plainText;
+
+    private AesCryptoEngine gcmEngine;
+    private String cipherText;
+    private String gcmCipherText;
+
+    @Setup
+    public void setUp() {
+        gcmEngine = new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, "0123456789abcdef0123456789abcdef"), 1);
+        cipherText = AesCryptoUtil.encrypt(plainText);
+        gcmCipherText = gcmEngine.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return AesCryptoUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return AesCryptoUtil.decrypt(cipherText);
+    }
+
+    @Benchmark
+    public String encryptGcm() {
+        return gcmEngine.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decryptGcm() {
+        return gcmEngine.decrypt(gcmCipherText);
+    }
+
+    @Benchmark
+    public String perCallEncrypt() throws Exception {
+        SecretKeySpec secretKey = new SecretKeySpec(
+                AesCryptoUtil.DEFAULT_SECRET_KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
+        return Base64.getEncoder().encodeToString(cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public String perCallDecrypt() throws Exception {
+        SecretKeySpec secretKey = new SecretKeySpec(
+                AesCryptoUtil.DEFAULT_SECRET_KEY.getBytes(StandardCharsets.UTF_8), "AES");
+        Cipher cipher = Cipher.getInstance("AES");
+        cipher.init(Cipher.DECRYPT_MODE, secretKey);
+        return new String(cipher.doFinal(Base64.getDecoder().decode(cipherText)), StandardCharsets.UTF_8);
+    }
+}
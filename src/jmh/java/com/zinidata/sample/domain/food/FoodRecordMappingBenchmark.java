@@ -0,0 +1,62 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.domain.food.dto.FoodRecordResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음식 기록 응답 DTO 변환 벤치마크
+ *
+ * 하루치 음식 기록을 영양 정보와 합쳐 응답 DTO 목록으로 만드는 비용을 측정합니다 (DB 조회 제외).
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+public class FoodRecordMappingBenchmark {
+
+    @Param({"5", "30"})
+    private int recordCount;
+
+    private List<FoodRecord> records;
+    private Map<Long, FoodNutrition> nutritionMap;
+
+    @Setup
+    public void setUp() {
+        records = new ArrayList<>(recordCount);
+        nutritionMap = new HashMap<>();
+        for (int i = 0; i < recordCount; i++) {
+            long foodId = i + 1;
+            records.add(FoodRecord.builder()
+                    .recordDt(LocalDate.of(2026, 1, 1))
+                    .userId("bench")
+                    .foodId(foodId)
+                    .foodList("음식" + foodId)
+                    .build());
+            nutritionMap.put(foodId, FoodNutrition.builder()
+                    .foodId(foodId)
+                    .foodName("음식" + foodId)
+                    .calories(BigDecimal.valueOf(350 + i))
+                    .protein(BigDecimal.valueOf(12.5))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<FoodRecordResponseDto> toResponseDtos() {
+        List<FoodRecordResponseDto> result = new ArrayList<>(records.size());
+        for (FoodRecord record : records) {
+            result.add(FoodRecordService.toResponseDto(record, nutritionMap.get(record.getFoodId())));
+        }
+        return result;
+    }
+}
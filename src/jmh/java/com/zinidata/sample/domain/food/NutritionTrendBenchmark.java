@@ -0,0 +1,160 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.domain.food.NutritionTimeSeries.Nutrient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 영양 추이 조회 벤치마크
+ *
+ * 최근 N일 추이를 날짜별 SQL 조회(N회)로 계산하는 방식과, 메모리 시계열에서 계산하는 방식을 비교합니다.
+ * SQL은 같은 JVM의 H2 인메모리 DB를 사용하므로 네트워크 왕복이 없어, 실제 PostgreSQL보다 SQL 쪽이 유리하게 측정됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+public class NutritionTrendBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String USER_ID = "bench";
+    private static final int HISTORY_DAYS = 120;
+    private static final int RECORDS_PER_DAY = 5;
+    private static final int OTHER_USERS = 200;
+
+    private static final String SELECT_DAY = """
+            SELECT n.CALORIES, n.CARBOHYDRATE, n.PROTEIN, n.FAT, n.SODIUM
+            FROM TB_FOOD_RECORD r LEFT JOIN TB_FOOD_NUTRITION n ON n.FOOD_ID = r.FOOD_ID
+            WHERE r.USER_ID = ? AND r.RECORD_DATE = ?
+            """;
+
+    @Param({"7", "30", "90"})
+    private int days;
+
+    private Connection connection;
+    private PreparedStatement selectDay;
+    private NutritionTimeSeries series;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:trend;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE TB_FOOD_NUTRITION (
+                        FOOD_ID BIGINT PRIMARY KEY, CALORIES NUMERIC(10, 2), CARBOHYDRATE NUMERIC(10, 2),
+                        PROTEIN NUMERIC(10, 2), FAT NUMERIC(10, 2), SODIUM NUMERIC(10, 2))
+                    """);
+            statement.execute("""
+                    CREATE TABLE TB_FOOD_RECORD (
+                        RECORD_ID BIGINT AUTO_INCREMENT PRIMARY KEY, RECORD_DATE VARCHAR(8) NOT NULL,
+                        USER_ID VARCHAR(20) NOT NULL, FOOD_ID BIGINT)
+                    """);
+            statement.execute("CREATE INDEX IDX_TB_FOOD_RECORD_USER_DATE ON TB_FOOD_RECORD (USER_ID, RECORD_DATE)");
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO TB_FOOD_NUTRITION VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= 100; i++) {
+                insert.setLong(1, i);
+                insert.setDouble(2, 100 + i);
+                insert.setDouble(3, 10 + i * 0.5);
+                insert.setDouble(4, 5 + i * 0.2);
+                insert.setDouble(5, 3 + i * 0.1);
+                insert.setDouble(6, 200 + i * 5);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        today = LocalDate.now();
+        series = new NutritionTimeSeries(today.minusDays(HISTORY_DAYS - 1L), HISTORY_DAYS);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO TB_FOOD_RECORD (RECORD_DATE, USER_ID, FOOD_ID) VALUES (?, ?, ?)")) {
+            for (int d = 0; d < HISTORY_DAYS; d++) {
+                LocalDate date = today.minusDays(d);
+                double[] totals = new double[5];
+                for (int r = 0; r < RECORDS_PER_DAY; r++) {
+                    long foodId = (d * 7L + r * 13L) % 100 + 1;
+                    insert.setString(1, date.format(DATE_FORMAT));
+                    insert.setString(2, USER_ID);
+                    insert.setLong(3, foodId);
+                    insert.addBatch();
+                    totals[0] += 100 + foodId;
+                    totals[1] += 10 + foodId * 0.5;
+                    totals[2] += 5 + foodId * 0.2;
+                    totals[3] += 3 + foodId * 0.1;
+                    totals[4] += 200 + foodId * 5;
+                }
+                series.set(date, totals[0], totals[1], totals[2], totals[3], totals[4], RECORDS_PER_DAY);
+                for (int u = 0; u < OTHER_USERS; u++) {
+                    insert.setString(1, date.format(DATE_FORMAT));
+                    insert.setString(2, "user" + u);
+                    insert.setLong(3, u % 100 + 1);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+
+        selectDay = connection.prepareStatement(SELECT_DAY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        selectDay.close();
+        connection.close();
+    }
+
+    /**
+     * 날짜마다 findByUserIdAndRecordDt 수준의 조회를 한 번씩 실행해 합산 (days회 SQL)
+     */
+    @Benchmark
+    public double[] perDaySqlQueries() throws SQLException {
+        double[] totals = new double[5];
+        for (int d = 0; d < days; d++) {
+            selectDay.setString(1, USER_ID);
+            selectDay.setString(2, today.minusDays(d).format(DATE_FORMAT));
+            try (ResultSet rs = selectDay.executeQuery()) {
+                while (rs.next()) {
+                    for (int c = 0; c < totals.length; c++) {
+                        totals[c] += rs.getDouble(c + 1);
+                    }
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 적재된 시계열에서 기간 합계와 일별 배열 계산 (추이 API와 같은 연산)
+     */
+    @Benchmark
+    public void warmTimeSeries(Blackhole blackhole) {
+        LocalDate from = today.minusDays(days - 1L);
+        double[] totals = new double[Nutrient.values().length];
+        for (Nutrient nutrient : Nutrient.values()) {
+            totals[nutrient.ordinal()] = series.sum(nutrient, from, today);
+            blackhole.consume(series.daily(nutrient, from, today));
+        }
+        blackhole.consume(series.recordedDays(from, today));
+        blackhole.consume(totals);
+    }
+}
@@ -0,0 +1,87 @@
+package com.zinidata.sample.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Gemini SSE 응답 파싱 벤치마크
+ *
+ * 녹화한 스트리밍 응답 (gemini-sse-sample.txt) 한 건 전체에서 텍스트를 추출하는 비용을 측정합니다.
+ * 이전 방식 (이벤트마다 String + JsonNode 트리) 을 기준값으로 함께 측정합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+public class GeminiResponseParsingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] stream;
+    private List<String> events;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/gemini-sse-sample.txt")) {
+            stream = in.readAllBytes();
+        }
+        events = new String(stream, StandardCharsets.UTF_8).lines().toList();
+    }
+
+    @Benchmark
+    public void extractTextFromResponse(Blackhole blackhole) {
+        for (String event : events) {
+            blackhole.consume(GeminiService.extractTextFromResponse(event));
+        }
+    }
+
+    @Benchmark
+    public void decodeDataBuffer(Blackhole blackhole) {
+        GeminiSseTextDecoder decoder = new GeminiSseTextDecoder();
+        blackhole.consume(decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(stream)));
+        blackhole.consume(decoder.flush());
+    }
+
+    @Benchmark
+    public void jsonTreeBaseline(Blackhole blackhole) throws IOException {
+        for (String event : events) {
+            blackhole.consume(extractWithJsonTree(event));
+        }
+    }
+
+    /**
+     * 이전 GeminiService 구현 (기준값)
+     */
+    private String extractWithJsonTree(String response) throws IOException {
+        String jsonData = response;
+        if (response.startsWith("data: ")) {
+            jsonData = response.substring(6).trim();
+        }
+        if (jsonData.isEmpty() || jsonData.equals("[DONE]")) {
+            return "";
+        }
+
+        JsonNode root = objectMapper.readTree(jsonData);
+        JsonNode candidates = root.path("candidates");
+        if (candidates.isArray() && candidates.size() > 0) {
+            JsonNode parts = candidates.get(0).path("content").path("parts");
+            if (parts.isArray() && parts.size() > 0) {
+                JsonNode textNode = parts.get(0).path("text");
+                if (!textNode.isMissingNode()) {
+                    return textNode.asText();
+                }
+            }
+        }
+        return "";
+    }
+}
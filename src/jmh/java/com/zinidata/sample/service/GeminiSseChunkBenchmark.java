@@ -0,0 +1,56 @@
+package com.zinidata.sample.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Gemini SSE 청크 한 건 처리 비용 벤치마크
+ *
+ * 녹화한 응답 (gemini-sse-sample.txt)의 두 번째 이벤트 (약 400B, 한글 텍스트 포함)를 네트워크 청크 하나로 보고,
+ * 청크마다 할당량을 비교합니다. ./gradlew jmh -PjmhIncludes=GeminiSseChunkBenchmark 의 gc.alloc.rate.norm을 봅니다.
+ * - stringAndJsonTree: 이전 방식 (청크를 String으로 디코딩 후 JsonNode 트리로 파싱)
+ * - dataBufferDecoder: {@link GeminiSseTextDecoder} (바이트에서 text 값만 스트리밍 파서로 추출)
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+public class GeminiSseChunkBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] chunk;
+    private GeminiSseTextDecoder decoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/gemini-sse-sample.txt")) {
+            List<String> lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            chunk = (lines.get(1) + "\n\n").getBytes(StandardCharsets.UTF_8);
+        }
+        // 청크가 줄바꿈으로 끝나므로 한 디코더를 계속 써도 남는 바이트가 없음 (스트림 하나를 계속 받는 상황)
+        decoder = new GeminiSseTextDecoder();
+    }
+
+    @Benchmark
+    public String stringAndJsonTree() throws IOException {
+        String event = new String(chunk, StandardCharsets.UTF_8).trim();
+        String json = event.startsWith("data: ") ? event.substring(6).trim() : event;
+        JsonNode root = objectMapper.readTree(json);
+        return root.path("candidates").get(0).path("content").path("parts").get(0).path("text").asText();
+    }
+
+    @Benchmark
+    public List<String> dataBufferDecoder() {
+        return decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+    }
+}
@@ -0,0 +1,23 @@
+package com.zinidata.sample.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 회원 나이 계산 벤치마크
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@State(Scope.Benchmark)
+public class MemberServiceBenchmark {
+
+    @Param({"19900101", "invalid!"})
+    private String birthDate;
+
+    @Benchmark
+    public Integer calculateAge() {
+        return MemberService.calculateAge(birthDate);
+    }
+}
@@ -0,0 +1,138 @@
+package com.zinidata.sample.common.converter;
+
+import com.zinidata.sample.common.util.AesCryptoEngine;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 암호화 컬럼 값
+ *
+ * DB에서 읽은 값은 암호문 그대로 들고 있다가, 평문이 처음 필요할 때 한 번만 복호화하여 보관합니다.
+ * 로그인이나 아이디 중복 확인처럼 암호화 컬럼을 읽지 않는 경로에서는 복호화가 일어나지 않습니다.
+ * 변경하지 않은 값은 저장할 때도 읽어온 암호문을 그대로 사용합니다.
+ *
+ * 값은 불변이며, 변경할 때는 {@link #of(String)}로 새 값을 만들어 교체합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public final class EncryptedString {
+
+    /** 필드별 실제 복호화 횟수 */
+    private static final Map<String, LongAdder> DECRYPT_COUNTS = new ConcurrentHashMap<>();
+
+    /** DB에서 읽어 생성된 값의 수 (복호화 여부와 무관) */
+    private static final LongAdder LOADED_COUNT = new LongAdder();
+
+    private final AesCryptoEngine engine;
+    private volatile String cipherText;
+    private volatile String plainText;
+
+    private EncryptedString(String plainText, String cipherText, AesCryptoEngine engine) {
+        this.plainText = plainText;
+        this.cipherText = cipherText;
+        this.engine = engine;
+    }
+
+    /**
+     * 평문으로 생성 (저장 시 암호화)
+     */
+    public static EncryptedString of(String plainText) {
+        return plainText != null ? new EncryptedString(plainText, null, null) : null;
+    }
+
+    /**
+     * DB에서 읽은 암호문으로 생성 (처음 읽을 때 복호화)
+     */
+    static EncryptedString ofCipherText(String cipherText, AesCryptoEngine engine) {
+        if (cipherText == null) {
+            return null;
+        }
+        LOADED_COUNT.increment();
+        return new EncryptedString(null, cipherText, engine);
+    }
+
+    /**
+     * 평문 조회
+     *
+     * @param value 암호화 컬럼 값 (null 가능)
+     * @param field 통계용 필드명 (예: member.name)
+     * @return 평문 (값이 없으면 null)
+     */
+    public static String reveal(EncryptedString value, String field) {
+        return value != null ? value.getPlainText(field) : null;
+    }
+
+    /**
+     * 필드별 복호화 횟수 조회
+     *
+     * @return 필드명별 복호화 횟수 (loaded: DB에서 읽은 값의 수)
+     */
+    public static Map<String, Long> getDecryptCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        DECRYPT_COUNTS.forEach((field, count) -> counts.put(field, count.sum()));
+        counts.put("loaded", LOADED_COUNT.sum());
+        return counts;
+    }
+
+    String getPlainText(String field) {
+        String value = plainText;
+        if (value == null) {
+            synchronized (this) {
+                value = plainText;
+                if (value == null) {
+                    value = engine.decrypt(cipherText);
+                    plainText = value;
+                    DECRYPT_COUNTS.computeIfAbsent(field, key -> new LongAdder()).increment();
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 저장할 암호문 (평문으로 생성한 값은 처음 저장할 때 한 번만 암호화)
+     */
+    String getCipherText(AesCryptoEngine defaultEngine) {
+        String value = cipherText;
+        if (value == null) {
+            synchronized (this) {
+                value = cipherText;
+                if (value == null) {
+                    value = defaultEngine.encrypt(plainText);
+                    cipherText = value;
+                }
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EncryptedString other)) {
+            return false;
+        }
+        // 같은 암호문이면 복호화 없이 같은 값으로 판단 (GCM은 같은 평문도 암호문이 다르므로 평문 비교로 보완)
+        if (cipherText != null && cipherText.equals(other.cipherText)) {
+            return true;
+        }
+        return Objects.equals(getPlainText("equals"), other.getPlainText("equals"));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getPlainText("hashCode"));
+    }
+
+    @Override
+    public String toString() {
+        // 로그에 개인정보가 남지 않도록 평문을 노출하지 않음
+        return "EncryptedString[****]";
+    }
+}
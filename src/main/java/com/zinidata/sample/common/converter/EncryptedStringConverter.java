@@ -1,19 +1,37 @@
 package com.zinidata.sample.common.converter;
 
+import com.zinidata.sample.common.util.AesCryptoEngine;
 import com.zinidata.sample.common.util.AesCryptoUtil;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+import org.springframework.beans.factory.annotation.Autowired;
 
+// EncryptedString은 불변이므로 스냅샷/변경 감지 시 복사(암복호화)하지 않도록 Immutable로 지정
 @Converter
-public class EncryptedStringConverter implements AttributeConverter<String, String> {
+@Immutable
+public class EncryptedStringConverter implements AttributeConverter<EncryptedString, String> {
+
+    private final AesCryptoEngine engine;
+
+    public EncryptedStringConverter() {
+        this(AesCryptoUtil.getEngine());
+    }
+
+    // Hibernate가 Spring 빈 컨테이너로 생성할 때는 CryptoConfig의 엔진을 주입받음
+    @Autowired
+    public EncryptedStringConverter(AesCryptoEngine engine) {
+        this.engine = engine;
+    }
 
     @Override
-    public String convertToDatabaseColumn(String attribute) {
-        return AesCryptoUtil.encrypt(attribute);
+    public String convertToDatabaseColumn(EncryptedString attribute) {
+        return attribute != null ? attribute.getCipherText(engine) : null;
     }
 
+    // 복호화는 값을 처음 읽을 때 수행
     @Override
-    public String convertToEntityAttribute(String dbData) {
-        return AesCryptoUtil.decrypt(dbData);
+    public EncryptedString convertToEntityAttribute(String dbData) {
+        return EncryptedString.ofCipherText(dbData, engine);
     }
 }
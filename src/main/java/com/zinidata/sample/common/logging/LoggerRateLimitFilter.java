@@ -0,0 +1,115 @@
+package com.zinidata.sample.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 초당 로그 건수 제한 (logback TurboFilter)
+ *
+ * prefix로 시작하는 로거마다 1초 동안 maxPerSecond건까지만 기록하고 나머지는 버립니다.
+ * 버린 건수는 다음 초의 첫 로그가 기록될 때 WARN으로 한 번 남깁니다.
+ * maxLevel보다 높은 레벨(기본 WARN 이상)은 제한하지 않으며, 레벨 설정상 어차피 기록되지 않는 로그는 세지 않습니다.
+ *
+ * logback-spring.xml에서 로거 그룹마다 하나씩 등록합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public class LoggerRateLimitFilter extends TurboFilter {
+
+    private final Clock clock;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    private String prefix = "";
+    private int maxPerSecond = 100;
+    private Level maxLevel = Level.INFO;
+
+    public LoggerRateLimitFilter() {
+        this(Clock.systemUTC());
+    }
+
+    LoggerRateLimitFilter(Clock clock) {
+        this.clock = clock;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // TurboFilter는 레벨 검사보다 먼저 호출되므로 기록되지 않을 로그는 바로 넘김
+        if (!isStarted() || level == null || level.levelInt > maxLevel.levelInt
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !logger.getName().startsWith(prefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        long second = clock.millis() / 1000;
+        if (!window.tryAcquire(second, maxPerSecond)) {
+            return FilterReply.DENY;
+        }
+        long suppressed = window.drainSuppressed(second);
+        if (suppressed > 0) {
+            // 이 WARN은 maxLevel보다 높으므로 다시 제한되지 않음
+            logger.warn("로그 건수 제한으로 {}건을 기록하지 않았습니다 (최대 {}건/초)", suppressed, maxPerSecond);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * 로거 하나의 1초 구간 건수
+     */
+    static final class Window {
+
+        /** 상위 32비트: 구간(epoch 초), 하위 32비트: 구간 내 건수 */
+        private final AtomicLong state = new AtomicLong();
+        private final AtomicLong suppressed = new AtomicLong();
+        private volatile long reportedSecond;
+
+        boolean tryAcquire(long second, int limit) {
+            while (true) {
+                long current = state.get();
+                long next;
+                if (current >>> 32 == second) {
+                    if ((int) current >= limit) {
+                        suppressed.incrementAndGet();
+                        return false;
+                    }
+                    next = current + 1;
+                } else {
+                    next = second << 32 | 1;
+                }
+                if (state.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 이전 구간들에서 버린 건수 (구간이 바뀐 뒤 한 번만 반환)
+         */
+        long drainSuppressed(long second) {
+            if (reportedSecond == second || suppressed.get() == 0) {
+                return 0;
+            }
+            reportedSecond = second;
+            return suppressed.getAndSet(0);
+        }
+    }
+}
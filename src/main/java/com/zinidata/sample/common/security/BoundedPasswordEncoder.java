@@ -0,0 +1,148 @@
+package com.zinidata.sample.common.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해싱 동시 실행 수를 제한하는 BCrypt PasswordEncoder
+ *
+ * 해싱은 고정 크기 전용 스레드 풀에서 수행하고, 대기열이 가득 차거나 제한 시간을 넘기면
+ * {@link AuthenticationServiceException}으로 즉시 실패시킵니다 (로그인 화면에 오류로 표시됨).
+ *
+ * 저장된 해시의 cost가 설정값과 다르면 {@link #upgradeEncoding(String)}이 true를 반환하여,
+ * 로그인 성공 시 새 cost로 다시 해싱되도록 합니다.
+ *
+ * 빈으로 등록되면 전용 스레드 풀 상태를 executor.* 메트릭(name=password.hashing)으로 노출합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos;
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.timeoutNanos = timeout.toNanos();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Integer cost = costOf(encodedPassword);
+        return cost != null && cost != strength;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(registry);
+    }
+
+    /**
+     * 전용 스레드 풀 종료
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 현재 대기 중인 해싱 요청 수
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * 현재 해싱 중인 요청 수
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해싱 대기열 초과: queued={}", executor.getQueue().size());
+            throw new AuthenticationServiceException(BUSY_MESSAGE, e);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            // 대기열에 남은 취소 작업이 자리를 차지하지 않도록 제거
+            executor.remove((Runnable) future);
+            log.warn("비밀번호 해싱 시간 초과: queued={}", executor.getQueue().size());
+            throw new AuthenticationServiceException(BUSY_MESSAGE, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+
+    /**
+     * BCrypt 해시 ($2a$10$...) 에서 cost 추출
+     *
+     * @return cost (BCrypt 형식이 아니면 null)
+     */
+    static Integer costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+                || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return null;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return null;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+}
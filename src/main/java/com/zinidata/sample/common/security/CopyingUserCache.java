@@ -0,0 +1,44 @@
+package com.zinidata.sample.common.security;
+
+import org.springframework.cache.Cache;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 사용자 정보 캐시
+ *
+ * 로그인 성공 후 Spring Security가 인증 객체의 비밀번호를 지우면(eraseCredentials) 캐시에 들어 있는
+ * 같은 UserDetails 객체의 비밀번호도 지워지므로, 저장할 때와 꺼낼 때 모두 복사본을 사용합니다.
+ * 크기와 TTL은 CacheConfig의 userDetails 캐시 설정을 따릅니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public class CopyingUserCache implements UserCache {
+
+    private final Cache cache;
+
+    public CopyingUserCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        UserDetails user = cache.get(username, UserDetails.class);
+        return user != null ? copyOf(user) : null;
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(user.getUsername(), copyOf(user));
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.evict(username);
+    }
+
+    private static UserDetails copyOf(UserDetails user) {
+        return User.withUserDetails(user).build();
+    }
+}
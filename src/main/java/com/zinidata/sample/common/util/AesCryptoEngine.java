@@ -0,0 +1,268 @@
+package com.zinidata.sample.common.util;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AES 암복호화 엔진
+ *
+ * 키 객체(SecretKeySpec)는 생성 시 한 번만 만들고, Cipher는 풀에서 빌려 쓰고 반납하여 재사용합니다.
+ * (요청마다 새 스레드가 생기는 가상 스레드에서는 ThreadLocal 재사용이 되지 않으므로 풀을 사용)
+ *
+ * 암호화 방식:
+ * - ECB: 기존 방식. 결과는 Base64(암호문)
+ * - GCM: 키 버전을 붙여 저장. 결과는 "v{버전}:" + Base64(IV + 암호문 + 인증 태그)
+ *
+ * 복호화는 저장된 값의 형식으로 방식을 판단하므로, GCM으로 전환한 뒤에도 기존 ECB 데이터를 그대로 읽을 수 있습니다.
+ * 키를 교체할 때는 새 버전의 키를 추가하고 활성 버전만 바꾸면, 이전 버전으로 저장된 값도 계속 복호화됩니다.
+ *
+ * 빈으로 등록되면 crypto.aes 타이머(operation=encrypt|decrypt)와 Cipher 풀 유휴 수 게이지를 등록합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public class AesCryptoEngine implements MeterBinder {
+
+    /**
+     * 암호화 방식
+     */
+    public enum Mode {
+        ECB,
+        GCM
+    }
+
+    private static final String ALGORITHM = "AES";
+    private static final String ECB_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int GCM_IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final char VERSION_PREFIX = 'v';
+    private static final char VERSION_SEPARATOR = ':';
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Mode mode;
+    private final SecretKeySpec legacyKey;
+    private final Map<Integer, SecretKeySpec> keys;
+    private final int activeVersion;
+    private final String activePrefix;
+
+    private final CipherPool ecbCiphers = new CipherPool(ECB_TRANSFORMATION);
+    private final CipherPool gcmCiphers = new CipherPool(GCM_TRANSFORMATION);
+
+    /** 메트릭 (바인딩 전에는 null) */
+    private volatile Timer encryptTimer;
+    private volatile Timer decryptTimer;
+
+    /**
+     * @param mode          암호화 방식
+     * @param legacyKey     ECB 키 (기존 데이터 복호화용)
+     * @param keys          버전별 GCM 키 (GCM 방식일 때 필수, 빈 값은 설정하지 않은 것으로 봄)
+     * @param activeVersion 암호화에 사용할 GCM 키 버전
+     * @throws IllegalStateException GCM 방식인데 활성 키가 없거나, GCM 키가 ECB 키와 같은 경우
+     */
+    public AesCryptoEngine(Mode mode, String legacyKey, Map<Integer, String> keys, int activeVersion) {
+        this.mode = mode;
+        this.legacyKey = toKey(legacyKey);
+        this.keys = new HashMap<>();
+        keys.forEach((version, key) -> {
+            if (key == null || key.isBlank()) {
+                return;
+            }
+            if (key.equals(legacyKey)) {
+                throw new IllegalStateException("GCM 키는 기존 ECB 키와 달라야 합니다: v" + version);
+            }
+            this.keys.put(version, toKey(key));
+        });
+        this.activeVersion = activeVersion;
+        this.activePrefix = VERSION_PREFIX + String.valueOf(activeVersion) + VERSION_SEPARATOR;
+
+        if (mode == Mode.GCM && !this.keys.containsKey(activeVersion)) {
+            throw new IllegalStateException("활성 키 버전의 AES 키가 없습니다: v" + activeVersion);
+        }
+    }
+
+    /**
+     * 기존 방식(ECB)만 사용하는 엔진
+     */
+    public static AesCryptoEngine legacy(String key) {
+        return new AesCryptoEngine(Mode.ECB, key, Map.of(), 0);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encryptTimer = Timer.builder("crypto.aes")
+                .tag("operation", "encrypt")
+                .tag("mode", mode.name())
+                .register(registry);
+        decryptTimer = Timer.builder("crypto.aes")
+                .tag("operation", "decrypt")
+                .tag("mode", mode.name())
+                .register(registry);
+        Gauge.builder("crypto.aes.cipher.idle", ecbCiphers.idleCount, AtomicInteger::get)
+                .tag("transformation", ECB_TRANSFORMATION)
+                .register(registry);
+        Gauge.builder("crypto.aes.cipher.idle", gcmCiphers.idleCount, AtomicInteger::get)
+                .tag("transformation", GCM_TRANSFORMATION)
+                .register(registry);
+    }
+
+    public String encrypt(String value) {
+        if (value == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            byte[] plain = value.getBytes(StandardCharsets.UTF_8);
+            return mode == Mode.GCM ? encryptGcm(plain) : encryptEcb(plain);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Encryption failed", e);
+        } finally {
+            record(encryptTimer, start);
+        }
+    }
+
+    public String decrypt(String value) {
+        if (value == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            int separator = value.indexOf(VERSION_SEPARATOR);
+            // Base64에는 ':'가 없으므로 구분자가 없으면 기존 ECB 값
+            byte[] plain = separator < 0 ? decryptEcb(value) : decryptGcm(value, separator);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new RuntimeException("Decryption failed", e);
+        } finally {
+            record(decryptTimer, start);
+        }
+    }
+
+    private static void record(Timer timer, long start) {
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String encryptEcb(byte[] plain) throws GeneralSecurityException {
+        Cipher cipher = ecbCiphers.borrow();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, legacyKey);
+            return Base64.getEncoder().encodeToString(cipher.doFinal(plain));
+        } finally {
+            ecbCiphers.release(cipher);
+        }
+    }
+
+    private byte[] decryptEcb(String value) throws GeneralSecurityException {
+        byte[] encrypted = Base64.getDecoder().decode(value);
+        Cipher cipher = ecbCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+            return cipher.doFinal(encrypted);
+        } finally {
+            ecbCiphers.release(cipher);
+        }
+    }
+
+    private String encryptGcm(byte[] plain) throws GeneralSecurityException {
+        byte[] iv = new byte[GCM_IV_LENGTH];
+        RANDOM.nextBytes(iv);
+
+        byte[] payload;
+        Cipher cipher = gcmCiphers.borrow();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(activeVersion), new GCMParameterSpec(GCM_TAG_BITS, iv));
+            payload = new byte[GCM_IV_LENGTH + cipher.getOutputSize(plain.length)];
+            cipher.doFinal(plain, 0, plain.length, payload, GCM_IV_LENGTH);
+        } finally {
+            gcmCiphers.release(cipher);
+        }
+        System.arraycopy(iv, 0, payload, 0, GCM_IV_LENGTH);
+
+        return activePrefix + Base64.getEncoder().encodeToString(payload);
+    }
+
+    private byte[] decryptGcm(String value, int separator) throws GeneralSecurityException {
+        if (value.charAt(0) != VERSION_PREFIX) {
+            throw new IllegalArgumentException("알 수 없는 암호문 형식입니다.");
+        }
+        int version = Integer.parseInt(value, 1, separator, 10);
+        SecretKeySpec key = keys.get(version);
+        if (key == null) {
+            throw new IllegalArgumentException("등록되지 않은 AES 키 버전입니다: v" + version);
+        }
+
+        byte[] payload = Base64.getDecoder().decode(value.substring(separator + 1));
+        if (payload.length <= GCM_IV_LENGTH) {
+            throw new IllegalArgumentException("암호문 길이가 올바르지 않습니다.");
+        }
+        Cipher cipher = gcmCiphers.borrow();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_BITS, payload, 0, GCM_IV_LENGTH));
+            return cipher.doFinal(payload, GCM_IV_LENGTH, payload.length - GCM_IV_LENGTH);
+        } finally {
+            gcmCiphers.release(cipher);
+        }
+    }
+
+    private static SecretKeySpec toKey(String key) {
+        return new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Cipher 풀 (최대 보관 수를 넘는 Cipher는 반납하지 않고 버림)
+     */
+    private static final class CipherPool {
+
+        private static final int MAX_IDLE = 64;
+
+        private final String transformation;
+        private final ConcurrentLinkedQueue<Cipher> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger idleCount = new AtomicInteger();
+
+        CipherPool(String transformation) {
+            this.transformation = transformation;
+        }
+
+        Cipher borrow() {
+            Cipher cipher = idle.poll();
+            if (cipher != null) {
+                idleCount.decrementAndGet();
+                return cipher;
+            }
+            try {
+                return Cipher.getInstance(transformation);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cipher 생성 실패: " + transformation, e);
+            }
+        }
+
+        void release(Cipher cipher) {
+            if (idleCount.incrementAndGet() <= MAX_IDLE) {
+                idle.offer(cipher);
+            } else {
+                idleCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1,43 +1,26 @@
 package com.zinidata.sample.common.util;
 
-import javax.crypto.Cipher;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-
 public class AesCryptoUtil {
 
     // 32-byte key for AES-256
-    private static final String SECRET_KEY = "zinidata_sample_project_secret_k";
-    private static final String ALGORITHM = "AES";
+    public static final String DEFAULT_SECRET_KEY = "zinidata_sample_project_secret_k";
+
+    // 키 객체와 Cipher를 재사용하는 엔진 (CryptoConfig 설정 전까지는 기존 ECB 방식)
+    private static volatile AesCryptoEngine engine = AesCryptoEngine.legacy(DEFAULT_SECRET_KEY);
+
+    public static AesCryptoEngine getEngine() {
+        return engine;
+    }
+
+    public static void setEngine(AesCryptoEngine engine) {
+        AesCryptoUtil.engine = engine;
+    }
 
     public static String encrypt(String value) {
-        if (value == null) {
-            return null;
-        }
-        try {
-            SecretKeySpec secretKey = new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            byte[] encrypted = cipher.doFinal(value.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encrypted);
-        } catch (Exception e) {
-            throw new RuntimeException("Encryption failed", e);
-        }
+        return engine.encrypt(value);
     }
 
     public static String decrypt(String value) {
-        if (value == null) {
-            return null;
-        }
-        try {
-            SecretKeySpec secretKey = new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), ALGORITHM);
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decrypted = cipher.doFinal(Base64.getDecoder().decode(value));
-            return new String(decrypted, StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            throw new RuntimeException("Decryption failed", e);
-        }
+        return engine.decrypt(value);
     }
 }
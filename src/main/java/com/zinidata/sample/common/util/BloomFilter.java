@@ -0,0 +1,121 @@
+package com.zinidata.sample.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 Bloom 필터
+ *
+ * mightContain이 false이면 해당 값은 확실히 추가된 적이 없고, true이면 추가되었을 수도 있습니다.
+ * 예상 원소 수 n, 목표 오탐률 p로 비트 수 m = -n·ln(p) / (ln 2)², 해시 수 k = (m / n)·ln 2 를 정합니다.
+ * 원소 수가 n을 넘으면 실제 오탐률은 p보다 커지며, {@link #expectedFalsePositiveRate()}로 현재 추정치를 확인할 수 있습니다.
+ *
+ * 삭제는 지원하지 않습니다. 동시에 추가/조회해도 안전합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  목표 오탐률 (0 &lt; p &lt; 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (m + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long h1 = hash64(value);
+        long h2 = secondHash(h1);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(indexOf(h1, h2, i));
+        }
+        insertions.increment();
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash64(value);
+        long h2 = secondHash(h1);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 원소 수 기준 오탐률 추정치 (1 - e^(-k·n/m))^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.sum() / bitSize), hashCount);
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 추가 횟수 (중복 추가 포함)
+     */
+    public long getInsertions() {
+        return insertions.sum();
+    }
+
+    // Kirsch-Mitzenmacher 이중 해싱: g_i(x) = h1(x) + i·h2(x)
+    private long indexOf(long h1, long h2, int i) {
+        return ((h1 + i * h2) & Long.MAX_VALUE) % bitSize;
+    }
+
+    private static long secondHash(long h1) {
+        long h2 = h1 * 0x9e3779b97f4a7c15L;
+        return (h2 ^ (h2 >>> 29)) | 1;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+
+    /**
+     * UTF-8 바이트의 64비트 FNV-1a 해시 + 비트 혼합 (murmur3 fmix64)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53ac863L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,123 @@
+package com.zinidata.sample.common.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 파서 (RFC 4180)
+ *
+ * 한 행씩 읽으므로 파일 크기와 관계없이 현재 행만 메모리에 둡니다.
+ * 큰따옴표로 감싼 값 안의 쉼표/줄바꿈과 "" 이스케이프, 파일 앞의 BOM을 처리합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public final class CsvReader implements AutoCloseable {
+
+    private static final int BOM = 0xFEFF;
+
+    private final Reader reader;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private boolean started;
+    private long lineNumber;
+
+    /**
+     * @param reader 입력 (버퍼링은 내부에서 처리)
+     */
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 필드 목록 (입력 끝이면 null)
+     * @throws IOException 읽기 실패 또는 닫히지 않은 큰따옴표
+     */
+    public List<String> readRow() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == BOM) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 큰따옴표가 있습니다 (" + lineNumber + "행)");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        unread();
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 행 번호 (1부터, 값 안의 줄바꿈은 세지 않음)
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    private void unread() {
+        if (position > 0) {
+            position--;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
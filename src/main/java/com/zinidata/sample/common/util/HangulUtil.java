@@ -0,0 +1,132 @@
+package com.zinidata.sample.common.util;
+
+/**
+ * 한글 문자열 처리 유틸리티
+ *
+ * 검색용 정규화와 초성(자음) 분해를 제공합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public final class HangulUtil {
+
+    /** 한글 완성형 음절 시작 (가) */
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+
+    /** 한글 완성형 음절 끝 (힣) */
+    private static final char SYLLABLE_END = 0xD7A3;
+
+    /** 초성 하나당 음절 수 (중성 21 x 종성 28) */
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    /** 초성 목록 (호환용 자모) */
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulUtil() {
+    }
+
+    /**
+     * 검색용 정규화 (공백 제거, 소문자 변환)
+     *
+     * @param value 원본 문자열
+     * @return 정규화된 문자열 (null이면 빈 문자열)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 완성형 음절 여부
+     */
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /**
+     * 초성으로 쓰일 수 있는 자음(호환용 자모) 여부
+     */
+    public static boolean isChosung(char c) {
+        for (char ch : CHOSUNG) {
+            if (ch == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 문자의 초성 반환 (음절이 아니면 원래 문자)
+     */
+    public static char chosungOf(char c) {
+        if (!isSyllable(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+    }
+
+    /**
+     * 문자열을 초성 문자열로 변환 (음절 외 문자는 그대로 유지)
+     *
+     * 예) "김치찌개" → "ㄱㅊㅉㄱ"
+     */
+    public static String toChosung(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = chosungOf(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 정규화된 대상 문자열이 정규화된 검색어를 포함하는지 확인
+     *
+     * 검색어의 자음(초성)은 같은 자음 또는 해당 초성으로 시작하는 음절과 일치합니다.
+     * 예) "김치ㅉ"는 "김치찌개"와 일치
+     *
+     * @param target 정규화된 대상 문자열
+     * @param query  정규화된 검색어
+     * @return 포함 여부
+     */
+    public static boolean containsWithChosung(String target, String query) {
+        for (int i = 0; i <= target.length() - query.length(); i++) {
+            if (matchesAt(target, query, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 정규화된 대상 문자열이 정규화된 검색어로 시작하는지 확인 (초성 일치 규칙은 {@link #containsWithChosung}과 동일)
+     *
+     * @param target 정규화된 대상 문자열
+     * @param query  정규화된 검색어
+     * @return 접두어 일치 여부
+     */
+    public static boolean startsWithChosung(String target, String query) {
+        return query.length() <= target.length() && matchesAt(target, query, 0);
+    }
+
+    private static boolean matchesAt(String target, String query, int offset) {
+        for (int j = 0; j < query.length(); j++) {
+            char q = query.charAt(j);
+            char t = target.charAt(offset + j);
+            if (q != t && !(isChosung(q) && chosungOf(t) == q)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
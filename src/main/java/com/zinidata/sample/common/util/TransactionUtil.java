@@ -0,0 +1,37 @@
+package com.zinidata.sample.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ *
+ * 엔티티 리스너에서 캐시/색인 반영을 커밋 이후로 미룰 때 사용합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후에 실행 (트랜잭션 밖이면 즉시 실행)
+     *
+     * 롤백되면 실행하지 않습니다.
+     *
+     * @param action 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.zinidata.sample.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정
+ *
+ * @Async 작업은 Spring Boot가 등록하는 applicationTaskExecutor에서 실행됩니다.
+ * vthreads 프로필(spring.threads.virtual.enabled=true)에서는 가상 스레드로 실행되며,
+ * 동시 실행 수는 spring.task.execution.simple.concurrency-limit으로 제한합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,71 @@
+package com.zinidata.sample.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시 설정
+ *
+ * application.yaml의 cache 설정값을 바인딩하여 캐시별 Caffeine 캐시를 등록합니다.
+ * spring.cache.type을 caffeine 이외의 값으로 바꾸면 Spring Boot 기본 CacheManager가 대신 사용됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@EnableCaching
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CacheConfig {
+
+    /** 식품 ID → 식품 영양 정보 */
+    public static final String FOOD_NUTRITION = "foodNutrition";
+
+    /** 회원 ID → 로그인 사용자 정보 (UserDetails) */
+    public static final String USER_DETAILS = "userDetails";
+
+    /** 회원 ID:날짜(YYYYMMDD) → AI 식단 분석용 컨텍스트 */
+    public static final String DIET_CONTEXT = "dietContext";
+
+    /** 회원 ID → 최근 일일 영양 합계 시계열 (영양 추이 조회용) */
+    public static final String NUTRITION_SERIES = "nutritionSeries";
+
+    /**
+     * 별도 설정이 없는 캐시에 적용할 Caffeine spec
+     */
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=10m";
+
+    /**
+     * 캐시명별 Caffeine spec (크기, TTL)
+     */
+    private Map<String, String> specs = new LinkedHashMap<>();
+
+    /**
+     * Caffeine CacheManager 빈 생성
+     *
+     * 모든 캐시는 적중/미스/제거 통계를 기록합니다.
+     *
+     * @return CacheManager
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "caffeine", matchIfMissing = true)
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.from(defaultSpec).recordStats());
+        specs.forEach((name, spec) -> cacheManager.registerCustomCache(name,
+                Caffeine.from(spec).recordStats().build()));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,97 @@
+package com.zinidata.sample.config;
+
+import com.zinidata.sample.controller.stream.ChatStreamHandler;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 채팅 스트리밍 서버 설정
+ *
+ * application.yaml의 chat.server 설정값을 바인딩합니다.
+ * AI 채팅 SSE는 Tomcat(MVC)과 분리된 전용 Reactor Netty 서버(별도 포트, 별도 이벤트 루프)에서 처리하여,
+ * 오래 열려 있는 스트림이 JPA 기반 API의 요청 처리 자원을 차지하지 않도록 합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "chat.server")
+@Getter
+@Setter
+public class ChatServerConfig {
+
+    /**
+     * 전용 서버 사용 여부 (false이면 기존 MVC 엔드포인트 /api/gemini/chat/stream 사용)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 바인딩 주소
+     */
+    private String host = "0.0.0.0";
+
+    /**
+     * 포트 (0이면 임의 포트)
+     */
+    private int port = 8081;
+
+    /**
+     * 브라우저가 접속할 주소 (비어 있으면 요청 호스트 + port로 생성, 프록시 뒤에서는 지정)
+     */
+    private String publicUrl;
+
+    /**
+     * 이벤트 루프 스레드 수
+     */
+    private int eventLoopThreads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 동시 스트림 최대 수 (초과 시 503)
+     */
+    private int maxStreams = 2000;
+
+    /**
+     * 응답 청크 간 최대 대기 시간 (초과 시 스트림 종료)
+     */
+    private Duration idleTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 하트비트 주석 전송 주기 (프록시/브라우저의 유휴 연결 종료 방지)
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 허용할 Origin (CORS, "*"이면 모두 허용)
+     */
+    private List<String> allowedOrigins = new ArrayList<>(List.of("http://localhost:8080"));
+
+    /**
+     * 채팅 토큰 서명 키 (비어 있으면 기동 시 임의 생성, 여러 노드로 운영할 때는 지정 필요)
+     */
+    private String tokenSecret;
+
+    /**
+     * 채팅 토큰 유효 시간
+     */
+    private Duration tokenTtl = Duration.ofMinutes(2);
+
+    /**
+     * 전용 스트리밍 서버 빈 생성
+     *
+     * @param chatStreamHandler 채팅 스트림 핸들러
+     * @return ChatStreamServer
+     */
+    @Bean
+    @ConditionalOnProperty(name = "chat.server.enabled", havingValue = "true", matchIfMissing = true)
+    public ChatStreamServer chatStreamServer(ChatStreamHandler chatStreamHandler) {
+        return new ChatStreamServer(this, chatStreamHandler);
+    }
+}
@@ -0,0 +1,81 @@
+package com.zinidata.sample.config;
+
+import com.zinidata.sample.controller.stream.ChatStreamHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * AI 채팅 전용 Reactor Netty 서버
+ *
+ * Tomcat과 별도의 포트와 이벤트 루프에서 동작하므로, 수천 개의 SSE 연결이 열려 있어도
+ * 서블릿 스레드/비동기 요청 자원과 JPA 기반 API의 처리에는 영향을 주지 않습니다.
+ * 응답 쓰기는 Netty 채널의 쓰기 가능 여부에 따라 요청되므로 느린 클라이언트에 대해 배압이 적용됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Slf4j
+public class ChatStreamServer implements SmartLifecycle {
+
+    private final ChatServerConfig config;
+    private final ChatStreamHandler handler;
+
+    private volatile LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    public ChatStreamServer(ChatServerConfig config, ChatStreamHandler handler) {
+        this.config = config;
+        this.handler = handler;
+    }
+
+    @Override
+    public void start() {
+        loopResources = LoopResources.create("chat-stream", config.getEventLoopThreads(), true);
+        ReactorHttpHandlerAdapter adapter = new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(handler.routes()));
+
+        server = HttpServer.create()
+                .host(config.getHost())
+                .port(config.getPort())
+                .runOn(loopResources)
+                // 요청을 보내지 않는 keep-alive 연결 정리 (스트림 중 유휴는 핸들러의 idleTimeout이 담당)
+                .idleTimeout(config.getIdleTimeout())
+                .handle(adapter)
+                .bindNow();
+        log.info("AI 채팅 스트리밍 서버 시작: port={}, eventLoopThreads={}, maxStreams={}",
+                server.port(), config.getEventLoopThreads(), config.getMaxStreams());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+        LoopResources loops = loopResources;
+        if (loops != null) {
+            loops.disposeLater().block(Duration.ofSeconds(10));
+            loopResources = null;
+        }
+        log.info("AI 채팅 스트리밍 서버 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 실제 바인딩된 포트 (port=0 설정 시 확인용)
+     */
+    public int getPort() {
+        DisposableServer current = server;
+        return current != null ? current.port() : config.getPort();
+    }
+}
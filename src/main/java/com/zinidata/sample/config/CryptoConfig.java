@@ -0,0 +1,62 @@
+package com.zinidata.sample.config;
+
+import com.zinidata.sample.common.util.AesCryptoEngine;
+import com.zinidata.sample.common.util.AesCryptoUtil;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 개인정보 컬럼 암호화 설정
+ *
+ * application.yaml의 crypto.aes 설정값을 바인딩하여 AES 암복호화 엔진을 생성합니다.
+ * 기본값은 기존과 같은 ECB 방식이며, mode를 GCM으로 바꾸면 새로 저장되는 값부터 GCM으로 암호화됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "crypto.aes")
+@Getter
+@Setter
+public class CryptoConfig {
+
+    /**
+     * 암호화 방식 (ECB | GCM)
+     */
+    private AesCryptoEngine.Mode mode = AesCryptoEngine.Mode.ECB;
+
+    /**
+     * 기존 ECB 키 (32바이트)
+     */
+    private String legacyKey = AesCryptoUtil.DEFAULT_SECRET_KEY;
+
+    /**
+     * 버전별 GCM 키 (32바이트)
+     */
+    private Map<Integer, String> keys = new LinkedHashMap<>();
+
+    /**
+     * 암호화에 사용할 GCM 키 버전
+     */
+    private int activeKeyVersion = 1;
+
+    /**
+     * AES 암복호화 엔진 빈 생성
+     *
+     * 정적 유틸(AesCryptoUtil)도 같은 엔진을 사용하도록 등록합니다.
+     *
+     * @return AesCryptoEngine
+     */
+    @Bean
+    public AesCryptoEngine aesCryptoEngine() {
+        AesCryptoEngine engine = new AesCryptoEngine(mode, legacyKey, keys, activeKeyVersion);
+        AesCryptoUtil.setEngine(engine);
+        return engine;
+    }
+}
@@ -0,0 +1,36 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 식품 영양 정보 일괄 적재 설정
+ *
+ * application.yaml의 food.import 설정값을 바인딩합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "food.import")
+@Getter
+@Setter
+public class FoodImportConfig {
+
+    /**
+     * 한 번에 적재(한 트랜잭션)할 행 수
+     */
+    private int chunkSize = 5000;
+
+    /**
+     * PostgreSQL에서 COPY 사용 여부 (false이면 JDBC 배치 MERGE/UPSERT)
+     */
+    private boolean copyEnabled = true;
+
+    /**
+     * 건너뛴 행을 로그로 남길 최대 건수
+     */
+    private int maxLoggedErrors = 20;
+}
@@ -0,0 +1,62 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 음식 기록 월별 파티션 관리 설정
+ *
+ * application.yaml의 food.record.partition 설정값을 바인딩합니다.
+ * 파티션 관리는 PostgreSQL에서만 동작하며, 다른 DB(H2)에서는 설정과 관계없이 건너뜁니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "food.record.partition")
+@Getter
+@Setter
+public class FoodRecordPartitionConfig {
+
+    /**
+     * 파티션 관리 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 관리 작업 실행 주기 (cron)
+     */
+    private String cron = "0 0 4 * * *";
+
+    /**
+     * 미리 만들어 둘 파티션 개월 수 (이번 달 이후)
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * 보관 개월 수 (이번 달 포함, 0이면 분리하지 않음)
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * 보관 기간이 지난 파티션 처리 방식
+     */
+    private ExpiredAction expiredAction = ExpiredAction.DETACH;
+
+    /**
+     * 분리한 파티션을 옮길 스키마 (DETACH일 때, 비어 있으면 그대로 둠)
+     */
+    private String archiveSchema = "archive";
+
+    /**
+     * 보관 기간이 지난 파티션 처리 방식
+     */
+    public enum ExpiredAction {
+        /** 분리하여 별도 테이블로 보관 */
+        DETACH,
+        /** 분리 후 삭제 */
+        DROP
+    }
+}
@@ -0,0 +1,70 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Gemini 응답 캐시 설정
+ *
+ * application.yaml의 gemini.cache 설정값을 바인딩합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "gemini.cache")
+@Getter
+@Setter
+public class GeminiCacheConfig {
+
+    /**
+     * 캐시 키 방식
+     */
+    public enum Mode {
+        /** 정규화된 프롬프트가 같을 때만 적중 */
+        EXACT,
+        /** 정규화된 프롬프트의 글자 shingle 유사도가 기준 이상이면 적중 */
+        SHINGLE
+    }
+
+    /**
+     * 캐시 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 키 방식
+     */
+    private Mode mode = Mode.EXACT;
+
+    /**
+     * 항목 유효 시간
+     */
+    private Duration ttl = Duration.ofHours(6);
+
+    /**
+     * 캐시 전체 최대 크기 (응답 텍스트 bytes, 초과 시 오래 사용되지 않은 항목부터 제거)
+     */
+    private long maxBytes = 32L * 1024 * 1024;
+
+    /**
+     * SHINGLE 모드 shingle 길이 (글자 수)
+     */
+    private int shingleSize = 2;
+
+    /**
+     * SHINGLE 모드 적중 기준 Jaccard 유사도 (0.0 ~ 1.0)
+     */
+    private double similarityThreshold = 0.85;
+
+    /**
+     * SHINGLE 모드를 적용할 정규화 프롬프트 최대 길이
+     *
+     * 식단 분석처럼 긴 프롬프트는 한두 항목만 달라도 유사도가 높게 나오므로 정확 일치만 사용합니다.
+     */
+    private int similarityMaxLength = 100;
+}
@@ -1,11 +1,18 @@
 package com.zinidata.sample.config;
 
+import io.netty.channel.ChannelOption;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Gemini API 설정
@@ -42,12 +49,98 @@ public class GeminiConfig {
     private String thinkingLevel;
 
     /**
-     * WebClient.Builder 빈 생성
+     * 최대 커넥션 수
+     */
+    private int maxConnections = 500;
+
+    /**
+     * 커넥션 획득 대기열 최대 크기
+     */
+    private int pendingAcquireMaxCount = 1000;
+
+    /**
+     * 커넥션 획득 대기 시간
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 유휴 커넥션 유지 시간 (초과 시 제거)
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(60);
+
+    /**
+     * 커넥션 최대 수명
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(10);
+
+    /**
+     * 유휴/만료 커넥션 백그라운드 정리 주기
+     */
+    private Duration evictInBackground = Duration.ofSeconds(30);
+
+    /**
+     * HTTP/2 사용 여부 (https에서 ALPN 협상, 미지원 시 HTTP/1.1)
+     */
+    private boolean http2 = true;
+
+    /**
+     * 연결 타임아웃
+     */
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 첫 응답 청크까지의 타임아웃
+     */
+    private Duration responseTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 응답 수신 중 청크 간 최대 대기 시간
+     */
+    private Duration readTimeout = Duration.ofSeconds(60);
+
+    /**
+     * 응답 버퍼 최대 크기 (bytes)
+     */
+    private int maxInMemorySize = 10 * 1024 * 1024;
+
+    /**
+     * Gemini 전용 커넥션 풀 빈 생성
+     * 
+     * @return ConnectionProvider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider() {
+        return ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .build();
+    }
+
+    /**
+     * Gemini 전용 WebClient 빈 생성
+     * 
+     * 요청마다 새로 만들지 않고 커넥션 풀을 공유하여 TLS 핸드셰이크를 재사용합니다.
      * 
-     * @return WebClient.Builder
+     * @param geminiConnectionProvider Gemini 전용 커넥션 풀
+     * @return WebClient
      */
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient geminiWebClient(ConnectionProvider geminiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(geminiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+
+        if (http2 && baseUrl != null && baseUrl.startsWith("https")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
+                .build();
     }
 }
@@ -0,0 +1,64 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Gemini API 호출량 제한 설정
+ *
+ * application.yaml의 gemini.rate-limit 설정값을 바인딩합니다.
+ * API 할당량에 맞춰 호출 전에 대기시켜 429 응답이 나지 않도록 합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "gemini.rate-limit")
+@Getter
+@Setter
+public class GeminiRateLimitConfig {
+
+    /**
+     * 호출량 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 분당 최대 요청 수
+     */
+    private int requestsPerMinute = 60;
+
+    /**
+     * 분당 최대 토큰 수 (입력 추정치 + 출력 예약분)
+     */
+    private int tokensPerMinute = 250_000;
+
+    /**
+     * 요청당 출력 토큰 예약분
+     */
+    private int reservedOutputTokens = 1_000;
+
+    /**
+     * 전체 대기열 최대 크기 (초과 시 즉시 거절)
+     */
+    private int maxQueueSize = 200;
+
+    /**
+     * 사용자별 대기열 최대 크기 (초과 시 즉시 거절)
+     */
+    private int maxQueuePerUser = 3;
+
+    /**
+     * 최대 대기 시간 (초과 시 거절)
+     */
+    private Duration maxWait = Duration.ofSeconds(20);
+
+    /**
+     * 대기열 처리 주기
+     */
+    private Duration drainInterval = Duration.ofMillis(50);
+}
@@ -0,0 +1,37 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회원 아이디 필터 설정
+ *
+ * application.yaml의 member.id-filter 설정값을 바인딩합니다.
+ * 비트 수는 예상 회원 수와 목표 오탐률로 정해집니다 (100만 명, 1% 기준 약 1.2MB).
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "member.id-filter")
+@Getter
+@Setter
+public class MemberIdFilterConfig {
+
+    /**
+     * 필터 사용 여부 (false이면 항상 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 예상 회원 수 (초과하면 실제 오탐률이 목표보다 커짐)
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * 목표 오탐률 (없는 아이디를 "있을 수 있음"으로 판단하여 DB를 조회하는 비율)
+     */
+    private double falsePositiveRate = 0.01;
+}
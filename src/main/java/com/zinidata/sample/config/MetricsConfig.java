@@ -0,0 +1,30 @@
+package com.zinidata.sample.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 메트릭 설정
+ *
+ * 메트릭은 /actuator/prometheus(관리 포트)로 노출되며, 지연 시간 메트릭의 히스토그램 설정은
+ * application.yaml의 management.metrics.distribution에서 관리합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * {@link io.micrometer.core.annotation.Timed}가 붙은 메서드의 소요 시간 기록
+     *
+     * @param registry 메트릭 레지스트리
+     * @return TimedAspect
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,41 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 일일 영양 합계 설정
+ *
+ * application.yaml의 nutrition.summary 설정값을 바인딩합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "nutrition.summary")
+@Getter
+@Setter
+public class NutritionSummaryConfig {
+
+    /**
+     * 주기적 재집계 사용 여부
+     */
+    private boolean rebuildEnabled = true;
+
+    /**
+     * 재집계 실행 주기 (cron)
+     */
+    private String rebuildCron = "0 30 3 * * *";
+
+    /**
+     * 재집계 대상 기간 (어제부터 거슬러 올라간 일수, 기록이 계속 바뀌는 오늘은 제외)
+     */
+    private int rebuildDays = 7;
+
+    /**
+     * 기간 조회 최대 일수
+     */
+    private int maxQueryDays = 366;
+}
@@ -0,0 +1,27 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 영양 추이 조회 설정
+ *
+ * application.yaml의 nutrition.trend 설정값을 바인딩합니다.
+ * 사용자별 시계열 캐시의 크기와 유지 시간은 CacheConfig의 nutritionSeries 캐시 설정을 따릅니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "nutrition.trend")
+@Getter
+@Setter
+public class NutritionTrendConfig {
+
+    /**
+     * 사용자별 시계열에 적재할 일수 (오늘 포함, 조회 가능한 최대 기간)
+     */
+    private int windowDays = 120;
+}
@@ -0,0 +1,44 @@
+package com.zinidata.sample.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱 설정
+ *
+ * application.yaml의 security.password 설정값을 바인딩합니다.
+ * BCrypt 연산은 전용 스레드 풀에서만 수행하여, 로그인이 몰려도 요청 스레드 전체가 해싱에 묶이지 않도록 합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@ConfigurationProperties(prefix = "security.password")
+@Getter
+@Setter
+public class PasswordHashingConfig {
+
+    /**
+     * BCrypt cost (4~31). 바꾸면 기존 사용자는 다음 로그인 시 새 cost로 다시 해싱됩니다.
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 해싱 전용 스레드 수 (기본: CPU 코어 수)
+     */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 해싱 대기열 최대 크기 (초과 시 즉시 실패)
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 해싱 최대 대기 시간 (대기열 대기 포함)
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+}
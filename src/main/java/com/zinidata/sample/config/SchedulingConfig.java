@@ -0,0 +1,17 @@
+package com.zinidata.sample.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 설정
+ *
+ * @Scheduled 작업은 Spring Boot가 등록하는 taskScheduler에서 실행됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
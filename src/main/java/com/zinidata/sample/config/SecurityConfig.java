@@ -1,18 +1,49 @@
 package com.zinidata.sample.config;
 
+import com.zinidata.sample.common.security.BoundedPasswordEncoder;
+import com.zinidata.sample.common.security.CopyingUserCache;
+import com.zinidata.sample.service.CustomUserDetailsService;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserCache;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+        /**
+         * BCrypt cost와 해싱 동시 실행 수는 security.password 설정을 따름
+         */
+        @Bean(destroyMethod = "shutdown")
+        public BoundedPasswordEncoder passwordEncoder(PasswordHashingConfig config) {
+                return new BoundedPasswordEncoder(config.getBcryptStrength(), config.getThreads(),
+                                config.getQueueCapacity(), config.getTimeout());
+        }
+
+        /**
+         * 로그인 사용자 정보 캐시 (회원 정보 변경 시 MemberChangeListener가 제거)
+         */
+        @Bean
+        public UserCache userCache(CacheManager cacheManager) {
+                return new CopyingUserCache(cacheManager.getCache(CacheConfig.USER_DETAILS));
+        }
+
+        /**
+         * 폼 로그인 인증: 사용자 정보 캐시 사용, cost가 바뀐 비밀번호는 로그인 성공 시 다시 해싱
+         */
         @Bean
-        public org.springframework.security.crypto.password.PasswordEncoder passwordEncoder() {
-                return new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
+        public DaoAuthenticationProvider authenticationProvider(CustomUserDetailsService userDetailsService,
+                        BoundedPasswordEncoder passwordEncoder, UserCache userCache) {
+                DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+                provider.setPasswordEncoder(passwordEncoder);
+                provider.setUserCache(userCache);
+                provider.setUserDetailsPasswordService(userDetailsService);
+                return provider;
         }
 
         @Bean
@@ -22,6 +53,10 @@ public class SecurityConfig {
                                                 .requestMatchers("/login", "/signup", "/css/**", "/images/**", "/js/**",
                                                                 "/api/auth/check-id")
                                                 .permitAll()
+                                                // 관리 포트로만 노출 (management.server.port)
+                                                .requestMatchers("/actuator/health", "/actuator/prometheus")
+                                                .permitAll()
+                                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                                                 .anyRequest().authenticated())
                                 .formLogin((form) -> form
                                                 .loginPage("/login")
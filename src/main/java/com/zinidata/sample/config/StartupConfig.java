@@ -0,0 +1,62 @@
+package com.zinidata.sample.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * 기동 시간 설정
+ *
+ * 첫 요청 전에 필요 없는 빈(API 문서 등)은 처음 사용할 때 생성하도록 지연 초기화합니다.
+ * 대상 패키지는 application.yaml의 startup.lazy-packages로 지정합니다.
+ * AOT 처리 시에도 적용되어 생성된 빈 정의에 지연 초기화가 포함됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * 지정 패키지의 빈(또는 해당 패키지 설정 클래스의 @Bean)을 지연 초기화로 변경
+     *
+     * @param environment 설정값 조회용 (빈 후처리기는 설정 바인딩 전에 생성되므로 직접 조회)
+     * @return BeanFactoryPostProcessor
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeanFactoryPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String className = declaringClassName(definition);
+                if (className != null && packages.stream().anyMatch(className::startsWith)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
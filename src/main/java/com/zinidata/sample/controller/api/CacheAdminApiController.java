@@ -0,0 +1,95 @@
+package com.zinidata.sample.controller.api;
+
+import com.zinidata.sample.common.dto.ApiResponse;
+import com.zinidata.sample.dto.CacheStatsDto;
+import com.zinidata.sample.dto.GeminiCacheStatsDto;
+import com.zinidata.sample.service.FoodNutritionCacheService;
+import com.zinidata.sample.service.GeminiResponseCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 캐시 관리 API Controller (관리자 전용)
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "캐시 관리", description = "캐시 통계 조회, 무효화, 예열 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Slf4j
+public class CacheAdminApiController {
+
+    private final FoodNutritionCacheService foodNutritionCacheService;
+    private final GeminiResponseCache geminiResponseCache;
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 캐시별 적중/미스/제거 통계
+     */
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 항목 수, 적중/미스/제거 횟수를 조회합니다.")
+    @GetMapping("/stats")
+    public ApiResponse<List<CacheStatsDto>> getStats() {
+        return ApiResponse.success(foodNutritionCacheService.getStats());
+    }
+
+    /**
+     * 캐시 무효화
+     *
+     * @param cacheName 캐시명 (생략 시 전체)
+     * @return 비운 캐시명 목록
+     */
+    @Operation(summary = "캐시 무효화", description = "지정한 캐시(생략 시 전체)를 비웁니다.")
+    @DeleteMapping
+    public ApiResponse<List<String>> evict(
+            @Parameter(description = "캐시명 (foodNutrition, userDetails, dietContext, nutritionSeries)") @RequestParam(required = false) String cacheName) {
+        log.info("캐시 무효화 요청: cacheName={}", cacheName);
+        return ApiResponse.success(foodNutritionCacheService.evict(cacheName));
+    }
+
+    /**
+     * 식품 영양 정보 캐시 예열
+     *
+     * @return 적재한 항목 수
+     */
+    @Operation(summary = "캐시 예열", description = "식품 영양 정보 전체를 캐시에 적재합니다.")
+    @PostMapping("/warm")
+    public ApiResponse<Integer> warmUp() {
+        log.info("캐시 예열 요청");
+        return ApiResponse.success(foodNutritionCacheService.warmUp());
+    }
+
+    /**
+     * Gemini 응답 캐시 통계 조회
+     *
+     * @param limit 항목별 통계 최대 개수
+     * @return 캐시 통계
+     */
+    @Operation(summary = "AI 응답 캐시 통계 조회", description = "Gemini 응답 캐시의 적중/미스/제거 횟수와 항목별 적중 횟수를 조회합니다.")
+    @GetMapping("/gemini")
+    public ApiResponse<GeminiCacheStatsDto> getGeminiStats(
+            @Parameter(description = "항목별 통계 최대 개수") @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(geminiResponseCache.getStats(limit));
+    }
+
+    /**
+     * Gemini 응답 캐시 비우기
+     *
+     * @return 응답
+     */
+    @Operation(summary = "AI 응답 캐시 무효화", description = "Gemini 응답 캐시를 비웁니다.")
+    @DeleteMapping("/gemini")
+    public ApiResponse<Void> evictGemini() {
+        log.info("AI 응답 캐시 무효화 요청");
+        geminiResponseCache.clear();
+        return ApiResponse.success(null);
+    }
+}
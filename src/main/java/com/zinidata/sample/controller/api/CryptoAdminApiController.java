@@ -0,0 +1,34 @@
+package com.zinidata.sample.controller.api;
+
+import com.zinidata.sample.common.converter.EncryptedString;
+import com.zinidata.sample.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 개인정보 암호화 관리 API Controller (관리자 전용)
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "암호화 관리", description = "암호화 컬럼 복호화 통계 조회 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/crypto")
+public class CryptoAdminApiController {
+
+    /**
+     * 필드별 복호화 횟수 조회
+     *
+     * @return 필드명별 복호화 횟수 (loaded: DB에서 읽은 암호화 값의 수)
+     */
+    @Operation(summary = "복호화 통계 조회", description = "DB에서 읽은 암호화 값의 수와 필드별 실제 복호화 횟수를 조회합니다.")
+    @GetMapping("/decrypt-stats")
+    public ApiResponse<Map<String, Long>> getDecryptStats() {
+        return ApiResponse.success(EncryptedString.getDecryptCounts());
+    }
+}
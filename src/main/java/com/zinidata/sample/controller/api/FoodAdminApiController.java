@@ -0,0 +1,106 @@
+package com.zinidata.sample.controller.api;
+
+import com.zinidata.sample.common.dto.ApiResponse;
+import com.zinidata.sample.domain.food.DailyNutritionSummaryService;
+import com.zinidata.sample.dto.FoodImportStatusDto;
+import com.zinidata.sample.service.FoodNutritionImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * 음식 기록 관리 API Controller (관리자 전용)
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "음식 기록 관리 (관리자)", description = "일일 영양 합계 재집계, 식품 영양 정보 일괄 적재 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/food")
+@RequiredArgsConstructor
+@Slf4j
+public class FoodAdminApiController {
+
+    private final DailyNutritionSummaryService dailyNutritionSummaryService;
+    private final FoodNutritionImportService foodNutritionImportService;
+
+    /**
+     * 일일 영양 합계 재집계
+     *
+     * @param from 시작 날짜 (YYYYMMDD)
+     * @param to   종료 날짜 (YYYYMMDD)
+     * @return 생성한 합계 행 수
+     */
+    @Operation(summary = "일일 영양 합계 재집계", description = "기간 내 일일 영양 합계를 음식 기록에서 다시 계산합니다.")
+    @PostMapping("/summary/rebuild")
+    public ApiResponse<Integer> rebuildSummary(
+            @Parameter(description = "시작 날짜 (YYYYMMDD)") @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate from,
+            @Parameter(description = "종료 날짜 (YYYYMMDD)") @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate to) {
+        log.info("일일 영양 합계 재집계 요청: from={}, to={}", from, to);
+        return ApiResponse.success(dailyNutritionSummaryService.rebuild(from, to));
+    }
+
+    /**
+     * 식품 영양 정보 파일 적재 시작
+     *
+     * 업로드한 파일을 임시 파일로 저장한 뒤 비동기로 적재합니다. 진행 상태는 상태 조회 API로 확인합니다.
+     *
+     * @param file    공공 식품영양성분 DB 파일 (.csv, .xlsx)
+     * @param charset CSV 문자셋 (기본 UTF-8, 공공데이터 CSV는 MS949인 경우가 많음)
+     * @return 적재 상태
+     */
+    @Operation(summary = "식품 영양 정보 일괄 적재", description = "CSV/XLSX 파일의 식품 영양 정보를 식품코드 기준으로 추가/갱신합니다.")
+    @PostMapping(value = "/nutrition/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<FoodImportStatusDto> importNutrition(
+            @Parameter(description = "CSV 또는 XLSX 파일") @RequestParam MultipartFile file,
+            @Parameter(description = "CSV 문자셋") @RequestParam(defaultValue = "UTF-8") String charset) throws IOException {
+        String fileName = file.getOriginalFilename() != null ? file.getOriginalFilename() : "upload.csv";
+        log.info("식품 영양 정보 적재 요청: file={}, size={}, charset={}", fileName, file.getSize(), charset);
+
+        Charset csvCharset;
+        try {
+            csvCharset = Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error("지원하지 않는 문자셋입니다: " + charset);
+        }
+        Path tempFile = Files.createTempFile("food-import-", fileName.substring(Math.max(0, fileName.lastIndexOf('.'))));
+        file.transferTo(tempFile);
+        if (!foodNutritionImportService.begin(fileName)) {
+            Files.deleteIfExists(tempFile);
+            return ApiResponse.error("이미 진행 중인 적재 작업이 있습니다.");
+        }
+        try {
+            foodNutritionImportService.importFileAsync(tempFile, fileName, csvCharset);
+        } catch (TaskRejectedException e) {
+            log.warn("식품 영양 정보 적재 작업 등록 실패: file={}", fileName, e);
+            foodNutritionImportService.abort("적재 작업을 시작하지 못했습니다.");
+            Files.deleteIfExists(tempFile);
+            return ApiResponse.error("적재 작업을 시작하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return ApiResponse.success(foodNutritionImportService.getStatus());
+    }
+
+    /**
+     * 식품 영양 정보 적재 상태 조회
+     *
+     * @return 진행 중이거나 마지막으로 실행한 적재 상태 (실행한 적이 없으면 null)
+     */
+    @Operation(summary = "식품 영양 정보 적재 상태", description = "적재한 행 수, 초당 행 수, 실패 메시지를 조회합니다.")
+    @GetMapping("/nutrition/import/status")
+    public ApiResponse<FoodImportStatusDto> getImportStatus() {
+        return ApiResponse.success(foodNutritionImportService.getStatus());
+    }
+}
@@ -1,7 +1,7 @@
 package com.zinidata.sample.controller.api;
 
 import com.zinidata.sample.common.dto.ApiResponse;
-import com.zinidata.sample.domain.food.FoodNutrition;
+import com.zinidata.sample.domain.food.dto.FoodSearchPageDto;
 import com.zinidata.sample.service.FoodNutritionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,8 +9,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * 식품 검색 API 컨트롤러
  * 
@@ -25,18 +23,24 @@ public class FoodApiController {
     private final FoodNutritionService foodNutritionService;
 
     /**
-     * 식품명으로 검색
+     * 식품명으로 검색 (관련도순, 커서 페이지)
      * 
      * @param keyword 검색 키워드
-     * @return 검색 결과 목록
+     * @param cursor  이전 응답의 nextCursor
+     * @param limit   조회 건수
+     * @return 검색 결과 페이지
      */
-    @Operation(summary = "식품 검색", description = "식품명으로 부분 일치 검색을 수행합니다")
+    @Operation(summary = "식품 검색",
+            description = "식품명으로 부분 일치 검색을 수행합니다. 접두어 일치, 짧은 이름 순으로 정렬하며 nextCursor로 다음 페이지를 조회합니다")
     @GetMapping("/search")
-    public ApiResponse<List<FoodNutrition>> searchFood(
-            @Parameter(description = "검색 키워드") @RequestParam String keyword) {
+    public ApiResponse<FoodSearchPageDto> searchFood(
+            @Parameter(description = "검색 키워드") @RequestParam String keyword,
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회 건수 (기본 20, 최대 50)") @RequestParam(required = false) Integer limit) {
         try {
-            List<FoodNutrition> results = foodNutritionService.searchByFoodName(keyword);
-            return ApiResponse.success(results);
+            return ApiResponse.success(foodNutritionService.search(keyword, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(400, e.getMessage());
         } catch (Exception e) {
             return ApiResponse.error(500, "검색 중 오류가 발생했습니다: " + e.getMessage());
         }
@@ -0,0 +1,37 @@
+package com.zinidata.sample.controller.api;
+
+import com.zinidata.sample.common.dto.ApiResponse;
+import com.zinidata.sample.dto.GeminiRateLimitStatsDto;
+import com.zinidata.sample.service.GeminiRateLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Gemini 호출 관리 API Controller (관리자 전용)
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "AI 호출 관리", description = "Gemini 호출량 제한 상태 조회 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/gemini")
+@RequiredArgsConstructor
+public class GeminiAdminApiController {
+
+    private final GeminiRateLimiter geminiRateLimiter;
+
+    /**
+     * 호출량 제한 통계 조회
+     *
+     * @return 대기열, 허가/거절/합류 횟수, 대기 시간
+     */
+    @Operation(summary = "호출량 제한 통계 조회", description = "대기 중인 요청 수, 허가/거절/합류 횟수와 대기 시간을 조회합니다.")
+    @GetMapping("/rate-limit")
+    public ApiResponse<GeminiRateLimitStatsDto> getRateLimitStats() {
+        return ApiResponse.success(geminiRateLimiter.getStats());
+    }
+}
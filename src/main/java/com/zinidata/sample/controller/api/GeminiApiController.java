@@ -1,6 +1,12 @@
 package com.zinidata.sample.controller.api;
 
+import com.zinidata.sample.common.dto.ApiResponse;
+import com.zinidata.sample.config.ChatServerConfig;
+import com.zinidata.sample.dto.ChatTokenDto;
+import com.zinidata.sample.service.ChatTokenService;
+import com.zinidata.sample.service.DietContextService;
 import com.zinidata.sample.service.GeminiService;
+import jakarta.servlet.http.HttpServletRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -10,6 +16,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 
+import java.security.Principal;
+
 /**
  * Gemini API Controller
  * 
@@ -26,22 +34,75 @@ import reactor.core.publisher.Flux;
 public class GeminiApiController {
 
     private final GeminiService geminiService;
+    private final ChatTokenService chatTokenService;
+    private final DietContextService dietContextService;
+    private final ChatServerConfig chatServerConfig;
 
     /**
      * Gemini AI 채팅 (스트리밍)
      * 
      * Server-Sent Events(SSE)를 사용하여 실시간 스트리밍 응답을 제공합니다.
+     * 전용 스트리밍 서버(chat.server.enabled=false)를 쓰지 않을 때 사용합니다.
      * 
-     * @param prompt 사용자 질문
+     * @param prompt    사용자 질문
+     * @param principal 로그인 사용자
      * @return 스트리밍 텍스트 응답
      */
     @Operation(summary = "AI 채팅 (스트리밍)", description = "Gemini AI와 대화하며 실시간으로 응답을 스트리밍합니다.")
     @GetMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public Flux<String> chatStream(
-            @Parameter(description = "사용자 질문") @RequestParam String prompt) {
+            @Parameter(description = "사용자 질문") @RequestParam String prompt,
+            Principal principal) {
+
+        log.debug("AI 채팅 스트리밍 요청: prompt={}", prompt);
+
+        return geminiService.generateContentStream(prompt, principal.getName());
+    }
+
+    /**
+     * 오늘 식단 AI 분석 (스트리밍)
+     * 
+     * 오늘 음식 기록과 영양 합계, 나이/성별을 서버에서 구성하여 한 번의 호출로 분석합니다.
+     * 전용 스트리밍 서버(chat.server.enabled=false)를 쓰지 않을 때 사용합니다.
+     * 
+     * @param principal 로그인 사용자
+     * @return 스트리밍 텍스트 응답
+     */
+    @Operation(summary = "오늘 식단 AI 분석 (스트리밍)", description = "오늘 먹은 음식과 사용자 정보를 바탕으로 식단 분석을 스트리밍합니다.")
+    @GetMapping(value = "/analyze/today", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<String> analyzeToday(Principal principal) {
+        String userId = principal.getName();
+        log.debug("오늘 식단 AI 분석 요청: userId={}", userId);
+
+        return dietContextService.getTodayAnalysisPrompt(userId)
+                .map(prompt -> geminiService.generateContentStream(prompt, userId))
+                .orElseGet(() -> Flux.just(DietContextService.NO_RECORDS_MESSAGE));
+    }
 
-        log.info("AI 채팅 스트리밍 요청: prompt={}", prompt);
+    /**
+     * AI 채팅 스트림 접속 토큰 발급
+     * 
+     * 전용 스트리밍 서버는 로그인 세션을 공유하지 않으므로, 발급받은 토큰과 함께 streamUrl로 접속합니다.
+     * 
+     * @param principal 로그인 사용자
+     * @param request   HTTP 요청 (스트림 주소 생성용)
+     * @return 토큰 및 스트림 주소
+     */
+    @Operation(summary = "AI 채팅 접속 토큰 발급", description = "전용 스트리밍 서버 접속용 토큰과 주소를 발급합니다.")
+    @PostMapping("/chat-token")
+    public ApiResponse<ChatTokenDto> issueChatToken(Principal principal, HttpServletRequest request) {
+        if (!chatServerConfig.isEnabled()) {
+            return ApiResponse.success(new ChatTokenDto(null, null, null, 0));
+        }
 
-        return geminiService.generateContentStream(prompt);
+        String streamUrl = chatServerConfig.getPublicUrl();
+        if (streamUrl == null || streamUrl.isBlank()) {
+            streamUrl = request.getScheme() + "://" + request.getServerName() + ":" + chatServerConfig.getPort();
+        }
+        return ApiResponse.success(new ChatTokenDto(
+                chatTokenService.issue(principal.getName()),
+                streamUrl + "/chat/stream",
+                streamUrl + "/chat/analyze/today",
+                chatServerConfig.getTokenTtl().toSeconds()));
     }
 }
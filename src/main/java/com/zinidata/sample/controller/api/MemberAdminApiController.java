@@ -0,0 +1,50 @@
+package com.zinidata.sample.controller.api;
+
+import com.zinidata.sample.common.dto.ApiResponse;
+import com.zinidata.sample.domain.member.MemberIdFilter;
+import com.zinidata.sample.dto.MemberIdFilterStatsDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 회원 관리 API Controller (관리자 전용)
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Tag(name = "회원 관리", description = "회원 아이디 필터 조회/재생성 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/member")
+@RequiredArgsConstructor
+public class MemberAdminApiController {
+
+    private final MemberIdFilter memberIdFilter;
+
+    /**
+     * 아이디 필터 통계 조회
+     *
+     * @return 필터 크기, 오탐률, DB 조회 생략/대체 횟수
+     */
+    @Operation(summary = "아이디 필터 통계 조회", description = "아이디 중복 확인용 Bloom 필터의 크기와 오탐률, DB 조회 생략 횟수를 조회합니다.")
+    @GetMapping("/id-filter")
+    public ApiResponse<MemberIdFilterStatsDto> getIdFilterStats() {
+        return ApiResponse.success(memberIdFilter.getStats());
+    }
+
+    /**
+     * 아이디 필터 재생성 (전체 노드)
+     *
+     * @return 재생성 후 통계
+     */
+    @Operation(summary = "아이디 필터 재생성", description = "전체 회원 아이디로 필터를 다시 만들고 다른 노드에도 재생성을 요청합니다.")
+    @PostMapping("/id-filter/rebuild")
+    public ApiResponse<MemberIdFilterStatsDto> rebuildIdFilter() {
+        memberIdFilter.rebuildAll();
+        return ApiResponse.success("아이디 필터를 재생성했습니다.", memberIdFilter.getStats());
+    }
+}
@@ -0,0 +1,175 @@
+package com.zinidata.sample.controller.stream;
+
+import com.zinidata.sample.config.ChatServerConfig;
+import com.zinidata.sample.service.ChatTokenService;
+import com.zinidata.sample.service.DietContextService;
+import com.zinidata.sample.service.GeminiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 채팅 스트림 핸들러 (전용 Reactor Netty 서버용)
+ *
+ * 응답 청크를 SSE 이벤트로 전달하고, 응답이 없는 동안에는 하트비트 주석을 보내며,
+ * 청크 간격이 idleTimeout을 넘으면 error 이벤트를 보내고 스트림을 닫습니다.
+ * 클라이언트가 연결을 끊으면 취소 신호가 GeminiService를 거쳐 Gemini API 호출까지 전달됩니다
+ * (같은 질문을 함께 받는 다른 연결이 남아 있으면 호출은 유지).
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatStreamHandler {
+
+    private final GeminiService geminiService;
+    private final ChatTokenService chatTokenService;
+    private final DietContextService dietContextService;
+    private final ChatServerConfig config;
+
+    /** 현재 열려 있는 스트림 수 */
+    private final AtomicInteger activeStreams = new AtomicInteger();
+
+    /**
+     * 라우팅 정의
+     *
+     * @return RouterFunction
+     */
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/chat/stream", this::stream)
+                .GET("/chat/analyze/today", this::analyzeToday)
+                .OPTIONS("/chat/**", request -> withCors(request, ServerResponse.ok()).build())
+                .build();
+    }
+
+    /**
+     * AI 채팅 스트리밍
+     *
+     * GET /chat/stream?prompt={질문}&amp;token={채팅 토큰}
+     */
+    Mono<ServerResponse> stream(ServerRequest request) {
+        String userId = chatTokenService.verify(request.queryParam("token").orElse(null));
+        if (userId == null) {
+            return withCors(request, ServerResponse.status(HttpStatus.UNAUTHORIZED)).build();
+        }
+        String prompt = request.queryParam("prompt").orElse("");
+        if (prompt.isBlank()) {
+            return withCors(request, ServerResponse.badRequest()).build();
+        }
+
+        log.debug("AI 채팅 스트리밍 요청: userId={}, prompt={}", userId, prompt);
+        return respond(request, userId, Flux.defer(() -> geminiService.generateContentStream(prompt, userId)));
+    }
+
+    /**
+     * 오늘 식단 AI 분석 스트리밍
+     *
+     * GET /chat/analyze/today?token={채팅 토큰}
+     * 컨텍스트 조회(JPA)는 이벤트 루프를 막지 않도록 boundedElastic에서 수행합니다.
+     */
+    Mono<ServerResponse> analyzeToday(ServerRequest request) {
+        String userId = chatTokenService.verify(request.queryParam("token").orElse(null));
+        if (userId == null) {
+            return withCors(request, ServerResponse.status(HttpStatus.UNAUTHORIZED)).build();
+        }
+
+        log.debug("오늘 식단 AI 분석 요청: userId={}", userId);
+        Flux<String> answer = Mono.fromCallable(() -> dietContextService.getTodayAnalysisPrompt(userId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(prompt -> prompt
+                        .map(value -> geminiService.generateContentStream(value, userId))
+                        .orElseGet(() -> Flux.just(DietContextService.NO_RECORDS_MESSAGE)))
+                .onErrorResume(error -> {
+                    log.error("오늘 식단 컨텍스트 조회 실패: userId={}", userId, error);
+                    return Flux.just("오류가 발생했습니다: 식단 정보를 불러오지 못했습니다.");
+                });
+        return respond(request, userId, answer);
+    }
+
+    /**
+     * SSE 응답 생성
+     *
+     * 동시 스트림 슬롯은 응답 본문을 구독할 때 잡고 본문이 끝나거나 취소될 때 돌려주므로,
+     * 본문이 한 번도 쓰이지 않은 응답(클라이언트가 먼저 끊은 경우 등)이 슬롯을 차지하지 않습니다.
+     * 한도를 넘으면 503으로 응답하고, 확인 직후 다른 요청이 먼저 슬롯을 잡은 경우에는 본문에서 error 이벤트로 알립니다.
+     */
+    private Mono<ServerResponse> respond(ServerRequest request, String userId, Flux<String> answer) {
+        if (activeStreams.get() >= config.getMaxStreams()) {
+            log.warn("AI 채팅 동시 스트림 초과: max={}", config.getMaxStreams());
+            return withCors(request, ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)).build();
+        }
+
+        Flux<ServerSentEvent<String>> events = Flux.using(
+                activeStreams::incrementAndGet,
+                active -> active > config.getMaxStreams() ? rejected() : events(userId, answer),
+                active -> activeStreams.decrementAndGet());
+
+        return withCors(request, ServerResponse.ok())
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(BodyInserters.fromServerSentEvents(events));
+    }
+
+    private Flux<ServerSentEvent<String>> events(String userId, Flux<String> answer) {
+        return answer
+                .timeout(config.getIdleTimeout())
+                .map(chunk -> ServerSentEvent.builder(chunk).build())
+                .concatWith(Mono.fromSupplier(() -> ServerSentEvent.builder("").event("end").build()))
+                .onErrorResume(TimeoutException.class, e -> {
+                    log.warn("AI 채팅 응답 대기 시간 초과: userId={}, idleTimeout={}", userId, config.getIdleTimeout());
+                    return Flux.just(ServerSentEvent.builder("응답 대기 시간이 초과되었습니다.").event("error").build());
+                })
+                .transform(this::withHeartbeat)
+                .doOnCancel(() -> log.debug("AI 채팅 클라이언트 연결 종료: userId={}", userId));
+    }
+
+    private Flux<ServerSentEvent<String>> rejected() {
+        log.warn("AI 채팅 동시 스트림 초과: max={}", config.getMaxStreams());
+        return Flux.just(ServerSentEvent.builder("동시 접속이 많습니다. 잠시 후 다시 시도해 주세요.").event("error").build());
+    }
+
+    /**
+     * 현재 열려 있는 스트림 수
+     */
+    public int getActiveStreams() {
+        return activeStreams.get();
+    }
+
+    /**
+     * 응답이 끝날 때까지 heartbeatInterval마다 SSE 주석(": heartbeat")을 끼워 넣음
+     */
+    private Flux<ServerSentEvent<String>> withHeartbeat(Flux<ServerSentEvent<String>> events) {
+        return events.publish(shared -> Flux.merge(
+                shared,
+                Flux.interval(config.getHeartbeatInterval())
+                        .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build())
+                        .onBackpressureDrop()
+                        .takeUntilOther(shared.then())));
+    }
+
+    private ServerResponse.BodyBuilder withCors(ServerRequest request, ServerResponse.BodyBuilder builder) {
+        String origin = request.headers().firstHeader(HttpHeaders.ORIGIN);
+        if (origin != null && (config.getAllowedOrigins().contains("*") || config.getAllowedOrigins().contains(origin))) {
+            builder.header(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin)
+                    .header(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+        }
+        return builder;
+    }
+}
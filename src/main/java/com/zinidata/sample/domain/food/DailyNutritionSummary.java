@@ -0,0 +1,81 @@
+package com.zinidata.sample.domain.food;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일일 영양 합계 엔티티
+ *
+ * TB_FOOD_RECORD와 TB_FOOD_NUTRITION을 (USER_ID, RECORD_DATE)별로 미리 집계한 테이블입니다.
+ * 음식 기록 저장/삭제 시 {@link DailyNutritionSummaryService}가 증감분을 반영하고, 재집계 작업이 주기적으로 보정합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Entity
+@Table(name = "TB_DAILY_NUTRITION_SUMMARY")
+@IdClass(DailyNutritionSummaryId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DailyNutritionSummary {
+
+    /**
+     * 유저 아이디 (PK)
+     */
+    @Id
+    @Column(name = "USER_ID", length = 20)
+    private String userId;
+
+    /**
+     * 날짜 (YYYYMMDD) (PK)
+     */
+    @Id
+    @Column(name = "RECORD_DATE", length = 8)
+    private String recordDate;
+
+    /**
+     * 열량 합계 (kcal)
+     */
+    @Column(name = "CALORIES", nullable = false, precision = 14, scale = 2)
+    private BigDecimal calories;
+
+    /**
+     * 탄수화물 합계 (g)
+     */
+    @Column(name = "CARBOHYDRATE", nullable = false, precision = 14, scale = 2)
+    private BigDecimal carbohydrate;
+
+    /**
+     * 단백질 합계 (g)
+     */
+    @Column(name = "PROTEIN", nullable = false, precision = 14, scale = 2)
+    private BigDecimal protein;
+
+    /**
+     * 지방 합계 (g)
+     */
+    @Column(name = "FAT", nullable = false, precision = 14, scale = 2)
+    private BigDecimal fat;
+
+    /**
+     * 나트륨 합계 (mg)
+     */
+    @Column(name = "SODIUM", nullable = false, precision = 14, scale = 2)
+    private BigDecimal sodium;
+
+    /**
+     * 음식 기록 수
+     */
+    @Column(name = "ITEM_COUNT", nullable = false)
+    private int itemCount;
+
+    /**
+     * 수정일시
+     */
+    @Column(name = "CHG_DT")
+    private LocalDateTime chgDt;
+}
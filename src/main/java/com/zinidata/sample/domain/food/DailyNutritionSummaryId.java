@@ -0,0 +1,24 @@
+package com.zinidata.sample.domain.food;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 일일 영양 합계 복합 키 (USER_ID, RECORD_DATE)
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyNutritionSummaryId implements Serializable {
+
+    private String userId;
+
+    private String recordDate;
+}
@@ -0,0 +1,27 @@
+package com.zinidata.sample.domain.food;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 일일 영양 합계 레포지토리
+ *
+ * 증감 반영과 재집계는 {@link DailyNutritionSummaryService}에서 HQL로 수행합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Repository
+public interface DailyNutritionSummaryRepository extends JpaRepository<DailyNutritionSummary, DailyNutritionSummaryId> {
+
+    /**
+     * 특정 사용자의 기간별 일일 합계 조회
+     *
+     * @param userId 유저 아이디
+     * @param from   시작 날짜 (YYYYMMDD, 포함)
+     * @param to     종료 날짜 (YYYYMMDD, 포함)
+     * @return 날짜 오름차순 일일 합계 (기록이 없는 날짜는 제외)
+     */
+    List<DailyNutritionSummary> findByUserIdAndRecordDateBetweenOrderByRecordDate(String userId, String from, String to);
+}
@@ -0,0 +1,302 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.NutritionSummaryConfig;
+import com.zinidata.sample.domain.food.dto.DailyNutritionSummaryDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 일일 영양 합계 서비스
+ *
+ * 음식 기록 저장/삭제와 같은 트랜잭션에서 (USER_ID, RECORD_DATE) 행에 증감분을 반영합니다.
+ * 저장은 INSERT ... ON CONFLICT DO UPDATE 한 문장으로 처리하여, 같은 날 첫 기록을 동시에 저장해도 행이 하나만 생깁니다
+ * (Hibernate가 ON CONFLICT를 지원하지 않는 DB에서는 MERGE로 변환).
+ *
+ * 식품 영양 정보가 바뀌면 이미 반영된 합계와 원본 기록이 어긋날 수 있으므로,
+ * 재집계 작업이 최근 기간을 원본 기록에서 다시 계산합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Service
+@Slf4j
+public class DailyNutritionSummaryService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private static final String UPSERT_DELTA = """
+            insert into DailyNutritionSummary
+                (userId, recordDate, calories, carbohydrate, protein, fat, sodium, itemCount, chgDt)
+            values (:userId, :recordDate, :calories, :carbohydrate, :protein, :fat, :sodium, :itemCount, :now)
+            on conflict (userId, recordDate) do update set
+                calories = calories + excluded.calories,
+                carbohydrate = carbohydrate + excluded.carbohydrate,
+                protein = protein + excluded.protein,
+                fat = fat + excluded.fat,
+                sodium = sodium + excluded.sodium,
+                itemCount = itemCount + excluded.itemCount,
+                chgDt = excluded.chgDt
+            """;
+
+    private static final String SUBTRACT_DELTA = """
+            update DailyNutritionSummary s set
+                s.calories = s.calories - :calories,
+                s.carbohydrate = s.carbohydrate - :carbohydrate,
+                s.protein = s.protein - :protein,
+                s.fat = s.fat - :fat,
+                s.sodium = s.sodium - :sodium,
+                s.itemCount = s.itemCount - 1,
+                s.chgDt = :now
+            where s.userId = :userId and s.recordDate = :recordDate
+            """;
+
+    private static final String DELETE_EMPTY = """
+            delete from DailyNutritionSummary s
+            where s.userId = :userId and s.recordDate = :recordDate and s.itemCount <= 0
+            """;
+
+    private static final String DELETE_STALE = """
+            delete from DailyNutritionSummary s
+            where s.recordDate = :recordDate
+              and not exists (select 1 from FoodRecord r where r.userId = s.userId and r.recordDt = :recordDt)
+            """;
+
+    private static final String REBUILD_DATE = """
+            insert into DailyNutritionSummary
+                (userId, recordDate, calories, carbohydrate, protein, fat, sodium, itemCount, chgDt)
+            select r.userId, r.recordDate,
+                   coalesce(sum(n.calories), 0bd), coalesce(sum(n.carbohydrate), 0bd), coalesce(sum(n.protein), 0bd),
+                   coalesce(sum(n.fat), 0bd), coalesce(sum(n.sodium), 0bd),
+                   cast(count(r) as Integer), :now
+            from FoodRecord r left join FoodNutrition n on n.foodId = r.foodId
+            where r.recordDt = :recordDt
+            group by r.userId, r.recordDate
+            on conflict (userId, recordDate) do update set
+                calories = excluded.calories,
+                carbohydrate = excluded.carbohydrate,
+                protein = excluded.protein,
+                fat = excluded.fat,
+                sodium = excluded.sodium,
+                itemCount = excluded.itemCount,
+                chgDt = excluded.chgDt
+            """;
+
+    private final EntityManager entityManager;
+    private final DailyNutritionSummaryRepository summaryRepository;
+    private final NutritionSummaryConfig config;
+    private final NutritionTrendService nutritionTrendService;
+    private final TransactionTemplate transactionTemplate;
+
+    public DailyNutritionSummaryService(EntityManager entityManager,
+                                        DailyNutritionSummaryRepository summaryRepository,
+                                        NutritionSummaryConfig config,
+                                        NutritionTrendService nutritionTrendService,
+                                        PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.summaryRepository = summaryRepository;
+        this.config = config;
+        this.nutritionTrendService = nutritionTrendService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 음식 기록 추가분 반영 (호출한 트랜잭션에 참여)
+     *
+     * @param userId     유저 아이디
+     * @param recordDate 날짜 (YYYYMMDD)
+     * @param nutrition  영양 정보 (없으면 기록 수만 증가)
+     */
+    @Transactional
+    public void addRecord(String userId, String recordDate, FoodNutrition nutrition) {
+        addRecords(userId, recordDate, Collections.singletonList(nutrition));
+    }
+
+    /**
+     * 같은 날짜 음식 기록 여러 건의 추가분을 한 번에 반영 (호출한 트랜잭션에 참여)
+     *
+     * 건수와 관계없이 합산한 증가분으로 한 번만 UPSERT 합니다.
+     *
+     * @param userId     유저 아이디
+     * @param recordDate 날짜 (YYYYMMDD)
+     * @param nutritions 기록별 영양 정보 (원소가 null이면 기록 수만 증가)
+     */
+    @Transactional
+    public void addRecords(String userId, String recordDate, List<FoodNutrition> nutritions) {
+        if (nutritions.isEmpty()) {
+            return;
+        }
+        BigDecimal calories = BigDecimal.ZERO;
+        BigDecimal carbohydrate = BigDecimal.ZERO;
+        BigDecimal protein = BigDecimal.ZERO;
+        BigDecimal fat = BigDecimal.ZERO;
+        BigDecimal sodium = BigDecimal.ZERO;
+        for (FoodNutrition nutrition : nutritions) {
+            if (nutrition == null) {
+                continue;
+            }
+            calories = calories.add(valueOf(nutrition.getCalories()));
+            carbohydrate = carbohydrate.add(valueOf(nutrition.getCarbohydrate()));
+            protein = protein.add(valueOf(nutrition.getProtein()));
+            fat = fat.add(valueOf(nutrition.getFat()));
+            sodium = sodium.add(valueOf(nutrition.getSodium()));
+        }
+
+        entityManager.createQuery(UPSERT_DELTA)
+                .setParameter("userId", userId)
+                .setParameter("recordDate", recordDate)
+                .setParameter("calories", calories)
+                .setParameter("carbohydrate", carbohydrate)
+                .setParameter("protein", protein)
+                .setParameter("fat", fat)
+                .setParameter("sodium", sodium)
+                .setParameter("itemCount", nutritions.size())
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    /**
+     * 음식 기록 삭제분 반영 (호출한 트랜잭션에 참여)
+     *
+     * 기록 수가 0이 되면 행을 삭제합니다.
+     *
+     * @param userId     유저 아이디
+     * @param recordDate 날짜 (YYYYMMDD)
+     * @param nutrition  영양 정보 (없으면 기록 수만 감소)
+     */
+    @Transactional
+    public void removeRecord(String userId, String recordDate, FoodNutrition nutrition) {
+        int updated = entityManager.createQuery(SUBTRACT_DELTA)
+                .setParameter("userId", userId)
+                .setParameter("recordDate", recordDate)
+                .setParameter("calories", valueOf(nutrition != null ? nutrition.getCalories() : null))
+                .setParameter("carbohydrate", valueOf(nutrition != null ? nutrition.getCarbohydrate() : null))
+                .setParameter("protein", valueOf(nutrition != null ? nutrition.getProtein() : null))
+                .setParameter("fat", valueOf(nutrition != null ? nutrition.getFat() : null))
+                .setParameter("sodium", valueOf(nutrition != null ? nutrition.getSodium() : null))
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+        if (updated == 0) {
+            log.warn("일일 영양 합계 행 없음 (재집계 시 보정): userId={}, recordDate={}", userId, recordDate);
+            return;
+        }
+        entityManager.createQuery(DELETE_EMPTY)
+                .setParameter("userId", userId)
+                .setParameter("recordDate", recordDate)
+                .executeUpdate();
+    }
+
+    /**
+     * 특정 사용자의 기간별 일일 합계 조회
+     *
+     * @param userId 유저 아이디
+     * @param from   시작 날짜 (포함)
+     * @param to     종료 날짜 (포함)
+     * @return 날짜 오름차순 일일 합계 (기록이 없는 날짜는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<DailyNutritionSummaryDto> getSummaries(String userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return summaryRepository.findByUserIdAndRecordDateBetweenOrderByRecordDate(
+                        userId, from.format(DATE_FORMAT), to.format(DATE_FORMAT)).stream()
+                .map(DailyNutritionSummaryService::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 기간 재집계 (날짜별로 별도 트랜잭션)
+     *
+     * 원본 기록에서 다시 계산한 값으로 합계 행을 덮어쓰고 (INSERT ... ON CONFLICT DO UPDATE), 기록이 없어진 사용자의 행은 지웁니다.
+     * 같은 날짜에 기록이 동시에 저장되어도 키 충돌로 실패하지 않으며, 한 날짜가 실패해도 나머지 날짜는 계속 재집계합니다.
+     * 완료 후 영양 추이 시계열 캐시를 모두 비웁니다.
+     * 재집계 중인 날짜에 기록이 추가/삭제되면 그 변경분이 누락될 수 있으므로, 기록이 계속 바뀌는 오늘은 되도록 피합니다.
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to   종료 날짜 (포함)
+     * @return 갱신한 합계 행 수
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        long start = System.nanoTime();
+        int rows = 0;
+        int failedDays = 0;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            LocalDate recordDt = date;
+            String recordDate = date.format(DATE_FORMAT);
+            try {
+                Integer updated = transactionTemplate.execute(status -> {
+                    int upserted = entityManager.createQuery(REBUILD_DATE)
+                            .setParameter("recordDt", recordDt)
+                            .setParameter("now", LocalDateTime.now())
+                            .executeUpdate();
+                    entityManager.createQuery(DELETE_STALE)
+                            .setParameter("recordDate", recordDate)
+                            .setParameter("recordDt", recordDt)
+                            .executeUpdate();
+                    return upserted;
+                });
+                rows += updated != null ? updated : 0;
+            } catch (Exception e) {
+                failedDays++;
+                log.error("일일 영양 합계 재집계 실패: recordDate={}", recordDate, e);
+            }
+        }
+        nutritionTrendService.evictAll();
+        log.info("일일 영양 합계 재집계 완료: from={}, to={}, rows={}, failedDays={}, elapsed={}ms",
+                from, to, rows, failedDays, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * 최근 기간 주기적 재집계 (어제부터 rebuildDays일)
+     */
+    @Scheduled(cron = "${nutrition.summary.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        if (!config.isRebuildEnabled()) {
+            return;
+        }
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            rebuild(yesterday.minusDays(config.getRebuildDays() - 1L), yesterday);
+        } catch (Exception e) {
+            log.error("일일 영양 합계 재집계 실패", e);
+        }
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 날짜가 종료 날짜보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= config.getMaxQueryDays()) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + config.getMaxQueryDays() + "일입니다.");
+        }
+    }
+
+    private static BigDecimal valueOf(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    static DailyNutritionSummaryDto toDto(DailyNutritionSummary summary) {
+        return DailyNutritionSummaryDto.builder()
+                .recordDate(summary.getRecordDate())
+                .calories(summary.getCalories())
+                .carbohydrate(summary.getCarbohydrate())
+                .protein(summary.getProtein())
+                .fat(summary.getFat())
+                .sodium(summary.getSodium())
+                .itemCount(summary.getItemCount())
+                .build();
+    }
+}
@@ -0,0 +1,298 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.common.util.HangulUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 식품명 n-gram 역색인
+ *
+ * TB_FOOD_NUTRITION 전체를 메모리에 올려 1~3-gram 역색인을 구성합니다.
+ * 초성 검색("ㄱㅊㅉㄱ")과 입력 중인 초성("김치ㅉ")은 초성 문자열 색인으로 처리합니다.
+ * 애플리케이션 기동 시 생성되며, 이후 변경은 {@link FoodNutritionChangeListener}가 반영합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FoodNameSearchIndex {
+
+    /** 색인하는 최대 gram 길이 */
+    private static final int MAX_GRAM = 3;
+
+    /** 접두어가 아닌 일치에 더하는 점수 (이름 길이보다 항상 크게) */
+    public static final int NON_PREFIX_PENALTY = 1000;
+
+    private final FoodNutritionRepository foodNutritionRepository;
+
+    /** 현재 색인 (null이면 아직 생성 전) */
+    private volatile Snapshot snapshot;
+
+    /**
+     * 기동 완료 시 색인 생성 (비동기, 생성 전에는 DB 검색으로 대체)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("식품명 색인 생성 실패 - DB 검색으로 대체합니다", e);
+        }
+    }
+
+    /**
+     * 전체 색인 재생성
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        Snapshot next = new Snapshot();
+        for (FoodNutrition food : foodNutritionRepository.findAll()) {
+            next.add(food);
+        }
+
+        synchronized (this) {
+            this.snapshot = next;
+        }
+        log.info("식품명 색인 생성 완료: count={}, grams={}, elapsed={}ms",
+                next.entries.size(), next.grams.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 식품 추가 또는 갱신 반영
+     */
+    public synchronized void put(FoodNutrition food) {
+        Snapshot current = snapshot;
+        if (current == null || food.getFoodId() == null) {
+            return;
+        }
+        current.remove(food.getFoodId());
+        current.add(food);
+    }
+
+    /**
+     * 식품 삭제 반영
+     */
+    public synchronized void remove(Long foodId) {
+        Snapshot current = snapshot;
+        if (current == null || foodId == null) {
+            return;
+        }
+        current.remove(foodId);
+    }
+
+    /**
+     * 식품명 부분 일치 검색 (관련도순, keyset 페이지)
+     *
+     * 점수가 낮을수록 앞에 옵니다: 접두어 일치 &lt; 그 외 일치, 같은 구분 안에서는 이름이 짧은 순, 그다음 식품 ID 순.
+     * 일치하는 후보 전체를 정렬하지 않고 크기 limit의 힙으로 상위 항목만 고르므로, 결과 크기와 메모리는 limit에 비례합니다.
+     *
+     * @param keyword     검색 키워드
+     * @param afterScore  이전 페이지 마지막 항목의 점수 (첫 페이지는 -1)
+     * @param afterFoodId 이전 페이지 마지막 항목의 식품 ID (첫 페이지는 무시)
+     * @param limit       최대 건수
+     * @return 점수, 식품 ID 순 검색 결과
+     */
+    public List<Match> search(String keyword, int afterScore, long afterFoodId, int limit) {
+        Snapshot current = snapshot;
+        String query = HangulUtil.normalize(keyword);
+        if (current == null || query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<Set<Long>> postings = current.postingsFor(query);
+        if (postings == null) {
+            return List.of();
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        // 가장 나쁜 항목이 맨 앞에 오는 힙 (limit개 유지)
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, Match.ORDER.reversed());
+        for (Long foodId : postings.get(0)) {
+            if (!containsAll(postings, foodId)) {
+                continue;
+            }
+            Entry entry = current.entries.get(foodId);
+            if (entry == null || !HangulUtil.containsWithChosung(entry.normalizedName(), query)) {
+                continue;
+            }
+            int score = score(entry.food().getFoodName(), HangulUtil.startsWithChosung(entry.normalizedName(), query));
+            if (score < afterScore || (score == afterScore && foodId <= afterFoodId)) {
+                continue;
+            }
+            Match match = new Match(entry.food(), score);
+            if (top.size() < limit) {
+                top.add(match);
+            } else if (Match.ORDER.compare(match, top.peek()) < 0) {
+                top.poll();
+                top.add(match);
+            }
+        }
+
+        List<Match> results = new ArrayList<>(top);
+        results.sort(Match.ORDER);
+        return results;
+    }
+
+    /**
+     * 관련도 점수 (낮을수록 관련도 높음)
+     *
+     * DB 검색 경로({@link FoodNutritionRepository#searchByFoodNameAfter})와 같은 식이어야 두 경로 사이에 커서를 이어 쓸 수 있으므로
+     * 정규화 전 식품명 길이를 씁니다 (FOOD_NAME은 200자 이하라 항상 {@value #NON_PREFIX_PENALTY}보다 작음).
+     *
+     * @param foodName 식품명 (정규화 전)
+     * @param prefix   접두어 일치 여부
+     * @return 접두어 일치면 이름 길이, 아니면 이름 길이 + {@value #NON_PREFIX_PENALTY}
+     */
+    public static int score(String foodName, boolean prefix) {
+        return (prefix ? 0 : NON_PREFIX_PENALTY) + foodName.length();
+    }
+
+    private static boolean containsAll(List<Set<Long>> postings, Long foodId) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(foodId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문자열의 n-gram 목록 (n = 1 ~ MAX_GRAM)
+     */
+    private static List<String> allGrams(String value) {
+        List<String> grams = new ArrayList<>();
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= value.length(); i++) {
+                grams.add(value.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어 조각에서 후보 조회에 쓸 gram 목록 (가능한 가장 긴 gram만 사용)
+     */
+    private static List<String> queryGrams(String run) {
+        int n = Math.min(MAX_GRAM, run.length());
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + n <= run.length(); i++) {
+            grams.add(run.substring(i, i + n));
+        }
+        return grams;
+    }
+
+    private record Entry(FoodNutrition food, String normalizedName) {
+    }
+
+    /**
+     * 관련도 점수가 붙은 검색 결과
+     *
+     * @param food  식품
+     * @param score 관련도 점수 (낮을수록 앞)
+     */
+    public record Match(FoodNutrition food, int score) {
+
+        /** 점수, 식품 ID 오름차순 */
+        public static final Comparator<Match> ORDER = Comparator.comparingInt(Match::score)
+                .thenComparing(match -> match.food().getFoodId());
+    }
+
+    /**
+     * 색인 데이터 묶음
+     */
+    private static final class Snapshot {
+
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> grams = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> chosungGrams = new ConcurrentHashMap<>();
+
+        void add(FoodNutrition food) {
+            Long foodId = food.getFoodId();
+            String normalized = HangulUtil.normalize(food.getFoodName());
+            entries.put(foodId, new Entry(food, normalized));
+
+            for (String gram : allGrams(normalized)) {
+                grams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(foodId);
+            }
+            for (String gram : allGrams(HangulUtil.toChosung(normalized))) {
+                chosungGrams.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(foodId);
+            }
+        }
+
+        void remove(Long foodId) {
+            Entry entry = entries.remove(foodId);
+            if (entry == null) {
+                return;
+            }
+            for (String gram : allGrams(entry.normalizedName())) {
+                removePosting(grams, gram, foodId);
+            }
+            for (String gram : allGrams(HangulUtil.toChosung(entry.normalizedName()))) {
+                removePosting(chosungGrams, gram, foodId);
+            }
+        }
+
+        private static void removePosting(Map<String, Set<Long>> index, String gram, Long foodId) {
+            index.computeIfPresent(gram, (k, ids) -> {
+                ids.remove(foodId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+
+        /**
+         * 검색어에 해당하는 posting 목록 (하나라도 없으면 null)
+         *
+         * 초성이 아닌 글자 구간은 일반 색인에서, 초성만으로 된 검색어는 초성 색인에서 찾습니다.
+         */
+        List<Set<Long>> postingsFor(String query) {
+            List<String> keys = new ArrayList<>();
+            StringBuilder run = new StringBuilder();
+            for (int i = 0; i <= query.length(); i++) {
+                if (i < query.length() && !HangulUtil.isChosung(query.charAt(i))) {
+                    run.append(query.charAt(i));
+                } else if (run.length() > 0) {
+                    keys.addAll(queryGrams(run.toString()));
+                    run.setLength(0);
+                }
+            }
+
+            Map<String, Set<Long>> index = grams;
+            if (keys.isEmpty()) {
+                index = chosungGrams;
+                keys = queryGrams(query);
+            }
+
+            List<Set<Long>> postings = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Set<Long> ids = index.get(key);
+                if (ids == null) {
+                    return null;
+                }
+                postings.add(ids);
+            }
+            return postings;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.math.BigDecimal;
  */
 @Entity
 @Table(name = "TB_FOOD_NUTRITION")
+@EntityListeners(FoodNutritionChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +28,12 @@ public class FoodNutrition {
     @Column(name = "FOOD_ID")
     private Long foodId;
 
+    /**
+     * 식품코드 (공공 식품영양성분 DB의 식품코드, 일괄 적재 시 자연키 / 직접 등록한 식품은 null)
+     */
+    @Column(name = "FOOD_CODE", length = 40, unique = true)
+    private String foodCode;
+
     /**
      * 식품명
      */
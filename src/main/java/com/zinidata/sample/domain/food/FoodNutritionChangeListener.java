@@ -0,0 +1,44 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.common.util.TransactionUtil;
+import com.zinidata.sample.service.FoodNutritionCacheService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 식품 영양 정보 변경을 식품명 색인과 캐시에 반영하는 엔티티 리스너
+ *
+ * 트랜잭션 안에서는 커밋 이후에 반영하여, 롤백된 변경이 색인/캐시에 남지 않도록 합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+public class FoodNutritionChangeListener {
+
+    /** EntityManagerFactory 생성 시점과의 순환 참조를 피하기 위해 지연 조회 */
+    private final ObjectProvider<FoodNameSearchIndex> searchIndex;
+    private final ObjectProvider<FoodNutritionCacheService> cacheService;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(FoodNutrition food) {
+        TransactionUtil.afterCommit(() -> {
+            searchIndex.ifAvailable(index -> index.put(food));
+            cacheService.ifAvailable(cache -> cache.evictFood(food.getFoodId()));
+        });
+    }
+
+    @PostRemove
+    public void onRemove(FoodNutrition food) {
+        Long foodId = food.getFoodId();
+        TransactionUtil.afterCommit(() -> {
+            searchIndex.ifAvailable(index -> index.remove(foodId));
+            cacheService.ifAvailable(cache -> cache.evictFood(foodId));
+        });
+    }
+}
@@ -1,6 +1,9 @@
 package com.zinidata.sample.domain.food;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,10 +17,32 @@ import java.util.List;
 public interface FoodNutritionRepository extends JpaRepository<FoodNutrition, Long> {
 
     /**
-     * 식품명으로 검색 (부분 일치)
+     * 식품명 부분 일치 검색 (관련도순, keyset 페이지)
      * 
-     * @param keyword 검색 키워드
-     * @return 검색된 식품 목록
+     * 메모리 색인({@link FoodNameSearchIndex})과 같이 공백을 제거하고 소문자로 바꾼 식품명에서 찾습니다 (초성 검색은 지원하지 않음).
+     * 관련도 점수는 {@link FoodNameSearchIndex#score}와 같습니다: 정규화한 이름이 검색어로 시작하면 이름 길이,
+     * 아니면 이름 길이 + 1000이며 낮을수록 앞에 옵니다.
+     * 메모리 색인이 준비되기 전에만 사용합니다.
+     * 
+     * @param pattern     정규화하고 LIKE 특수문자(%, _, \)를 \로 이스케이프한 검색 키워드
+     * @param afterScore  이전 페이지 마지막 항목의 점수 (첫 페이지는 -1)
+     * @param afterFoodId 이전 페이지 마지막 항목의 식품 ID
+     * @param pageable    조회 건수 (첫 페이지만 사용)
+     * @return 점수, 식품 ID 순 검색 결과
      */
-    List<FoodNutrition> findByFoodNameContaining(String keyword);
+    @Query("""
+            select f from FoodNutrition f
+            where replace(lower(f.foodName), ' ', '') like concat('%', :pattern, '%') escape '\\'
+              and ((case when replace(lower(f.foodName), ' ', '') like concat(:pattern, '%') escape '\\' then 0 else 1000 end)
+                        + length(f.foodName) > :afterScore
+                or ((case when replace(lower(f.foodName), ' ', '') like concat(:pattern, '%') escape '\\' then 0 else 1000 end)
+                        + length(f.foodName) = :afterScore
+                    and f.foodId > :afterFoodId))
+            order by (case when replace(lower(f.foodName), ' ', '') like concat(:pattern, '%') escape '\\' then 0 else 1000 end)
+                        + length(f.foodName), f.foodId
+            """)
+    List<FoodNutrition> searchByFoodNameAfter(@Param("pattern") String pattern,
+                                              @Param("afterScore") int afterScore,
+                                              @Param("afterFoodId") long afterFoodId,
+                                              Pageable pageable);
 }
@@ -6,11 +6,19 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * 먹은 음식 기록 엔티티
  * 
+ * 조회는 DATE 타입의 RECORD_DT와 (USER_ID, RECORD_DT) 인덱스를 사용합니다.
+ * RECORD_DATE(YYYYMMDD 문자열)는 일일 영양 합계 키와 기존 데이터 호환을 위해 함께 기록합니다.
+ * 
+ * 인덱스는 엔티티에 선언하지 않고 schema.sql / db/migration에서만 만듭니다.
+ * (ddl-auto=update가 INCLUDE 없는 인덱스를 쓰기 차단 잠금으로 먼저 만들면 마이그레이션의 CONCURRENTLY 생성이 건너뛰어짐)
+ * 
  * @author NICE ZiniData 개발팀
  */
 @Entity
@@ -18,14 +26,18 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, FoodRecordChangeListener.class})
 public class FoodRecord {
 
     /**
      * 기록 ID (PK)
+     *
+     * 시퀀스에서 50개씩 미리 할당받아(pooled) INSERT를 JDBC 배치로 묶을 수 있도록 합니다.
+     * allocationSize는 DB 시퀀스의 INCREMENT BY와 같아야 합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "foodRecordSeq")
+    @SequenceGenerator(name = "foodRecordSeq", sequenceName = "SEQ_TB_FOOD_RECORD", allocationSize = 50)
     @Column(name = "RECORD_ID")
     private Long recordId;
 
@@ -35,6 +47,12 @@ public class FoodRecord {
     @Column(name = "RECORD_DATE", nullable = false, length = 8)
     private String recordDate;
 
+    /**
+     * 날짜
+     */
+    @Column(name = "RECORD_DT", nullable = false)
+    private LocalDate recordDt;
+
     /**
      * 유저 아이디
      */
@@ -68,8 +86,9 @@ public class FoodRecord {
     private LocalDateTime chgDt;
 
     @Builder
-    public FoodRecord(String recordDate, String userId, Long foodId, String foodList) {
-        this.recordDate = recordDate;
+    public FoodRecord(LocalDate recordDt, String userId, Long foodId, String foodList) {
+        this.recordDt = recordDt;
+        this.recordDate = recordDt.format(DateTimeFormatter.BASIC_ISO_DATE);
         this.userId = userId;
         this.foodId = foodId;
         this.foodList = foodList;
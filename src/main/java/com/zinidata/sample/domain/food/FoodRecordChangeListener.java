@@ -0,0 +1,38 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.common.util.TransactionUtil;
+import com.zinidata.sample.service.DietContextService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 음식 기록 변경 시 해당 사용자/날짜의 AI 식단 컨텍스트와 영양 추이 시계열 캐시를 비우는 엔티티 리스너
+ *
+ * 트랜잭션 안에서는 커밋 이후에 비워, 커밋 전 데이터로 컨텍스트가 다시 채워지지 않도록 합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+public class FoodRecordChangeListener {
+
+    /** EntityManagerFactory 생성 시점과의 순환 참조를 피하기 위해 지연 조회 */
+    private final ObjectProvider<DietContextService> dietContextService;
+    private final ObjectProvider<NutritionTrendService> nutritionTrendService;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(FoodRecord record) {
+        String userId = record.getUserId();
+        String recordDate = record.getRecordDate();
+        TransactionUtil.afterCommit(() -> {
+            dietContextService.ifAvailable(service -> service.evict(userId, recordDate));
+            nutritionTrendService.ifAvailable(service -> service.evict(userId));
+        });
+    }
+}
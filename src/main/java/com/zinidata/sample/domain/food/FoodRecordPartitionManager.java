@@ -0,0 +1,284 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.FoodRecordPartitionConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * TB_FOOD_RECORD 월별 파티션 관리
+ *
+ * TB_FOOD_RECORD는 PostgreSQL에서 RECORD_DT 기준 월별 범위 파티션 테이블이며(db/migration/partition_food_record_by_month.sql),
+ * 날짜 조건 조회는 해당 월 파티션만 읽으므로 누적 기록이 늘어도 조회 비용이 일정합니다.
+ * 기동 시와 매일 한 번 이후 monthsAhead개월의 파티션을 미리 만들고, 보관 기간이 지난 파티션을 분리합니다.
+ * 어느 파티션에도 속하지 않는 날짜는 DEFAULT 파티션에 저장되며, 해당 월 파티션을 만들 때 새 파티션으로 옮깁니다.
+ *
+ * 파티션 테이블이 아니면(H2 또는 마이그레이션 전) 아무 작업도 하지 않습니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@Slf4j
+public class FoodRecordPartitionManager {
+
+    static final String PARENT_TABLE = "tb_food_record";
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((.+?)\\) TO \\((.+?)\\)");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String IS_PARTITIONED = """
+            select c.relkind = 'p' from pg_class c where c.oid = to_regclass('tb_food_record')
+            """;
+
+    private static final String LIST_PARTITIONS = """
+            select c.relname, pg_get_expr(c.relpartbound, c.oid)
+            from pg_inherits i join pg_class c on c.oid = i.inhrelid
+            where i.inhparent = to_regclass('tb_food_record')
+            order by c.relname
+            """;
+
+    private final DataSource dataSource;
+    private final FoodRecordPartitionConfig config;
+    private final Clock clock;
+
+    public FoodRecordPartitionManager(DataSource dataSource, FoodRecordPartitionConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+        this.clock = Clock.systemDefaultZone();
+    }
+
+    /**
+     * 기동 완료 시 파티션 점검
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduledMaintain();
+    }
+
+    /**
+     * 주기적 파티션 점검
+     */
+    @Scheduled(cron = "${food.record.partition.cron:0 0 4 * * *}")
+    public void scheduledMaintain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            maintain();
+        } catch (Exception e) {
+            log.error("음식 기록 파티션 관리 실패", e);
+        }
+    }
+
+    /**
+     * 다음 달 파티션 생성 및 보관 기간이 지난 파티션 분리
+     *
+     * DDL마다 자동 커밋하며(DEFAULT 파티션에서 기록을 옮기는 경우만 한 트랜잭션), 부모 테이블 잠금을 오래 기다려
+     * 조회/저장을 막지 않도록 lock_timeout을 둡니다. 생성에 실패한 달은 로그를 남기고 건너뜁니다.
+     */
+    public synchronized void maintain() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!isPartitioned(connection)) {
+                log.debug("TB_FOOD_RECORD가 파티션 테이블이 아니므로 파티션 관리를 건너뜁니다");
+                return;
+            }
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("set lock_timeout = '5s'");
+                try {
+                    YearMonth current = YearMonth.now(clock);
+                    List<Partition> partitions = listPartitions(statement);
+
+                    Partition defaultPartition = partitions.stream().filter(Partition::isDefault).findFirst().orElse(null);
+                    for (YearMonth month : missingMonths(partitions, current, config.getMonthsAhead())) {
+                        try {
+                            createPartition(connection, statement, month, defaultPartition);
+                        } catch (SQLException e) {
+                            // 한 달이 실패해도 나머지 달과 보관 기간 처리는 계속
+                            log.error("음식 기록 파티션 생성 실패: {}", partitionName(month), e);
+                        }
+                    }
+                    if (config.getRetentionMonths() > 0) {
+                        LocalDate cutoff = current.minusMonths(config.getRetentionMonths() - 1L).atDay(1);
+                        for (Partition partition : expiredPartitions(partitions, cutoff)) {
+                            removePartition(statement, partition);
+                        }
+                    }
+                } finally {
+                    statement.execute("reset lock_timeout");
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private static boolean isPartitioned(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return false;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(IS_PARTITIONED)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static List<Partition> listPartitions(Statement statement) throws SQLException {
+        List<Partition> partitions = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery(LIST_PARTITIONS)) {
+            while (rs.next()) {
+                partitions.add(Partition.of(rs.getString(1), rs.getString(2)));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 월 파티션 생성
+     *
+     * DEFAULT 파티션에 이미 해당 월 기록이 있으면(미래 날짜 기록, 놓친 실행 등) 바로 만들 수 없으므로,
+     * 한 트랜잭션에서 DEFAULT를 분리하고 월 파티션을 만든 뒤 해당 월 기록을 옮기고 DEFAULT를 다시 붙입니다.
+     */
+    private static void createPartition(Connection connection, Statement statement, YearMonth month,
+                                        Partition defaultPartition) throws SQLException {
+        String name = partitionName(month);
+        String bounds = " for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')";
+        String range = " where RECORD_DT >= '" + month.atDay(1) + "' and RECORD_DT < '" + month.plusMonths(1).atDay(1) + "'";
+
+        if (defaultPartition == null || !hasRows(statement, defaultPartition.name() + range)) {
+            statement.execute("create table if not exists " + name + " partition of " + PARENT_TABLE + bounds);
+            log.info("음식 기록 파티션 생성: {}", name);
+            return;
+        }
+
+        String defaultName = defaultPartition.name();
+        connection.setAutoCommit(false);
+        try {
+            statement.execute("alter table " + PARENT_TABLE + " detach partition " + defaultName);
+            statement.execute("create table " + name + " partition of " + PARENT_TABLE + bounds);
+            int moved = statement.executeUpdate("insert into " + PARENT_TABLE + " select * from " + defaultName + range);
+            statement.execute("delete from " + defaultName + range);
+            statement.execute("alter table " + PARENT_TABLE + " attach partition " + defaultName + " default");
+            connection.commit();
+            log.info("음식 기록 파티션 생성: {} (DEFAULT 파티션에서 {}건 이동)", name, moved);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static boolean hasRows(Statement statement, String fromWhere) throws SQLException {
+        try (ResultSet rs = statement.executeQuery("select exists (select 1 from " + fromWhere + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void removePartition(Statement statement, Partition partition) throws SQLException {
+        // DEFAULT 파티션이 있으면 CONCURRENTLY를 쓸 수 없음 (분리 자체는 데이터를 읽지 않는 메타데이터 변경)
+        statement.execute("alter table " + PARENT_TABLE + " detach partition " + partition.name());
+        if (config.getExpiredAction() == FoodRecordPartitionConfig.ExpiredAction.DROP) {
+            statement.execute("drop table " + partition.name());
+            log.info("음식 기록 파티션 삭제: {} (~{})", partition.name(), partition.to());
+            return;
+        }
+        String schema = config.getArchiveSchema();
+        if (schema != null && !schema.isEmpty()) {
+            if (!IDENTIFIER.matcher(schema).matches()) {
+                throw new IllegalStateException("보관 스키마 이름이 올바르지 않습니다: " + schema);
+            }
+            statement.execute("create schema if not exists " + schema);
+            statement.execute("alter table " + partition.name() + " set schema " + schema);
+        }
+        log.info("음식 기록 파티션 분리: {} (~{}), schema={}", partition.name(), partition.to(), schema);
+    }
+
+    /**
+     * 파티션 테이블 이름 (예: tb_food_record_p202610)
+     */
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_p" + month.format(SUFFIX_FORMAT);
+    }
+
+    /**
+     * 이번 달부터 monthsAhead개월 뒤까지 기존 파티션 범위와 겹치지 않는 달
+     */
+    static List<YearMonth> missingMonths(List<Partition> partitions, YearMonth current, int monthsAhead) {
+        List<YearMonth> missing = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            LocalDate from = month.atDay(1);
+            LocalDate to = month.plusMonths(1).atDay(1);
+            boolean covered = partitions.stream()
+                    .anyMatch(partition -> !partition.isDefault()
+                            && partition.from().isBefore(to) && from.isBefore(partition.to()));
+            if (!covered) {
+                missing.add(month);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 상한이 cutoff 이전인(모든 날짜가 보관 기간 밖인) 파티션
+     */
+    static List<Partition> expiredPartitions(List<Partition> partitions, LocalDate cutoff) {
+        return partitions.stream()
+                .filter(partition -> !partition.isDefault() && !partition.to().isAfter(cutoff))
+                .toList();
+    }
+
+    /**
+     * 파티션 범위 [from, to) (DEFAULT 파티션은 from, to가 null)
+     *
+     * @param name 파티션 테이블 이름
+     * @param from 하한 (포함, MINVALUE면 {@link LocalDate#MIN})
+     * @param to   상한 (제외, MAXVALUE면 {@link LocalDate#MAX})
+     */
+    record Partition(String name, LocalDate from, LocalDate to) {
+
+        /**
+         * pg_get_expr(relpartbound) 결과로 생성
+         *
+         * 예) FOR VALUES FROM ('2026-10-01') TO ('2026-11-01'), FOR VALUES FROM (MINVALUE) TO ('2026-11-01'), DEFAULT
+         */
+        static Partition of(String name, String bound) {
+            Matcher matcher = RANGE_BOUND.matcher(bound);
+            if (!matcher.find()) {
+                return new Partition(name, null, null);
+            }
+            return new Partition(name, parseBound(matcher.group(1)), parseBound(matcher.group(2)));
+        }
+
+        private static LocalDate parseBound(String value) {
+            return switch (value) {
+                case "MINVALUE" -> LocalDate.MIN;
+                case "MAXVALUE" -> LocalDate.MAX;
+                default -> LocalDate.parse(value.replace("'", ""));
+            };
+        }
+
+        boolean isDefault() {
+            return from == null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.zinidata.sample.domain.food;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -16,17 +17,19 @@ public interface FoodRecordRepository extends JpaRepository<FoodRecord, Long> {
     /**
      * 날짜별 음식 기록 조회
      * 
-     * @param recordDate 조회할 날짜 (YYYYMMDD)
+     * @param recordDt 조회할 날짜
      * @return 해당 날짜의 음식 기록 리스트
      */
-    List<FoodRecord> findByRecordDate(String recordDate);
+    List<FoodRecord> findByRecordDt(LocalDate recordDt);
 
     /**
      * 특정 사용자의 특정 날짜 음식 기록 조회
      * 
-     * @param userId     유저 아이디
-     * @param recordDate 조회할 날짜 (YYYYMMDD)
+     * (USER_ID, RECORD_DT) 인덱스 범위 조회로 처리됩니다.
+     * 
+     * @param userId   유저 아이디
+     * @param recordDt 조회할 날짜
      * @return 해당 사용자의 해당 날짜 음식 기록 리스트
      */
-    List<FoodRecord> findByUserIdAndRecordDate(String userId, String recordDate);
+    List<FoodRecord> findByUserIdAndRecordDt(String userId, LocalDate recordDt);
 }
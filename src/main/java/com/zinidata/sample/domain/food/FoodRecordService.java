@@ -1,20 +1,34 @@
 package com.zinidata.sample.domain.food;
 
+import com.zinidata.sample.domain.food.dto.FoodRecordRequestDto;
 import com.zinidata.sample.domain.food.dto.FoodRecordResponseDto;
+import com.zinidata.sample.service.FoodNutritionCacheService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 먹은 음식 기록 서비스
  * 
+ * 공개 메서드는 food.record 타이머(class, method, exception 태그)로 소요 시간을 기록합니다.
+ * 
  * @author NICE ZiniData 개발팀
  */
 @Service
@@ -22,35 +36,45 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FoodRecordService {
 
+    /**
+     * 일괄 저장 최대 건수
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private static final DateTimeFormatter RECORD_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("uuuuMMdd").withResolverStyle(ResolverStyle.STRICT);
+
     private final FoodRecordRepository foodRecordRepository;
-    private final FoodNutritionRepository foodNutritionRepository;
+    private final FoodNutritionCacheService foodNutritionCacheService;
+    private final DailyNutritionSummaryService dailyNutritionSummaryService;
 
     /**
      * 음식 기록 저장
      * 
+     * 같은 트랜잭션에서 일일 영양 합계에 증가분을 반영합니다.
+     * 
      * @param userId   유저 아이디
      * @param foodId   음식 아이디
      * @param foodName 음식명
      * @return 저장된 음식 기록
      */
+    @Timed("food.record")
     @Transactional
     public FoodRecord saveFoodRecord(String userId, Long foodId, String foodName) {
-        log.info("음식 기록 저장 시작: userId={}, foodId={}, foodName={}", userId, foodId, foodName);
+        log.debug("음식 기록 저장 시작: userId={}, foodId={}, foodName={}", userId, foodId, foodName);
 
         try {
-            // 오늘 날짜 (YYYYMMDD)
-            String recordDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-            // 음식 기록 생성
+            // 음식 기록 생성 (오늘 날짜)
             FoodRecord foodRecord = FoodRecord.builder()
-                    .recordDate(recordDate)
+                    .recordDt(LocalDate.now())
                     .userId(userId)
                     .foodId(foodId)
                     .foodList(foodName)
                     .build();
 
             FoodRecord saved = foodRecordRepository.save(foodRecord);
-            log.info("음식 기록 저장 완료: recordId={}", saved.getRecordId());
+            dailyNutritionSummaryService.addRecord(userId, saved.getRecordDate(), findNutrition(foodId));
+            log.info("음식 기록 저장 완료: userId={}, recordId={}", userId, saved.getRecordId());
 
             return saved;
         } catch (Exception e) {
@@ -59,18 +83,114 @@ public class FoodRecordService {
         }
     }
 
+    /**
+     * 음식 기록 일괄 저장 (한 끼 식사, 오프라인 동기화)
+     * 
+     * 한 트랜잭션에서 저장하며, 기록 ID를 시퀀스에서 미리 할당받으므로 INSERT는 JDBC 배치로 전송됩니다.
+     * 일일 영양 합계는 날짜별로 합산하여 한 번씩만 반영합니다.
+     * 
+     * @param userId 유저 아이디
+     * @param items  저장할 기록 (최대 {@value #MAX_BATCH_SIZE}건)
+     * @return 저장된 음식 기록 (요청 순서)
+     */
+    @Timed("food.record")
+    @Transactional
+    public List<FoodRecord> saveFoodRecords(String userId, List<FoodRecordRequestDto> items) {
+        List<LocalDate> recordDates = validateBatch(items);
+        log.debug("음식 기록 일괄 저장 시작: userId={}, count={}", userId, items.size());
+
+        try {
+            List<FoodRecord> records = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                FoodRecordRequestDto item = items.get(i);
+                records.add(FoodRecord.builder()
+                        .recordDt(recordDates.get(i))
+                        .userId(userId)
+                        .foodId(item.getFoodId())
+                        .foodList(item.getFoodName())
+                        .build());
+            }
+
+            List<FoodRecord> saved = foodRecordRepository.saveAll(records);
+
+            Map<Long, FoodNutrition> nutritionMap = findNutritionMap(saved);
+            Map<String, List<FoodNutrition>> nutritionsByDate = new TreeMap<>();
+            for (FoodRecord record : saved) {
+                nutritionsByDate.computeIfAbsent(record.getRecordDate(), date -> new ArrayList<>())
+                        .add(nutritionMap.get(record.getFoodId()));
+            }
+            nutritionsByDate.forEach((recordDate, nutritions) ->
+                    dailyNutritionSummaryService.addRecords(userId, recordDate, nutritions));
+
+            log.info("음식 기록 일괄 저장 완료: userId={}, count={}, dates={}", userId, saved.size(), nutritionsByDate.size());
+
+            return saved;
+        } catch (Exception e) {
+            log.error("음식 기록 일괄 저장 실패: userId={}, count={}", userId, items.size(), e);
+            throw new RuntimeException("음식 기록 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 일괄 저장 요청 검증
+     * 
+     * @param items 저장할 기록
+     * @return 기록별 날짜 (요청 순서, 날짜가 없으면 오늘)
+     */
+    private static List<LocalDate> validateBatch(List<FoodRecordRequestDto> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("저장할 음식 기록이 없습니다.");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 저장할 수 있습니다.");
+        }
+        LocalDate today = LocalDate.now();
+        List<LocalDate> recordDates = new ArrayList<>(items.size());
+        for (FoodRecordRequestDto item : items) {
+            if (item.getFoodName() == null || item.getFoodName().isBlank()) {
+                throw new IllegalArgumentException("음식명이 없는 기록이 있습니다.");
+            }
+            if (item.getRecordDate() == null) {
+                recordDates.add(today);
+                continue;
+            }
+            LocalDate date = parseRecordDate(item.getRecordDate());
+            if (date.isAfter(today)) {
+                throw new IllegalArgumentException("미래 날짜는 기록할 수 없습니다: " + item.getRecordDate());
+            }
+            recordDates.add(date);
+        }
+        return recordDates;
+    }
+
+    /**
+     * YYYYMMDD 날짜 문자열 변환
+     * 
+     * @param recordDate 날짜 (YYYYMMDD)
+     * @return 날짜
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    private static LocalDate parseRecordDate(String recordDate) {
+        try {
+            return LocalDate.parse(recordDate, RECORD_DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다 (YYYYMMDD): " + recordDate);
+        }
+    }
+
     /**
      * 특정 날짜의 음식 기록 조회
      * 
      * @param recordDate 조회할 날짜 (YYYYMMDD)
      * @return 음식 기록 리스트
      */
+    @Timed("food.record")
     @Transactional(readOnly = true)
     public List<FoodRecord> getFoodRecordsByDate(String recordDate) {
-        log.info("음식 기록 조회: recordDate={}", recordDate);
+        log.debug("음식 기록 조회: recordDate={}", recordDate);
 
         try {
-            return foodRecordRepository.findByRecordDate(recordDate);
+            return foodRecordRepository.findByRecordDt(parseRecordDate(recordDate));
         } catch (Exception e) {
             log.error("음식 기록 조회 실패: recordDate={}", recordDate, e);
             throw new RuntimeException("음식 기록 조회 중 오류가 발생했습니다.", e);
@@ -83,16 +203,14 @@ public class FoodRecordService {
      * @param userId 유저 아이디
      * @return 오늘의 음식 기록 리스트
      */
+    @Timed("food.record")
     @Transactional(readOnly = true)
     public List<FoodRecord> getTodayFoodRecords(String userId) {
-        log.info("오늘의 음식 기록 조회: userId={}", userId);
+        log.debug("오늘의 음식 기록 조회: userId={}", userId);
 
         try {
-            // 오늘 날짜 (YYYYMMDD)
-            String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-            List<FoodRecord> records = foodRecordRepository.findByUserIdAndRecordDate(userId, today);
-            log.info("오늘의 음식 기록 조회 완료: userId={}, count={}", userId, records.size());
+            List<FoodRecord> records = foodRecordRepository.findByUserIdAndRecordDt(userId, LocalDate.now());
+            log.debug("오늘의 음식 기록 조회 완료: userId={}, count={}", userId, records.size());
 
             return records;
         } catch (Exception e) {
@@ -107,49 +225,110 @@ public class FoodRecordService {
      * @param userId 유저 아이디
      * @return 오늘의 음식 기록 DTO 리스트 (영양 정보 포함)
      */
+    @Timed("food.record")
     @Transactional(readOnly = true)
     public List<FoodRecordResponseDto> getTodayFoodRecordsWithNutrition(String userId) {
-        log.info("오늘의 음식 기록 조회 (영양 정보 포함): userId={}", userId);
+        return getFoodRecordsWithNutrition(userId, LocalDate.now().format(RECORD_DATE_FORMAT));
+    }
+
+    /**
+     * 특정 사용자의 특정 날짜 음식 기록 조회 (영양 정보 포함)
+     * 
+     * @param userId     유저 아이디
+     * @param recordDate 조회할 날짜 (YYYYMMDD)
+     * @return 음식 기록 DTO 리스트 (영양 정보 포함)
+     */
+    @Timed("food.record")
+    @Transactional(readOnly = true)
+    public List<FoodRecordResponseDto> getFoodRecordsWithNutrition(String userId, String recordDate) {
+        log.debug("음식 기록 조회 (영양 정보 포함): userId={}, recordDate={}", userId, recordDate);
 
         try {
-            // 오늘 날짜 (YYYYMMDD)
-            String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            List<FoodRecord> records = foodRecordRepository.findByUserIdAndRecordDt(userId, parseRecordDate(recordDate));
+            log.debug("음식 기록 조회 완료: userId={}, recordDate={}, count={}", userId, recordDate, records.size());
 
-            List<FoodRecord> records = foodRecordRepository.findByUserIdAndRecordDate(userId, today);
-            log.info("오늘의 음식 기록 조회 완료: userId={}, count={}", userId, records.size());
+            // 영양 정보는 캐시 또는 한 번의 IN 조회로 가져온 뒤 매핑 (레코드 수만큼 조회하지 않도록)
+            Map<Long, FoodNutrition> nutritionMap = findNutritionMap(records);
 
-            // FoodRecord를 DTO로 변환하면서 영양 정보 추가
             return records.stream()
-                    .map(record -> {
-                        FoodNutrition nutrition = foodNutritionRepository.findById(record.getFoodId())
-                                .orElse(null);
-
-                        return FoodRecordResponseDto.builder()
-                                .recordId(record.getRecordId())
-                                .foodId(record.getFoodId())
-                                .foodName(record.getFoodList())
-                                .calories(nutrition != null ? nutrition.getCalories() : BigDecimal.ZERO)
-                                .protein(nutrition != null ? nutrition.getProtein() : BigDecimal.ZERO)
-                                .build();
-                    })
+                    .map(record -> toResponseDto(record, nutritionMap.get(record.getFoodId())))
                     .collect(Collectors.toList());
         } catch (Exception e) {
-            log.error("오늘의 음식 기록 조회 실패 (영양 정보 포함): userId={}", userId, e);
-            throw new RuntimeException("오늘의 음식 기록 조회 중 오류가 발생했습니다.", e);
+            log.error("음식 기록 조회 실패 (영양 정보 포함): userId={}, recordDate={}", userId, recordDate, e);
+            throw new RuntimeException("음식 기록 조회 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * 음식 기록들의 영양 정보를 일괄 조회
+     * 
+     * 캐시에 없는 식품만 한 번의 IN 조회로 가져옵니다.
+     * 
+     * @param records 음식 기록 리스트
+     * @return 음식 ID별 영양 정보
+     */
+    private Map<Long, FoodNutrition> findNutritionMap(List<FoodRecord> records) {
+        Set<Long> foodIds = records.stream()
+                .map(FoodRecord::getFoodId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (foodIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return foodNutritionCacheService.findAllByIds(foodIds).stream()
+                .collect(Collectors.toMap(FoodNutrition::getFoodId, Function.identity()));
+    }
+
+    /**
+     * 음식 ID로 영양 정보 조회 (캐시)
+     * 
+     * @param foodId 음식 ID (null 가능)
+     * @return 영양 정보 (없으면 null)
+     */
+    private FoodNutrition findNutrition(Long foodId) {
+        return foodId != null ? foodNutritionCacheService.findById(foodId).orElse(null) : null;
+    }
+
+    /**
+     * 음식 기록을 응답 DTO로 변환
+     * 
+     * @param record    음식 기록
+     * @param nutrition 영양 정보 (없으면 null)
+     * @return 음식 기록 응답 DTO
+     */
+    static FoodRecordResponseDto toResponseDto(FoodRecord record, FoodNutrition nutrition) {
+        return FoodRecordResponseDto.builder()
+                .recordId(record.getRecordId())
+                .foodId(record.getFoodId())
+                .foodName(record.getFoodList())
+                .calories(nutrition != null ? nutrition.getCalories() : BigDecimal.ZERO)
+                .carbohydrate(nutrition != null ? nutrition.getCarbohydrate() : BigDecimal.ZERO)
+                .protein(nutrition != null ? nutrition.getProtein() : BigDecimal.ZERO)
+                .fat(nutrition != null ? nutrition.getFat() : BigDecimal.ZERO)
+                .sodium(nutrition != null ? nutrition.getSodium() : BigDecimal.ZERO)
+                .build();
+    }
+
     /**
      * 음식 기록 삭제
      * 
+     * 같은 트랜잭션에서 일일 영양 합계에 감소분을 반영합니다.
+     * 
      * @param recordId 기록 ID
      */
+    @Timed("food.record")
     @Transactional
     public void deleteFoodRecord(Long recordId) {
-        log.info("음식 기록 삭제: recordId={}", recordId);
+        log.debug("음식 기록 삭제: recordId={}", recordId);
 
         try {
-            foodRecordRepository.deleteById(recordId);
+            foodRecordRepository.findById(recordId).ifPresent(record -> {
+                foodRecordRepository.delete(record);
+                dailyNutritionSummaryService.removeRecord(record.getUserId(), record.getRecordDate(),
+                        findNutrition(record.getFoodId()));
+            });
             log.info("음식 기록 삭제 완료: recordId={}", recordId);
         } catch (Exception e) {
             log.error("음식 기록 삭제 실패: recordId={}", recordId, e);
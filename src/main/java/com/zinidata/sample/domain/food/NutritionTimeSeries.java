@@ -0,0 +1,129 @@
+package com.zinidata.sample.domain.food;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 사용자 한 명의 일별 영양 합계 시계열 (열 지향)
+ *
+ * 영양소마다 double 배열 하나를 두고 epoch day - startEpochDay 위치에 값을 저장합니다.
+ * 기간 합계는 배열 구간을 순서대로 더하기만 하므로 객체 생성이나 조회 없이 계산됩니다.
+ *
+ * 적재 후에는 읽기 전용으로 사용합니다 (여러 스레드에서 동시에 읽어도 안전).
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public final class NutritionTimeSeries {
+
+    /**
+     * 영양소 (배열 열 순서)
+     */
+    public enum Nutrient {
+        CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM
+    }
+
+    private static final int NUTRIENT_COUNT = Nutrient.values().length;
+
+    private final long startEpochDay;
+    private final double[][] columns;
+    private final int[] itemCounts;
+
+    /**
+     * @param startDate 첫 날짜
+     * @param days      일수
+     */
+    public NutritionTimeSeries(LocalDate startDate, int days) {
+        this.startEpochDay = startDate.toEpochDay();
+        this.columns = new double[NUTRIENT_COUNT][days];
+        this.itemCounts = new int[days];
+    }
+
+    /**
+     * 하루 값 설정 (적재 시에만 사용)
+     */
+    void set(LocalDate date, double calories, double carbohydrate, double protein, double fat, double sodium,
+             int itemCount) {
+        int index = indexOf(date.toEpochDay());
+        if (index < 0 || index >= itemCounts.length) {
+            return;
+        }
+        columns[Nutrient.CALORIES.ordinal()][index] = calories;
+        columns[Nutrient.CARBOHYDRATE.ordinal()][index] = carbohydrate;
+        columns[Nutrient.PROTEIN.ordinal()][index] = protein;
+        columns[Nutrient.FAT.ordinal()][index] = fat;
+        columns[Nutrient.SODIUM.ordinal()][index] = sodium;
+        itemCounts[index] = itemCount;
+    }
+
+    public LocalDate getStartDate() {
+        return LocalDate.ofEpochDay(startEpochDay);
+    }
+
+    public LocalDate getEndDate() {
+        return LocalDate.ofEpochDay(startEpochDay + itemCounts.length - 1);
+    }
+
+    /**
+     * 기간이 시계열 범위 안에 있는지 확인
+     */
+    public boolean covers(LocalDate from, LocalDate to) {
+        return indexOf(from.toEpochDay()) >= 0 && indexOf(to.toEpochDay()) < itemCounts.length;
+    }
+
+    /**
+     * 기간의 일별 값 (from~to, 양끝 포함)
+     */
+    public double[] daily(Nutrient nutrient, LocalDate from, LocalDate to) {
+        int start = checkedIndex(from);
+        int end = checkedIndex(to);
+        return Arrays.copyOfRange(columns[nutrient.ordinal()], start, end + 1);
+    }
+
+    /**
+     * 기간 합계 (from~to, 양끝 포함)
+     */
+    public double sum(Nutrient nutrient, LocalDate from, LocalDate to) {
+        int start = checkedIndex(from);
+        int end = checkedIndex(to);
+        double[] column = columns[nutrient.ordinal()];
+        double total = 0;
+        for (int i = start; i <= end; i++) {
+            total += column[i];
+        }
+        return total;
+    }
+
+    /**
+     * 기간 중 기록이 있는 날짜 수
+     */
+    public int recordedDays(LocalDate from, LocalDate to) {
+        int start = checkedIndex(from);
+        int end = checkedIndex(to);
+        int count = 0;
+        for (int i = start; i <= end; i++) {
+            if (itemCounts[i] > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (bytes, 배열 데이터 기준)
+     */
+    public long estimatedBytes() {
+        return (long) itemCounts.length * (NUTRIENT_COUNT * Double.BYTES + Integer.BYTES);
+    }
+
+    private int indexOf(long epochDay) {
+        return (int) (epochDay - startEpochDay);
+    }
+
+    private int checkedIndex(LocalDate date) {
+        int index = indexOf(date.toEpochDay());
+        if (index < 0 || index >= itemCounts.length) {
+            throw new IllegalArgumentException("시계열 범위를 벗어난 날짜입니다: " + date);
+        }
+        return index;
+    }
+}
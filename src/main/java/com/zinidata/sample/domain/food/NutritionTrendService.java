@@ -0,0 +1,151 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.NutritionTrendConfig;
+import com.zinidata.sample.domain.food.NutritionTimeSeries.Nutrient;
+import com.zinidata.sample.domain.food.dto.NutritionTrendDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 영양 추이 서비스
+ *
+ * 사용자별 최근 windowDays일의 일일 합계를 {@link NutritionTimeSeries}로 한 번에 적재해 캐시에 두고,
+ * 7/30/90일 추이는 배열 구간 합으로 계산합니다 (날짜별 조회 없음).
+ *
+ * 시계열은 처음 조회할 때 일일 합계 테이블에서 한 번의 범위 조회로 적재하며,
+ * 캐시 크기를 넘으면 오래 사용하지 않은 사용자부터 제거됩니다.
+ * 음식 기록이 바뀌면 커밋 후 해당 사용자의 시계열을 비우고, 재집계 후에는 전체를 비웁니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Service
+@Slf4j
+public class NutritionTrendService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final DailyNutritionSummaryRepository summaryRepository;
+    private final NutritionTrendConfig config;
+    private final Cache cache;
+    private final Clock clock;
+
+    // 테스트용 Clock 생성자가 따로 있으므로 Spring이 사용할 생성자를 지정
+    @Autowired
+    public NutritionTrendService(DailyNutritionSummaryRepository summaryRepository,
+                                 NutritionTrendConfig config,
+                                 CacheManager cacheManager) {
+        this(summaryRepository, config, cacheManager, Clock.systemDefaultZone());
+    }
+
+    NutritionTrendService(DailyNutritionSummaryRepository summaryRepository,
+                          NutritionTrendConfig config,
+                          CacheManager cacheManager,
+                          Clock clock) {
+        this.summaryRepository = summaryRepository;
+        this.config = config;
+        this.cache = cacheManager.getCache(CacheConfig.NUTRITION_SERIES);
+        this.clock = clock;
+    }
+
+    /**
+     * 최근 N일 영양 추이 조회 (오늘 포함)
+     *
+     * @param userId 유저 아이디
+     * @param days   일수 (1 ~ windowDays)
+     * @return 일별 값과 기간 합계/평균
+     */
+    public NutritionTrendDto getTrend(String userId, int days) {
+        if (days < 1 || days > config.getWindowDays()) {
+            throw new IllegalArgumentException("조회 기간은 1일 이상 " + config.getWindowDays() + "일 이하입니다.");
+        }
+        LocalDate to = LocalDate.now(clock);
+        LocalDate from = to.minusDays(days - 1L);
+        NutritionTimeSeries series = getSeries(userId, to);
+
+        Nutrient[] nutrients = Nutrient.values();
+        int recordedDays = series.recordedDays(from, to);
+        double[] totals = new double[nutrients.length];
+        double[] averages = new double[nutrients.length];
+        for (Nutrient nutrient : nutrients) {
+            double total = series.sum(nutrient, from, to);
+            totals[nutrient.ordinal()] = total;
+            averages[nutrient.ordinal()] = recordedDays > 0 ? total / recordedDays : 0;
+        }
+
+        return NutritionTrendDto.builder()
+                .startDate(from.format(DATE_FORMAT))
+                .endDate(to.format(DATE_FORMAT))
+                .days(days)
+                .recordedDays(recordedDays)
+                .calories(series.daily(Nutrient.CALORIES, from, to))
+                .carbohydrate(series.daily(Nutrient.CARBOHYDRATE, from, to))
+                .protein(series.daily(Nutrient.PROTEIN, from, to))
+                .fat(series.daily(Nutrient.FAT, from, to))
+                .sodium(series.daily(Nutrient.SODIUM, from, to))
+                .totals(totals)
+                .dailyAverages(averages)
+                .build();
+    }
+
+    /**
+     * 특정 사용자의 시계열 제거 (음식 기록 변경 시)
+     *
+     * @param userId 유저 아이디
+     */
+    public void evict(String userId) {
+        cache.evict(userId);
+    }
+
+    /**
+     * 전체 시계열 제거 (일일 합계 재집계 후)
+     */
+    public void evictAll() {
+        cache.clear();
+    }
+
+    /**
+     * 캐시된 시계열 조회 (없거나 날짜가 바뀌어 오늘이 범위 밖이면 다시 적재)
+     */
+    NutritionTimeSeries getSeries(String userId, LocalDate today) {
+        NutritionTimeSeries series = cache.get(userId, () -> load(userId, today));
+        if (series == null || series.getEndDate().isBefore(today)) {
+            // 직접 적재 후 put하면 그 사이 들어온 evict가 유실되므로, 비운 뒤 원자적 적재 경로로 다시 조회
+            cache.evict(userId);
+            series = cache.get(userId, () -> load(userId, today));
+        }
+        return series;
+    }
+
+    private NutritionTimeSeries load(String userId, LocalDate today) {
+        LocalDate start = today.minusDays(config.getWindowDays() - 1L);
+        List<DailyNutritionSummary> rows = summaryRepository.findByUserIdAndRecordDateBetweenOrderByRecordDate(
+                userId, start.format(DATE_FORMAT), today.format(DATE_FORMAT));
+
+        NutritionTimeSeries series = new NutritionTimeSeries(start, config.getWindowDays());
+        for (DailyNutritionSummary row : rows) {
+            series.set(LocalDate.parse(row.getRecordDate(), DATE_FORMAT),
+                    doubleValue(row.getCalories()),
+                    doubleValue(row.getCarbohydrate()),
+                    doubleValue(row.getProtein()),
+                    doubleValue(row.getFat()),
+                    doubleValue(row.getSodium()),
+                    row.getItemCount());
+        }
+        log.debug("영양 시계열 적재: userId={}, rows={}, bytes={}", userId, rows.size(), series.estimatedBytes());
+        return series;
+    }
+
+    private static double doubleValue(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0;
+    }
+}
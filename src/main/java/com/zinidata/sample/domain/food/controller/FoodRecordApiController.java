@@ -1,15 +1,20 @@
 package com.zinidata.sample.domain.food.controller;
 
+import com.zinidata.sample.domain.food.DailyNutritionSummaryService;
 import com.zinidata.sample.domain.food.FoodRecord;
 import com.zinidata.sample.domain.food.FoodRecordService;
+import com.zinidata.sample.domain.food.NutritionTrendService;
+import com.zinidata.sample.domain.food.dto.FoodRecordRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +32,8 @@ import java.util.Map;
 public class FoodRecordApiController {
 
     private final FoodRecordService foodRecordService;
+    private final DailyNutritionSummaryService dailyNutritionSummaryService;
+    private final NutritionTrendService nutritionTrendService;
 
     /**
      * 음식 기록 추가
@@ -49,7 +56,7 @@ public class FoodRecordApiController {
             // 로그인한 사용자 ID 가져오기
             String userId = authentication.getName();
 
-            log.info("음식 기록 추가 요청: userId={}, foodId={}, foodName={}", userId, foodId, foodName);
+            log.debug("음식 기록 추가 요청: userId={}, foodId={}, foodName={}", userId, foodId, foodName);
 
             // 음식 기록 저장
             FoodRecord saved = foodRecordService.saveFoodRecord(userId, foodId, foodName);
@@ -68,6 +75,50 @@ public class FoodRecordApiController {
         return response;
     }
 
+    /**
+     * 음식 기록 일괄 추가
+     * 
+     * 한 끼 식사나 오프라인에서 쌓인 기록을 한 번의 요청/트랜잭션으로 저장합니다.
+     * 
+     * @param items          저장할 기록 (최대 1000건)
+     * @param authentication 인증 정보
+     * @return 응답 데이터 (저장된 기록 ID 목록, 요청 순서)
+     */
+    @Operation(summary = "음식 기록 일괄 추가", description = "여러 음식 기록을 한 번에 추가합니다 (최대 1000건, 날짜 생략 시 오늘)")
+    @PostMapping("/batch")
+    public Map<String, Object> addFoodRecords(
+            @RequestBody List<FoodRecordRequestDto> items,
+            Authentication authentication) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            String userId = authentication.getName();
+
+            log.debug("음식 기록 일괄 추가 요청: userId={}, count={}", userId, items != null ? items.size() : 0);
+
+            List<Long> recordIds = foodRecordService.saveFoodRecords(userId, items).stream()
+                    .map(FoodRecord::getRecordId)
+                    .toList();
+
+            response.put("success", true);
+            response.put("message", recordIds.size() + "건의 음식 기록이 추가되었습니다.");
+            response.put("data", recordIds);
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("data", null);
+        } catch (Exception e) {
+            log.error("음식 기록 일괄 추가 실패", e);
+            response.put("success", false);
+            response.put("message", "음식 기록 추가 중 오류가 발생했습니다.");
+            response.put("data", null);
+        }
+
+        return response;
+    }
+
     /**
      * 오늘의 음식 기록 조회
      * 
@@ -84,7 +135,7 @@ public class FoodRecordApiController {
             // 로그인한 사용자 ID 가져오기
             String userId = authentication.getName();
 
-            log.info("오늘의 음식 기록 조회 요청: userId={}", userId);
+            log.debug("오늘의 음식 기록 조회 요청: userId={}", userId);
 
             // 오늘의 음식 기록 조회 (영양 정보 포함)
             var records = foodRecordService.getTodayFoodRecordsWithNutrition(userId);
@@ -103,6 +154,90 @@ public class FoodRecordApiController {
         return response;
     }
 
+    /**
+     * 기간별 일일 영양 합계 조회
+     * 
+     * 미리 집계된 일일 합계를 날짜별 한 행씩 조회합니다 (주간/월간 화면용).
+     * 
+     * @param from           시작 날짜 (YYYYMMDD, 생략 시 6일 전)
+     * @param to             종료 날짜 (YYYYMMDD, 생략 시 오늘)
+     * @param authentication 인증 정보
+     * @return 응답 데이터
+     */
+    @Operation(summary = "기간별 일일 영양 합계 조회", description = "로그인한 사용자의 날짜별 열량/탄수화물/단백질/지방/나트륨 합계를 조회합니다")
+    @GetMapping("/summary")
+    public Map<String, Object> getDailySummaries(
+            @Parameter(description = "시작 날짜 (YYYYMMDD)") @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate from,
+            @Parameter(description = "종료 날짜 (YYYYMMDD)") @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate to,
+            Authentication authentication) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            String userId = authentication.getName();
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(6);
+
+            log.debug("일일 영양 합계 조회 요청: userId={}, from={}, to={}", userId, start, end);
+
+            response.put("success", true);
+            response.put("message", "조회 성공");
+            response.put("data", dailyNutritionSummaryService.getSummaries(userId, start, end));
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("data", null);
+        } catch (Exception e) {
+            log.error("일일 영양 합계 조회 실패", e);
+            response.put("success", false);
+            response.put("message", "조회 중 오류가 발생했습니다.");
+            response.put("data", null);
+        }
+
+        return response;
+    }
+
+    /**
+     * 최근 N일 영양 추이 조회
+     * 
+     * 사용자별 메모리 시계열에서 일별 값과 기간 합계/평균을 계산합니다 (주간/월간/분기 차트용).
+     * 
+     * @param days           일수 (오늘 포함, 기본 7)
+     * @param authentication 인증 정보
+     * @return 응답 데이터
+     */
+    @Operation(summary = "영양 추이 조회", description = "로그인한 사용자의 최근 N일(7/30/90 등) 열량/탄수화물/단백질/지방/나트륨 추이를 조회합니다")
+    @GetMapping("/trend")
+    public Map<String, Object> getNutritionTrend(
+            @Parameter(description = "일수 (오늘 포함)") @RequestParam(defaultValue = "7") int days,
+            Authentication authentication) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            String userId = authentication.getName();
+
+            log.debug("영양 추이 조회 요청: userId={}, days={}", userId, days);
+
+            response.put("success", true);
+            response.put("message", "조회 성공");
+            response.put("data", nutritionTrendService.getTrend(userId, days));
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            response.put("data", null);
+        } catch (Exception e) {
+            log.error("영양 추이 조회 실패", e);
+            response.put("success", false);
+            response.put("message", "조회 중 오류가 발생했습니다.");
+            response.put("data", null);
+        }
+
+        return response;
+    }
+
     /**
      * 음식 기록 삭제
      * 
@@ -117,7 +252,7 @@ public class FoodRecordApiController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            log.info("음식 기록 삭제 요청: recordId={}", recordId);
+            log.debug("음식 기록 삭제 요청: recordId={}", recordId);
 
             foodRecordService.deleteFoodRecord(recordId);
 
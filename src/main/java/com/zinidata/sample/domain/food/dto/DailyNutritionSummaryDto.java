@@ -0,0 +1,55 @@
+package com.zinidata.sample.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 일일 영양 합계 응답 DTO
+ * 
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyNutritionSummaryDto {
+
+    /**
+     * 날짜 (YYYYMMDD)
+     */
+    private String recordDate;
+
+    /**
+     * 열량 합계 (kcal)
+     */
+    private BigDecimal calories;
+
+    /**
+     * 탄수화물 합계 (g)
+     */
+    private BigDecimal carbohydrate;
+
+    /**
+     * 단백질 합계 (g)
+     */
+    private BigDecimal protein;
+
+    /**
+     * 지방 합계 (g)
+     */
+    private BigDecimal fat;
+
+    /**
+     * 나트륨 합계 (mg)
+     */
+    private BigDecimal sodium;
+
+    /**
+     * 음식 기록 수
+     */
+    private int itemCount;
+}
@@ -0,0 +1,33 @@
+package com.zinidata.sample.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 음식 기록 일괄 추가 요청 항목 DTO
+ * 
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodRecordRequestDto {
+
+    /**
+     * 음식 아이디 (직접 입력한 음식은 null)
+     */
+    private Long foodId;
+
+    /**
+     * 음식명
+     */
+    private String foodName;
+
+    /**
+     * 날짜 (YYYYMMDD, 생략 시 오늘 / 오프라인 동기화 시 먹은 날짜)
+     */
+    private String recordDate;
+}
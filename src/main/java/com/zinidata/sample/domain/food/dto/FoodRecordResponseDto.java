@@ -38,8 +38,23 @@ public class FoodRecordResponseDto {
      */
     private BigDecimal calories;
 
+    /**
+     * 탄수화물 (g)
+     */
+    private BigDecimal carbohydrate;
+
     /**
      * 단백질 (g)
      */
     private BigDecimal protein;
+
+    /**
+     * 지방 (g)
+     */
+    private BigDecimal fat;
+
+    /**
+     * 나트륨 (mg)
+     */
+    private BigDecimal sodium;
 }
@@ -0,0 +1,62 @@
+package com.zinidata.sample.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 식품 검색 결과 항목 DTO
+ * 
+ * 검색 목록 표시와 음식 기록 추가에 필요한 값만 담습니다.
+ * 
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FoodSearchItemDto {
+
+    /**
+     * 식품 ID
+     */
+    private Long foodId;
+
+    /**
+     * 식품명
+     */
+    private String foodName;
+
+    /**
+     * 1회 제공량 (g)
+     */
+    private BigDecimal servingSize;
+
+    /**
+     * 열량 (kcal)
+     */
+    private BigDecimal calories;
+
+    /**
+     * 탄수화물 (g)
+     */
+    private BigDecimal carbohydrate;
+
+    /**
+     * 단백질 (g)
+     */
+    private BigDecimal protein;
+
+    /**
+     * 지방 (g)
+     */
+    private BigDecimal fat;
+
+    /**
+     * 나트륨 (mg)
+     */
+    private BigDecimal sodium;
+}
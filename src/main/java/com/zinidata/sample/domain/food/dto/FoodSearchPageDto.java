@@ -0,0 +1,28 @@
+package com.zinidata.sample.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 식품 검색 결과 페이지 DTO
+ * 
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodSearchPageDto {
+
+    /**
+     * 검색 결과 (관련도순)
+     */
+    private List<FoodSearchItemDto> items;
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,75 @@
+package com.zinidata.sample.domain.food.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영양 추이 응답 DTO
+ * 
+ * 일별 값은 startDate부터 하루씩 배열 순서대로 담습니다 (기록이 없는 날은 0).
+ * 
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NutritionTrendDto {
+
+    /**
+     * 시작 날짜 (YYYYMMDD)
+     */
+    private String startDate;
+
+    /**
+     * 종료 날짜 (YYYYMMDD)
+     */
+    private String endDate;
+
+    /**
+     * 일수
+     */
+    private int days;
+
+    /**
+     * 기록이 있는 날짜 수
+     */
+    private int recordedDays;
+
+    /**
+     * 일별 열량 (kcal)
+     */
+    private double[] calories;
+
+    /**
+     * 일별 탄수화물 (g)
+     */
+    private double[] carbohydrate;
+
+    /**
+     * 일별 단백질 (g)
+     */
+    private double[] protein;
+
+    /**
+     * 일별 지방 (g)
+     */
+    private double[] fat;
+
+    /**
+     * 일별 나트륨 (mg)
+     */
+    private double[] sodium;
+
+    /**
+     * 기간 합계 (calories, carbohydrate, protein, fat, sodium 순)
+     */
+    private double[] totals;
+
+    /**
+     * 기록이 있는 날 기준 하루 평균 (totals와 같은 순서)
+     */
+    private double[] dailyAverages;
+}
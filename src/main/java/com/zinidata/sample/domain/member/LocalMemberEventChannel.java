@@ -0,0 +1,39 @@
+package com.zinidata.sample.domain.member;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 단일 JVM용 회원 이벤트 채널
+ *
+ * 공유 메시징 구현이 없을 때 사용하는 대체 구현으로, 같은 JVM의 구독자에게만 전달합니다.
+ * 공유 메시징 구현을 추가할 때는 이 클래스를 대체(@Primary 또는 제거)합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@Slf4j
+public class LocalMemberEventChannel implements MemberEventChannel {
+
+    private final List<Consumer<MemberEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(MemberEvent event) {
+        for (Consumer<MemberEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.warn("회원 이벤트 처리 실패: type={}", event.getType(), e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<MemberEvent> listener) {
+        listeners.add(listener);
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Convert;
+import com.zinidata.sample.common.converter.EncryptedString;
 import com.zinidata.sample.common.converter.EncryptedStringConverter;
 import java.time.LocalDateTime;
 
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
 @Table(name = "TB_MEMBER")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, MemberChangeListener.class})
 public class Member {
 
     @Id
@@ -32,11 +33,11 @@ public class Member {
 
     @Column(name = "NAME", length = 100, nullable = false)
     @Convert(converter = EncryptedStringConverter.class)
-    private String name;
+    private EncryptedString name;
 
     @Column(name = "BIRTH_DATE", length = 100)
     @Convert(converter = EncryptedStringConverter.class)
-    private String birthDate;
+    private EncryptedString birthDate;
 
     /**
      * 성별 (M:남성, F:여성)
@@ -63,10 +64,33 @@ public class Member {
             String useYn) {
         this.memberId = memberId;
         this.password = password;
-        this.name = name;
-        this.birthDate = birthDate;
+        this.name = EncryptedString.of(name);
+        this.birthDate = EncryptedString.of(birthDate);
         this.gender = gender;
         this.role = role != null ? role : "ROLE_USER";
         this.useYn = useYn != null ? useYn : "Y";
     }
+
+    /**
+     * 비밀번호 변경
+     *
+     * @param encodedPassword 해싱된 비밀번호
+     */
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    /**
+     * 이름 (처음 조회할 때 복호화)
+     */
+    public String getName() {
+        return EncryptedString.reveal(name, "member.name");
+    }
+
+    /**
+     * 생년월일 YYYYMMDD (처음 조회할 때 복호화)
+     */
+    public String getBirthDate() {
+        return EncryptedString.reveal(birthDate, "member.birthDate");
+    }
 }
@@ -0,0 +1,31 @@
+package com.zinidata.sample.domain.member;
+
+import com.zinidata.sample.common.util.TransactionUtil;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 정보 변경을 로그인 사용자 정보 캐시에 반영하는 엔티티 리스너
+ *
+ * 비밀번호, 권한, 사용 여부가 바뀌면 캐시된 사용자 정보를 커밋 이후에 제거합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberChangeListener {
+
+    /** EntityManagerFactory 생성 시점과의 순환 참조를 피하기 위해 지연 조회 */
+    private final ObjectProvider<UserCache> userCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Member member) {
+        String memberId = member.getMemberId();
+        TransactionUtil.afterCommit(() -> userCache.ifAvailable(cache -> cache.removeUserFromCache(memberId)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.zinidata.sample.domain.member;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 노드 간 공유하는 회원 이벤트
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Getter
+@AllArgsConstructor
+public class MemberEvent {
+
+    public enum Type {
+        /** 회원 가입 */
+        ADDED,
+        /** 아이디 필터 재생성 요청 */
+        REBUILD
+    }
+
+    private final Type type;
+
+    /** 회원 ID (REBUILD는 null) */
+    private final String memberId;
+
+    /** 이벤트를 발행한 노드 ID */
+    private final String originNodeId;
+}
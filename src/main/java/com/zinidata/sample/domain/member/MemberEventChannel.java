@@ -0,0 +1,24 @@
+package com.zinidata.sample.domain.member;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 회원 이벤트 전달 채널
+ *
+ * 여러 노드로 운영할 때는 Redis Pub/Sub, Kafka 등 공유 메시징으로 구현합니다.
+ * 발행한 노드 자신도 이벤트를 받을 수 있으므로, 구독자는 originNodeId로 자신의 이벤트를 걸러야 합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+public interface MemberEventChannel {
+
+    /**
+     * 이벤트 발행
+     */
+    void publish(MemberEvent event);
+
+    /**
+     * 이벤트 구독
+     */
+    void subscribe(Consumer<MemberEvent> listener);
+}
@@ -0,0 +1,194 @@
+package com.zinidata.sample.domain.member;
+
+import com.zinidata.sample.common.util.BloomFilter;
+import com.zinidata.sample.config.MemberIdFilterConfig;
+import com.zinidata.sample.dto.MemberIdFilterStatsDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원 아이디 존재 여부 필터 (Bloom 필터)
+ *
+ * 기동 시 전체 회원 아이디로 생성하며, 가입은 커밋 이후 {@link #add(String)}로 반영하고 다른 노드에는 {@link MemberEventChannel}로 전달합니다.
+ * {@link #mightExist(String)}가 false이면 아이디가 확실히 없으므로 DB를 조회하지 않아도 되고,
+ * true이면 (설정한 오탐률 확률로) 없는 아이디일 수도 있으므로 DB로 확인해야 합니다.
+ * 회원 삭제는 반영하지 않으므로, 삭제된 아이디는 재생성 전까지 "있을 수 있음"으로 남습니다 (DB 조회로 정확히 판단).
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberIdFilter {
+
+    private final MemberRepository memberRepository;
+    private final MemberIdFilterConfig config;
+    private final MemberEventChannel eventChannel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** 현재 필터 (null이면 아직 생성 전) */
+    private volatile BloomFilter filter;
+
+    /** 재생성 중 여부 */
+    private volatile boolean rebuilding;
+
+    /** 재생성 도중 반영된 아이디 (DB 조회 시점 이후 커밋된 가입을 새 필터에 다시 반영) */
+    private final Queue<String> pendingAdds = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final LongAdder definiteMissCount = new LongAdder();
+    private final LongAdder fallbackQueryCount = new LongAdder();
+    private final LongAdder falsePositiveCount = new LongAdder();
+
+    @PostConstruct
+    void subscribe() {
+        eventChannel.subscribe(this::onEvent);
+    }
+
+    /**
+     * 기동 완료 시 필터 생성 (비동기, 생성 전에는 DB 조회로 대체)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("회원 아이디 필터 생성 실패 - DB 조회로 대체합니다", e);
+        }
+    }
+
+    /**
+     * 전체 회원 아이디로 필터 재생성
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+
+        BloomFilter next = new BloomFilter(config.getExpectedInsertions(), config.getFalsePositiveRate());
+        // DB 조회 중 가상 스레드가 캐리어 스레드를 점유하지 않도록 synchronized 대신 ReentrantLock 사용
+        rebuildLock.lock();
+        try {
+            pendingAdds.clear();
+            rebuilding = true;
+            memberRepository.findAllMemberIds().forEach(next::put);
+            drainPendingAdds(next);
+            filter = next;
+            rebuilding = false;
+            // 교체 직전에 이전 필터에만 반영된 아이디
+            drainPendingAdds(next);
+        } finally {
+            rebuilding = false;
+            rebuildLock.unlock();
+        }
+        log.info("회원 아이디 필터 생성 완료: count={}, bits={}, hashes={}, expectedFpp={}, elapsed={}ms",
+                next.getInsertions(), next.getBitSize(), next.getHashCount(),
+                String.format("%.5f", next.expectedFalsePositiveRate()), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 전체 노드에 재생성 요청 (자신 포함)
+     */
+    public void rebuildAll() {
+        rebuild();
+        eventChannel.publish(new MemberEvent(MemberEvent.Type.REBUILD, null, nodeId));
+    }
+
+    /**
+     * 가입한 회원 아이디 반영 (다른 노드에도 전달)
+     *
+     * 가입 트랜잭션이 커밋된 이후에 호출해야 합니다. 커밋 전에 호출하면 그 사이 시작된 재생성의 DB 조회에 아이디가 빠져
+     * 사용 중인 아이디를 "확실히 없음"으로 판단할 수 있습니다.
+     */
+    public void add(String memberId) {
+        addLocally(memberId);
+        eventChannel.publish(new MemberEvent(MemberEvent.Type.ADDED, memberId, nodeId));
+    }
+
+    /**
+     * 아이디 존재 가능성 확인
+     *
+     * @return false이면 확실히 없음, true이면 DB 확인 필요 (필터 생성 전에도 true)
+     */
+    public boolean mightExist(String memberId) {
+        BloomFilter current = filter;
+        if (!config.isEnabled() || current == null) {
+            return true;
+        }
+        if (!current.mightContain(memberId)) {
+            definiteMissCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * "있을 수 있음" 판단 후 DB 확인 결과 기록 (오탐률 측정용)
+     */
+    public void recordFallback(boolean exists) {
+        fallbackQueryCount.increment();
+        if (!exists) {
+            falsePositiveCount.increment();
+        }
+    }
+
+    /**
+     * 통계 조회
+     */
+    public MemberIdFilterStatsDto getStats() {
+        BloomFilter current = filter;
+        return new MemberIdFilterStatsDto(
+                current != null,
+                current != null ? current.getInsertions() : 0,
+                current != null ? current.getBitSize() : 0,
+                current != null ? current.getHashCount() : 0,
+                config.getFalsePositiveRate(),
+                current != null ? current.expectedFalsePositiveRate() : 0,
+                definiteMissCount.sum(),
+                fallbackQueryCount.sum(),
+                falsePositiveCount.sum());
+    }
+
+    private void onEvent(MemberEvent event) {
+        if (nodeId.equals(event.getOriginNodeId())) {
+            return;
+        }
+        switch (event.getType()) {
+            case ADDED -> addLocally(event.getMemberId());
+            case REBUILD -> rebuild();
+        }
+    }
+
+    private void addLocally(String memberId) {
+        // 재생성 중이면 먼저 기록해 두고 (새 필터 교체 후 다시 반영), 그다음 현재 필터에 반영
+        if (rebuilding) {
+            pendingAdds.add(memberId);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(memberId);
+        }
+    }
+
+    private void drainPendingAdds(BloomFilter target) {
+        String memberId;
+        while ((memberId = pendingAdds.poll()) != null) {
+            target.put(memberId);
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.zinidata.sample.domain.member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, String> {
     Optional<Member> findByMemberId(String memberId);
 
     boolean existsByMemberId(String memberId);
+
+    @Query("select m.memberId from Member m")
+    List<String> findAllMemberIds();
 }
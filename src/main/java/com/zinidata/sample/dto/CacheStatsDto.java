@@ -0,0 +1,45 @@
+package com.zinidata.sample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시 통계 응답 DTO
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class CacheStatsDto {
+
+    /**
+     * 캐시명
+     */
+    private String name;
+
+    /**
+     * 현재 항목 수 (추정치)
+     */
+    private long size;
+
+    /**
+     * 적중 횟수
+     */
+    private long hitCount;
+
+    /**
+     * 미스 횟수
+     */
+    private long missCount;
+
+    /**
+     * 적중률 (0.0 ~ 1.0)
+     */
+    private double hitRate;
+
+    /**
+     * 크기/TTL에 의한 제거 횟수
+     */
+    private long evictionCount;
+}
@@ -0,0 +1,35 @@
+package com.zinidata.sample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI 채팅 스트림 접속 정보 응답 DTO
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class ChatTokenDto {
+
+    /**
+     * 스트림 접속 토큰
+     */
+    private String token;
+
+    /**
+     * 스트림 주소 (null이면 기존 엔드포인트 /api/gemini/chat/stream 사용)
+     */
+    private String streamUrl;
+
+    /**
+     * 오늘 식단 분석 스트림 주소 (null이면 기존 엔드포인트 /api/gemini/analyze/today 사용)
+     */
+    private String analyzeUrl;
+
+    /**
+     * 토큰 유효 시간 (초)
+     */
+    private long expiresIn;
+}
@@ -0,0 +1,55 @@
+package com.zinidata.sample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 식품 영양 정보 일괄 적재 진행 상태 응답 DTO
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class FoodImportStatusDto {
+
+    /**
+     * 진행 중 여부
+     */
+    private boolean running;
+
+    /**
+     * 파일명
+     */
+    private String fileName;
+
+    /**
+     * 적재 방식 (COPY, BATCH)
+     */
+    private String method;
+
+    /**
+     * 적재한 행 수
+     */
+    private long loadedRows;
+
+    /**
+     * 건너뛴 행 수 (필수값 누락, 숫자 형식 오류)
+     */
+    private long skippedRows;
+
+    /**
+     * 경과 시간 (ms)
+     */
+    private long elapsedMs;
+
+    /**
+     * 초당 적재 행 수
+     */
+    private double rowsPerSecond;
+
+    /**
+     * 실패 메시지 (성공 또는 진행 중이면 null)
+     */
+    private String error;
+}
@@ -0,0 +1,90 @@
+package com.zinidata.sample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Gemini 응답 캐시 통계 응답 DTO
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class GeminiCacheStatsDto {
+
+    /**
+     * 캐시 키 방식 (EXACT, SHINGLE)
+     */
+    private String mode;
+
+    /**
+     * 항목 수
+     */
+    private int entryCount;
+
+    /**
+     * 저장된 응답 크기 합계 (bytes)
+     */
+    private long totalBytes;
+
+    /**
+     * 적중 횟수 (유사 적중 포함)
+     */
+    private long hitCount;
+
+    /**
+     * 유사도 기반 적중 횟수
+     */
+    private long similarHitCount;
+
+    /**
+     * 미스 횟수
+     */
+    private long missCount;
+
+    /**
+     * 크기/TTL에 의한 제거 횟수
+     */
+    private long evictionCount;
+
+    /**
+     * 항목별 통계 (적중 횟수 내림차순)
+     */
+    private List<Entry> entries;
+
+    /**
+     * 항목별 통계
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+
+        /**
+         * 정규화된 프롬프트 (앞부분)
+         */
+        private String prompt;
+
+        /**
+         * 응답 청크 수
+         */
+        private int chunkCount;
+
+        /**
+         * 응답 크기 (bytes)
+         */
+        private long bytes;
+
+        /**
+         * 적중 횟수
+         */
+        private long hitCount;
+
+        /**
+         * 저장 후 경과 시간 (초)
+         */
+        private long ageSeconds;
+    }
+}
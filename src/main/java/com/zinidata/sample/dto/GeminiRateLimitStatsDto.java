@@ -0,0 +1,55 @@
+package com.zinidata.sample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Gemini 호출량 제한 통계 응답 DTO
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class GeminiRateLimitStatsDto {
+
+    /**
+     * 현재 대기 중인 요청 수
+     */
+    private int queued;
+
+    /**
+     * 허용된 요청 수
+     */
+    private long grantedCount;
+
+    /**
+     * 대기열 초과 또는 대기 시간 초과로 거절된 요청 수
+     */
+    private long shedCount;
+
+    /**
+     * 진행 중인 동일 요청에 합류한 요청 수
+     */
+    private long coalescedCount;
+
+    /**
+     * 평균 대기 시간 (ms)
+     */
+    private double averageWaitMillis;
+
+    /**
+     * 최대 대기 시간 (ms)
+     */
+    private double maxWaitMillis;
+
+    /**
+     * 남은 요청 수 (현재 버킷)
+     */
+    private double availableRequests;
+
+    /**
+     * 남은 토큰 수 (현재 버킷)
+     */
+    private double availableTokens;
+}
@@ -0,0 +1,60 @@
+package com.zinidata.sample.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 아이디 필터 통계 응답 DTO
+ *
+ * @author NICE ZiniData 개발팀
+ * @since 1.0
+ */
+@Getter
+@AllArgsConstructor
+public class MemberIdFilterStatsDto {
+
+    /**
+     * 필터 생성 여부 (false이면 모든 확인을 DB로 처리)
+     */
+    private boolean ready;
+
+    /**
+     * 필터에 추가된 아이디 수
+     */
+    private long insertions;
+
+    /**
+     * 비트 수
+     */
+    private long bitSize;
+
+    /**
+     * 해시 함수 수
+     */
+    private int hashCount;
+
+    /**
+     * 설정한 목표 오탐률
+     */
+    private double configuredFalsePositiveRate;
+
+    /**
+     * 현재 아이디 수 기준 오탐률 추정치
+     */
+    private double expectedFalsePositiveRate;
+
+    /**
+     * DB 조회 없이 "사용 가능"으로 응답한 횟수
+     */
+    private long definiteMissCount;
+
+    /**
+     * "있을 수 있음"으로 판단하여 DB를 조회한 횟수
+     */
+    private long fallbackQueryCount;
+
+    /**
+     * DB 조회 결과 실제로는 없었던 횟수 (오탐)
+     */
+    private long falsePositiveCount;
+}
@@ -0,0 +1,106 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.ChatServerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Base64;
+
+/**
+ * AI 채팅 스트림 접속 토큰 서비스
+ *
+ * 전용 스트리밍 서버는 Tomcat 세션을 공유하지 않으므로, 로그인 사용자가 MVC에서 짧은 유효 시간의 토큰을 발급받아
+ * 스트림 접속 시 전달합니다. 토큰 형식: base64url(사용자ID).만료시각(epoch ms).base64url(HMAC-SHA256)
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Service
+@Slf4j
+public class ChatTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final ChatServerConfig config;
+    private final Clock clock;
+
+    public ChatTokenService(ChatServerConfig config) {
+        this.config = config;
+        this.clock = Clock.systemUTC();
+        this.key = new SecretKeySpec(secretOf(config.getTokenSecret()), ALGORITHM);
+    }
+
+    /**
+     * 토큰 발급
+     *
+     * @param userId 로그인 사용자 ID
+     * @return 접속 토큰
+     */
+    public String issue(String userId) {
+        long expiresAt = clock.millis() + config.getTokenTtl().toMillis();
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(userId.getBytes(StandardCharsets.UTF_8))
+                + "." + expiresAt;
+        return payload + "." + sign(payload);
+    }
+
+    /**
+     * 토큰 검증
+     *
+     * @param token 접속 토큰
+     * @return 사용자 ID (위조/만료/형식 오류이면 null)
+     */
+    public String verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        int signatureStart = token.lastIndexOf('.');
+        int expiryStart = signatureStart > 0 ? token.lastIndexOf('.', signatureStart - 1) : -1;
+        if (expiryStart <= 0) {
+            return null;
+        }
+
+        String payload = token.substring(0, signatureStart);
+        byte[] expected = sign(payload).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = token.substring(signatureStart + 1).getBytes(StandardCharsets.US_ASCII);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(token.substring(expiryStart + 1, signatureStart));
+            if (clock.millis() > expiresAt) {
+                return null;
+            }
+            return new String(Base64.getUrlDecoder().decode(token.substring(0, expiryStart)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("채팅 토큰 서명 실패", e);
+        }
+    }
+
+    private static byte[] secretOf(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured.getBytes(StandardCharsets.UTF_8);
+        }
+        log.info("chat.server.token-secret 미설정 - 임의 키를 생성합니다 (재기동 시 기존 토큰 무효)");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -6,14 +6,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
 
@@ -28,4 +30,17 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .roles(member.getRole() != null ? member.getRole().replace("ROLE_", "") : "USER")
                 .build();
     }
+
+    /**
+     * 로그인 성공 시 BCrypt cost가 설정값과 다르면 새 해시로 교체
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        memberRepository.findByMemberId(user.getUsername()).ifPresent(member -> {
+            member.changePassword(newPassword);
+            log.info("비밀번호 재해싱: memberId={}", member.getMemberId());
+        });
+        return User.withUserDetails(user).password(newPassword).build();
+    }
 }
@@ -0,0 +1,173 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.domain.food.FoodRecordService;
+import com.zinidata.sample.domain.food.dto.FoodRecordResponseDto;
+import com.zinidata.sample.dto.MemberInfoDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * AI 식단 분석 컨텍스트 서비스
+ *
+ * 사용자의 하루 음식 기록(영양 정보, 합계)과 나이/성별을 짧은 구조화 텍스트로 만들어,
+ * 한 번의 Gemini 호출로 하루 식단을 분석하도록 합니다.
+ * 컨텍스트는 사용자/날짜별로 캐시하며, 음식 기록이 바뀌면 FoodRecordChangeListener가 비웁니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DietContextService {
+
+    /** 오늘 기록이 없을 때 안내 문구 */
+    public static final String NO_RECORDS_MESSAGE = "오늘 기록된 음식이 없습니다. 먹은 음식을 먼저 추가해주세요.";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /** 컨텍스트 뒤에 붙이는 분석 요청 (문구를 바꾸면 응답 캐시 키도 바뀜) */
+    private static final String ANALYSIS_INSTRUCTION = """
+            위 식단을 두 가지 관점에서 평가하고 조언해주세요.
+            1. 균형잡힌 식사: 부족하거나 과한 영양소, 개선 방향, 추가하면 좋을 음식
+            2. 다이어트 식사: 체중 감량 시 문제점, 개선 방향, 대체할 저칼로리 음식
+            각 관점에서 음식 메뉴를 3가지 이상 영양소 정보와 함께 추천해주세요.""";
+
+    private final FoodRecordService foodRecordService;
+    private final MemberService memberService;
+    private final CacheManager cacheManager;
+
+    /**
+     * 오늘 식단 분석 요청 프롬프트 (컨텍스트 + 분석 요청)
+     *
+     * @param userId 회원 아이디
+     * @return 프롬프트 (오늘 기록이 없으면 empty)
+     */
+    public Optional<String> getTodayAnalysisPrompt(String userId) {
+        String context = getContext(userId, LocalDate.now().format(DATE_FORMAT));
+        return context.isEmpty() ? Optional.empty() : Optional.of(context + "\n" + ANALYSIS_INSTRUCTION);
+    }
+
+    /**
+     * 사용자/날짜별 식단 컨텍스트 조회 (캐시)
+     *
+     * @param userId     회원 아이디
+     * @param recordDate 날짜 (YYYYMMDD)
+     * @return 컨텍스트 (기록이 없으면 빈 문자열)
+     */
+    public String getContext(String userId, String recordDate) {
+        Cache cache = cacheManager.getCache(CacheConfig.DIET_CONTEXT);
+        if (cache == null) {
+            return loadContext(userId, recordDate);
+        }
+        // 같은 키의 동시 요청은 한 번만 조회하며, 조회 중에 들어온 무효화는 조회가 끝난 뒤 적용됨
+        return cache.get(keyOf(userId, recordDate), () -> loadContext(userId, recordDate));
+    }
+
+    /**
+     * 사용자/날짜별 컨텍스트 캐시 무효화
+     *
+     * @param userId     회원 아이디
+     * @param recordDate 날짜 (YYYYMMDD)
+     */
+    public void evict(String userId, String recordDate) {
+        Cache cache = cacheManager.getCache(CacheConfig.DIET_CONTEXT);
+        if (cache != null) {
+            cache.evict(keyOf(userId, recordDate));
+        }
+    }
+
+    private String loadContext(String userId, String recordDate) {
+        List<FoodRecordResponseDto> records = foodRecordService.getFoodRecordsWithNutrition(userId, recordDate);
+        if (records.isEmpty()) {
+            return "";
+        }
+        MemberInfoDto memberInfo = memberService.getMemberInfo(userId);
+        String context = buildContext(memberInfo, recordDate, records);
+        log.debug("식단 컨텍스트 생성: userId={}, recordDate={}, records={}, length={}",
+                userId, recordDate, records.size(), context.length());
+        return context;
+    }
+
+    /**
+     * 컨텍스트 텍스트 생성
+     *
+     * <pre>
+     * [사용자] 34세 남성
+     * [식단 20261017] 음식: 열량kcal/탄수화물g/단백질g/지방g/나트륨mg
+     * - 김치찌개: 250/12/15/14/1200
+     * [합계] 250/12/15/14/1200
+     * </pre>
+     */
+    static String buildContext(MemberInfoDto memberInfo, String recordDate, List<FoodRecordResponseDto> records) {
+        StringBuilder sb = new StringBuilder(64 + records.size() * 32);
+        sb.append("[사용자] ");
+        if (memberInfo.getAge() != null) {
+            sb.append(memberInfo.getAge()).append("세 ");
+        }
+        sb.append(memberInfo.getGenderName()).append('\n');
+        sb.append("[식단 ").append(recordDate).append("] 음식: 열량kcal/탄수화물g/단백질g/지방g/나트륨mg\n");
+
+        for (FoodRecordResponseDto record : records) {
+            sb.append("- ").append(record.getFoodName()).append(": ");
+            appendNutrients(sb, record.getCalories(), record.getCarbohydrate(), record.getProtein(),
+                    record.getFat(), record.getSodium());
+            sb.append('\n');
+        }
+
+        sb.append("[합계] ");
+        appendNutrients(sb,
+                sum(records, FoodRecordResponseDto::getCalories),
+                sum(records, FoodRecordResponseDto::getCarbohydrate),
+                sum(records, FoodRecordResponseDto::getProtein),
+                sum(records, FoodRecordResponseDto::getFat),
+                sum(records, FoodRecordResponseDto::getSodium));
+        sb.append('\n');
+        return sb.toString();
+    }
+
+    private static void appendNutrients(StringBuilder sb, BigDecimal calories, BigDecimal carbohydrate,
+                                        BigDecimal protein, BigDecimal fat, BigDecimal sodium) {
+        sb.append(format(calories)).append('/')
+                .append(format(carbohydrate)).append('/')
+                .append(format(protein)).append('/')
+                .append(format(fat)).append('/')
+                .append(format(sodium));
+    }
+
+    private static BigDecimal sum(List<FoodRecordResponseDto> records, Function<FoodRecordResponseDto, BigDecimal> field) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (FoodRecordResponseDto record : records) {
+            BigDecimal value = field.apply(record);
+            if (value != null) {
+                total = total.add(value);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 소수 첫째 자리까지, 불필요한 0 제거 (값이 없으면 "-")
+     */
+    private static String format(BigDecimal value) {
+        if (value == null) {
+            return "-";
+        }
+        return value.setScale(1, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+    }
+
+    private static String keyOf(String userId, String recordDate) {
+        return userId + ':' + recordDate;
+    }
+}
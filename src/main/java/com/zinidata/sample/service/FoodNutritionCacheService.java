@@ -0,0 +1,160 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.domain.food.FoodNutrition;
+import com.zinidata.sample.domain.food.FoodNutritionRepository;
+import com.zinidata.sample.dto.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 식품 영양 정보 캐시 서비스
+ *
+ * TB_FOOD_NUTRITION은 거의 변하지 않는 기준 데이터이므로 식품 ID별 캐시를 두고 읽기 시 채웁니다 (read-through).
+ * 식품명 검색은 {@link com.zinidata.sample.domain.food.FoodNameSearchIndex}가 담당하므로 별도 검색 캐시는 두지 않습니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class FoodNutritionCacheService {
+
+    private final FoodNutritionRepository foodNutritionRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 식품 ID로 영양 정보 조회
+     *
+     * @param foodId 식품 ID
+     * @return 영양 정보
+     */
+    @Cacheable(cacheNames = CacheConfig.FOOD_NUTRITION, key = "#foodId")
+    public Optional<FoodNutrition> findById(Long foodId) {
+        return foodNutritionRepository.findById(foodId);
+    }
+
+    /**
+     * 여러 식품 ID의 영양 정보 조회
+     *
+     * 캐시에 없는 ID만 한 번의 IN 조회로 가져와 캐시에 채웁니다.
+     *
+     * @param foodIds 식품 ID 목록
+     * @return 요청한 ID 순서의 영양 정보 목록 (없는 ID는 제외)
+     */
+    public List<FoodNutrition> findAllByIds(Collection<Long> foodIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.FOOD_NUTRITION);
+        Map<Long, FoodNutrition> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long foodId : foodIds) {
+            FoodNutrition cached = cache != null ? cache.get(foodId, FoodNutrition.class) : null;
+            if (cached != null) {
+                found.put(foodId, cached);
+            } else {
+                found.put(foodId, null);
+                missing.add(foodId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (FoodNutrition nutrition : foodNutritionRepository.findAllById(missing)) {
+                found.put(nutrition.getFoodId(), nutrition);
+                if (cache != null) {
+                    cache.put(nutrition.getFoodId(), nutrition);
+                }
+            }
+        }
+
+        List<FoodNutrition> results = new ArrayList<>(found.size());
+        for (FoodNutrition nutrition : found.values()) {
+            if (nutrition != null) {
+                results.add(nutrition);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 식품 영양 정보 캐시 예열 (전체 적재)
+     *
+     * @return 적재한 항목 수
+     */
+    public int warmUp() {
+        Cache cache = cacheManager.getCache(CacheConfig.FOOD_NUTRITION);
+        if (cache == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (FoodNutrition nutrition : foodNutritionRepository.findAll()) {
+            cache.put(nutrition.getFoodId(), nutrition);
+            count++;
+        }
+        log.info("식품 영양 정보 캐시 예열 완료: count={}", count);
+        return count;
+    }
+
+    /**
+     * 식품 변경 시 관련 캐시 무효화
+     *
+     * @param foodId 변경된 식품 ID
+     */
+    public void evictFood(Long foodId) {
+        Cache nutritionCache = cacheManager.getCache(CacheConfig.FOOD_NUTRITION);
+        if (nutritionCache != null && foodId != null) {
+            nutritionCache.evict(foodId);
+        }
+    }
+
+    /**
+     * 캐시 비우기
+     *
+     * @param cacheName 캐시명 (null이면 전체)
+     * @return 비운 캐시명 목록
+     */
+    public List<String> evict(String cacheName) {
+        Collection<String> names = cacheName != null ? List.of(cacheName) : cacheManager.getCacheNames();
+        List<String> evicted = new ArrayList<>();
+        for (String name : names) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+                evicted.add(name);
+            }
+        }
+        log.info("캐시 비우기 완료: caches={}", evicted);
+        return evicted;
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @return 캐시별 통계 (통계를 제공하지 않는 저장소는 제외)
+     */
+    public List<CacheStatsDto> getStats() {
+        List<CacheStatsDto> stats = new ArrayList<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+                com.github.benmanes.caffeine.cache.stats.CacheStats s = caffeine.stats();
+                stats.add(new CacheStatsDto(name, caffeine.estimatedSize(), s.hitCount(), s.missCount(),
+                        s.hitRate(), s.evictionCount()));
+            }
+        }
+        return stats;
+    }
+}
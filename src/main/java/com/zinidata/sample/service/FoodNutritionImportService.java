@@ -0,0 +1,498 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.FoodImportConfig;
+import com.zinidata.sample.domain.food.FoodNameSearchIndex;
+import com.zinidata.sample.dto.FoodImportStatusDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 식품 영양 정보 일괄 적재 서비스
+ *
+ * 공공 식품영양성분 DB의 CSV/XLSX 파일을 한 행씩 읽어 chunkSize 행마다 한 트랜잭션으로 적재합니다.
+ * 식품코드(FOOD_CODE)를 자연키로 사용하여 이미 있는 식품은 갱신하므로, 실패 후 같은 파일로 다시 실행해도 됩니다.
+ *
+ * PostgreSQL은 임시 테이블로 COPY 한 뒤 INSERT ... ON CONFLICT 한 문장으로 반영하고,
+ * 그 외 DB(H2 등)는 JDBC 배치 MERGE로 반영합니다. JPA를 거치지 않으므로 영속성 컨텍스트에 엔티티가 쌓이지 않습니다.
+ *
+ * 적재가 끝나면 식품명 색인을 다시 만들고 식품 관련 캐시를 비웁니다.
+ * 일일 영양 합계는 다음 재집계 때 바뀐 영양 정보로 보정됩니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FoodNutritionImportService {
+
+    /** 헤더명(공백 제거, 소문자) → 열 */
+    private static final Map<String, Column> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("식품코드", Column.FOOD_CODE),
+            Map.entry("food_code", Column.FOOD_CODE),
+            Map.entry("식품명", Column.FOOD_NAME),
+            Map.entry("food_name", Column.FOOD_NAME),
+            Map.entry("영양성분함량기준량", Column.SERVING_SIZE),
+            Map.entry("1회제공량", Column.SERVING_SIZE),
+            Map.entry("serving_size", Column.SERVING_SIZE),
+            Map.entry("에너지(kcal)", Column.CALORIES),
+            Map.entry("열량(kcal)", Column.CALORIES),
+            Map.entry("calories", Column.CALORIES),
+            Map.entry("탄수화물(g)", Column.CARBOHYDRATE),
+            Map.entry("carbohydrate", Column.CARBOHYDRATE),
+            Map.entry("단백질(g)", Column.PROTEIN),
+            Map.entry("protein", Column.PROTEIN),
+            Map.entry("지방(g)", Column.FAT),
+            Map.entry("fat", Column.FAT),
+            Map.entry("나트륨(mg)", Column.SODIUM),
+            Map.entry("sodium", Column.SODIUM));
+
+    /** "100g", "1,000 ml" 등에서 앞쪽 숫자만 추출 */
+    private static final Pattern LEADING_NUMBER = Pattern.compile("^[0-9][0-9,]*(\\.[0-9]+)?");
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS TMP_FOOD_NUTRITION_IMPORT (
+                FOOD_CODE VARCHAR(40), FOOD_NAME VARCHAR(200), SERVING_SIZE NUMERIC, CALORIES NUMERIC,
+                CARBOHYDRATE NUMERIC, PROTEIN NUMERIC, FAT NUMERIC, SODIUM NUMERIC
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY TMP_FOOD_NUTRITION_IMPORT
+                (FOOD_CODE, FOOD_NAME, SERVING_SIZE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String UPSERT_FROM_STAGING = """
+            INSERT INTO TB_FOOD_NUTRITION
+                (FOOD_CODE, FOOD_NAME, SERVING_SIZE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM)
+            SELECT FOOD_CODE, FOOD_NAME, SERVING_SIZE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM
+            FROM TMP_FOOD_NUTRITION_IMPORT
+            ON CONFLICT (FOOD_CODE) DO UPDATE SET
+                FOOD_NAME = EXCLUDED.FOOD_NAME,
+                SERVING_SIZE = EXCLUDED.SERVING_SIZE,
+                CALORIES = EXCLUDED.CALORIES,
+                CARBOHYDRATE = EXCLUDED.CARBOHYDRATE,
+                PROTEIN = EXCLUDED.PROTEIN,
+                FAT = EXCLUDED.FAT,
+                SODIUM = EXCLUDED.SODIUM
+            """;
+
+    private static final String DROP_STAGING = "DROP TABLE IF EXISTS TMP_FOOD_NUTRITION_IMPORT";
+
+    private static final String UPSERT_ROW_POSTGRES = """
+            INSERT INTO TB_FOOD_NUTRITION
+                (FOOD_CODE, FOOD_NAME, SERVING_SIZE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (FOOD_CODE) DO UPDATE SET
+                FOOD_NAME = EXCLUDED.FOOD_NAME,
+                SERVING_SIZE = EXCLUDED.SERVING_SIZE,
+                CALORIES = EXCLUDED.CALORIES,
+                CARBOHYDRATE = EXCLUDED.CARBOHYDRATE,
+                PROTEIN = EXCLUDED.PROTEIN,
+                FAT = EXCLUDED.FAT,
+                SODIUM = EXCLUDED.SODIUM
+            """;
+
+    private static final String MERGE_ROW = """
+            MERGE INTO TB_FOOD_NUTRITION
+                (FOOD_CODE, FOOD_NAME, SERVING_SIZE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM)
+            KEY (FOOD_CODE)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final DataSource dataSource;
+    private final FoodImportConfig config;
+    private final FoodNameSearchIndex searchIndex;
+    private final FoodNutritionCacheService cacheService;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Progress progress;
+
+    /**
+     * 파일 적재 (동기)
+     *
+     * @param file     파일
+     * @param fileName 원본 파일명 (.csv, .xlsx)
+     * @param charset  CSV 문자셋
+     * @return 적재 결과
+     * @throws IllegalStateException 다른 적재가 진행 중인 경우
+     */
+    public FoodImportStatusDto importFile(Path file, String fileName, Charset charset) {
+        if (!begin(fileName)) {
+            throw new IllegalStateException("이미 진행 중인 적재 작업이 있습니다.");
+        }
+        run(file, fileName, charset);
+        return getStatus();
+    }
+
+    /**
+     * 적재 시작 표시 (비동기 실행 전 호출)
+     *
+     * @param fileName 원본 파일명
+     * @return 시작 가능 여부 (다른 적재가 진행 중이면 false)
+     */
+    public boolean begin(String fileName) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        progress = new Progress(fileName);
+        return true;
+    }
+
+    /**
+     * 적재 시작 취소 ({@link #begin(String)} 후 비동기 실행을 넘기지 못한 경우 호출)
+     *
+     * @param reason 실패 메시지
+     */
+    public void abort(String reason) {
+        Progress current = progress;
+        current.error = reason;
+        current.finish();
+        running.set(false);
+    }
+
+    /**
+     * 파일 적재 (비동기, {@link #begin(String)} 성공 후 호출, 완료 후 파일 삭제)
+     *
+     * @param file     업로드된 임시 파일
+     * @param fileName 원본 파일명
+     * @param charset  CSV 문자셋
+     */
+    @Async
+    public void importFileAsync(Path file, String fileName, Charset charset) {
+        try {
+            run(file, fileName, charset);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * 현재(또는 마지막) 적재 상태
+     *
+     * @return 적재 상태 (실행한 적이 없으면 null)
+     */
+    public FoodImportStatusDto getStatus() {
+        Progress current = progress;
+        return current != null ? current.toDto(running.get()) : null;
+    }
+
+    private void run(Path file, String fileName, Charset charset) {
+        Progress current = progress;
+        try {
+            try (Connection connection = dataSource.getConnection()) {
+                load(connection, file, fileName, charset, current);
+            }
+            log.info("식품 영양 정보 적재 완료: file={}, method={}, loaded={}, skipped={}, elapsed={}ms, rows/s={}",
+                    fileName, current.method, current.loaded, current.skipped,
+                    current.elapsedMs(), Math.round(current.rowsPerSecond()));
+            refreshIndexAndCaches();
+        } catch (Exception e) {
+            current.error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            log.error("식품 영양 정보 적재 실패: file={}, loaded={}", fileName, current.loaded, e);
+        } finally {
+            current.finish();
+            running.set(false);
+        }
+    }
+
+    private void load(Connection connection, Path file, String fileName, Charset charset, Progress current)
+            throws Exception {
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        boolean copy = postgres && config.isCopyEnabled();
+        current.method = copy ? "COPY" : "BATCH";
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            if (copy) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(CREATE_STAGING);
+                }
+                connection.commit();
+            }
+
+            int chunkSize = config.getChunkSize();
+            // 같은 chunk 안의 중복 식품코드는 마지막 행만 반영 (한 문장에서 같은 행을 두 번 갱신할 수 없음)
+            Map<String, ImportRow> chunk = new LinkedHashMap<>(chunkSize * 2);
+            HeaderMapping[] header = new HeaderMapping[1];
+            long[] lineNumber = {0};
+
+            SpreadsheetRowReader.read(file, fileName, charset, fields -> {
+                lineNumber[0]++;
+                if (isBlank(fields)) {
+                    return;
+                }
+                if (header[0] == null) {
+                    header[0] = HeaderMapping.of(fields);
+                    return;
+                }
+                ImportRow row = parseRow(header[0], fields, lineNumber[0], current);
+                if (row == null) {
+                    return;
+                }
+                chunk.put(row.foodCode(), row);
+                if (chunk.size() >= chunkSize) {
+                    flush(connection, postgres, copy, chunk.values(), current);
+                    chunk.clear();
+                }
+            });
+            if (header[0] == null) {
+                throw new IllegalArgumentException("헤더 행이 없습니다.");
+            }
+            if (!chunk.isEmpty()) {
+                flush(connection, postgres, copy, chunk.values(), current);
+            }
+
+            if (copy) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(DROP_STAGING);
+                }
+                connection.commit();
+            }
+        } catch (Exception e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * chunk 한 개를 한 트랜잭션으로 반영
+     */
+    private void flush(Connection connection, boolean postgres, boolean copy, Collection<ImportRow> rows,
+                       Progress current) throws SQLException, IOException {
+        if (copy) {
+            copyChunk(connection, rows);
+        } else {
+            batchChunk(connection, postgres ? UPSERT_ROW_POSTGRES : MERGE_ROW, rows);
+        }
+        connection.commit();
+
+        current.loaded += rows.size();
+        log.info("식품 영양 정보 적재 중: loaded={}, skipped={}, rows/s={}",
+                current.loaded, current.skipped, Math.round(current.rowsPerSecond()));
+    }
+
+    private static void copyChunk(Connection connection, Collection<ImportRow> rows) throws SQLException, IOException {
+        StringBuilder csv = new StringBuilder(rows.size() * 96);
+        for (ImportRow row : rows) {
+            appendCsv(csv, row.foodCode()).append(',');
+            appendCsv(csv, row.foodName()).append(',');
+            appendCsv(csv, row.servingSize()).append(',');
+            appendCsv(csv, row.calories()).append(',');
+            appendCsv(csv, row.carbohydrate()).append(',');
+            appendCsv(csv, row.protein()).append(',');
+            appendCsv(csv, row.fat()).append(',');
+            appendCsv(csv, row.sodium()).append('\n');
+        }
+        connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING, new StringReader(csv.toString()));
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(UPSERT_FROM_STAGING);
+        }
+    }
+
+    private static void batchChunk(Connection connection, String sql, Collection<ImportRow> rows) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (ImportRow row : rows) {
+                statement.setString(1, row.foodCode());
+                statement.setString(2, row.foodName());
+                setDecimal(statement, 3, row.servingSize());
+                setDecimal(statement, 4, row.calories());
+                setDecimal(statement, 5, row.carbohydrate());
+                setDecimal(statement, 6, row.protein());
+                setDecimal(statement, 7, row.fat());
+                setDecimal(statement, 8, row.sodium());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void refreshIndexAndCaches() {
+        searchIndex.rebuild();
+        cacheService.evict(CacheConfig.FOOD_NUTRITION);
+        cacheService.evict(CacheConfig.DIET_CONTEXT);
+    }
+
+    /**
+     * 데이터 행 변환 (필수값 누락이나 숫자 형식 오류는 건너뜀)
+     */
+    private ImportRow parseRow(HeaderMapping header, List<String> fields, long lineNumber, Progress current) {
+        String foodCode = header.get(fields, Column.FOOD_CODE);
+        String foodName = header.get(fields, Column.FOOD_NAME);
+        if (foodCode.isEmpty() || foodName.isEmpty() || foodCode.length() > 40 || foodName.length() > 200) {
+            skip(current, lineNumber, "식품코드/식품명 누락 또는 길이 초과");
+            return null;
+        }
+        try {
+            return new ImportRow(foodCode, foodName,
+                    parseServingSize(header.get(fields, Column.SERVING_SIZE)),
+                    parseDecimal(header.get(fields, Column.CALORIES)),
+                    parseDecimal(header.get(fields, Column.CARBOHYDRATE)),
+                    parseDecimal(header.get(fields, Column.PROTEIN)),
+                    parseDecimal(header.get(fields, Column.FAT)),
+                    parseDecimal(header.get(fields, Column.SODIUM)));
+        } catch (NumberFormatException e) {
+            skip(current, lineNumber, "숫자 형식 오류");
+            return null;
+        }
+    }
+
+    private void skip(Progress current, long lineNumber, String reason) {
+        current.skipped++;
+        if (current.skipped <= config.getMaxLoggedErrors()) {
+            log.warn("식품 영양 정보 행 건너뜀: line={}, reason={}", lineNumber, reason);
+        }
+    }
+
+    /**
+     * 숫자 변환 (빈 값, "-"는 null / 천 단위 쉼표 허용)
+     */
+    static BigDecimal parseDecimal(String value) {
+        if (value.isEmpty() || "-".equals(value)) {
+            return null;
+        }
+        return new BigDecimal(value.replace(",", ""));
+    }
+
+    /**
+     * 기준량 변환 ("100g" → 100)
+     */
+    static BigDecimal parseServingSize(String value) {
+        Matcher matcher = LEADING_NUMBER.matcher(value);
+        return matcher.find() ? parseDecimal(matcher.group()) : null;
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        for (String field : fields) {
+            if (!field.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static StringBuilder appendCsv(StringBuilder sb, String value) {
+        // COPY csv 형식에서 따옴표 없는 빈 값은 NULL
+        sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+        return sb;
+    }
+
+    private static StringBuilder appendCsv(StringBuilder sb, BigDecimal value) {
+        if (value != null) {
+            sb.append(value.toPlainString());
+        }
+        return sb;
+    }
+
+    private static void setDecimal(PreparedStatement statement, int index, BigDecimal value) throws SQLException {
+        if (value != null) {
+            statement.setBigDecimal(index, value);
+        } else {
+            statement.setNull(index, Types.NUMERIC);
+        }
+    }
+
+    private enum Column {
+        FOOD_CODE, FOOD_NAME, SERVING_SIZE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM
+    }
+
+    private record ImportRow(String foodCode, String foodName, BigDecimal servingSize, BigDecimal calories,
+                             BigDecimal carbohydrate, BigDecimal protein, BigDecimal fat, BigDecimal sodium) {
+    }
+
+    /**
+     * 헤더 행의 열 위치 (없는 열은 -1)
+     */
+    private record HeaderMapping(int[] indexes) {
+
+        static HeaderMapping of(List<String> headers) {
+            int[] indexes = new int[Column.values().length];
+            Arrays.fill(indexes, -1);
+            for (int i = 0; i < headers.size(); i++) {
+                Column column = HEADER_ALIASES.get(headers.get(i).replaceAll("\\s", "").toLowerCase(Locale.ROOT));
+                if (column != null && indexes[column.ordinal()] < 0) {
+                    indexes[column.ordinal()] = i;
+                }
+            }
+            if (indexes[Column.FOOD_CODE.ordinal()] < 0 || indexes[Column.FOOD_NAME.ordinal()] < 0) {
+                throw new IllegalArgumentException("필수 열(식품코드, 식품명)이 없습니다: " + headers);
+            }
+            return new HeaderMapping(indexes);
+        }
+
+        String get(List<String> fields, Column column) {
+            int index = indexes[column.ordinal()];
+            return index >= 0 && index < fields.size() ? fields.get(index).trim() : "";
+        }
+    }
+
+    /**
+     * 적재 진행 상태 (적재 스레드만 갱신)
+     */
+    private static final class Progress {
+
+        private final String fileName;
+        private final long startNanos = System.nanoTime();
+        private volatile String method;
+        private volatile long loaded;
+        private volatile long skipped;
+        private volatile long endNanos;
+        private volatile String error;
+
+        Progress(String fileName) {
+            this.fileName = fileName;
+        }
+
+        void finish() {
+            endNanos = System.nanoTime();
+        }
+
+        long elapsedMs() {
+            long end = endNanos != 0 ? endNanos : System.nanoTime();
+            return (end - startNanos) / 1_000_000;
+        }
+
+        double rowsPerSecond() {
+            long elapsedMs = elapsedMs();
+            return elapsedMs > 0 ? loaded * 1000.0 / elapsedMs : 0;
+        }
+
+        FoodImportStatusDto toDto(boolean running) {
+            return new FoodImportStatusDto(running, fileName, method, loaded, skipped, elapsedMs(),
+                    rowsPerSecond(), error);
+        }
+    }
+}
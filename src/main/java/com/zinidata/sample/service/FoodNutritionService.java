@@ -1,12 +1,22 @@
 package com.zinidata.sample.service;
 
+import com.zinidata.sample.common.util.HangulUtil;
+import com.zinidata.sample.domain.food.FoodNameSearchIndex;
 import com.zinidata.sample.domain.food.FoodNutrition;
 import com.zinidata.sample.domain.food.FoodNutritionRepository;
+import com.zinidata.sample.domain.food.dto.FoodSearchItemDto;
+import com.zinidata.sample.domain.food.dto.FoodSearchPageDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 
 /**
@@ -20,25 +30,115 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class FoodNutritionService {
 
+    /** 기본 검색 건수 */
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+
+    /** 최대 검색 건수 */
+    public static final int MAX_SEARCH_LIMIT = 50;
+
     private final FoodNutritionRepository foodNutritionRepository;
+    private final FoodNameSearchIndex foodNameSearchIndex;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 식품명으로 검색
+     * 식품명으로 검색 (관련도순, 커서 페이지)
+     * 
+     * 접두어 일치가 먼저, 같은 구분 안에서는 이름이 짧은 순으로 정렬하며 한 번에 최대 {@value #MAX_SEARCH_LIMIT}건을 반환합니다.
+     * 메모리 색인이 준비되어 있으면 색인에서 조회하고, 아직 생성 전이면 DB에서 같은 순서로 조회합니다.
+     * 조회 경로(source=index|db)별로 food.search(소요 시간), food.search.results(결과 건수) 메트릭을 기록합니다.
      * 
      * @param keyword 검색 키워드
-     * @return 검색된 식품 목록
+     * @param cursor  이전 응답의 nextCursor (첫 페이지는 null)
+     * @param limit   조회 건수 (null이면 {@value #DEFAULT_SEARCH_LIMIT}, 1~{@value #MAX_SEARCH_LIMIT}로 보정)
+     * @return 검색 결과 페이지
+     * @throws IllegalArgumentException 잘못된 커서
      */
-    public List<FoodNutrition> searchByFoodName(String keyword) {
-        log.info("식품 검색 시작: keyword={}", keyword);
+    public FoodSearchPageDto search(String keyword, String cursor, Integer limit) {
+        log.debug("식품 검색 시작: keyword={}, cursor={}, limit={}", keyword, cursor, limit);
 
         if (keyword == null || keyword.trim().isEmpty()) {
             log.warn("검색 키워드가 비어있습니다");
-            return List.of();
+            return new FoodSearchPageDto(List.of(), null);
+        }
+
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : Math.clamp(limit, 1, MAX_SEARCH_LIMIT);
+        long[] after = cursor == null || cursor.isEmpty() ? new long[]{-1, 0} : decodeCursor(cursor);
+        int afterScore = (int) after[0];
+        long afterFoodId = after[1];
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean indexed = foodNameSearchIndex.isReady();
+        String source = indexed ? "index" : "db";
+        List<FoodNameSearchIndex.Match> matches;
+        if (indexed) {
+            matches = foodNameSearchIndex.search(keyword, afterScore, afterFoodId, size + 1);
+        } else {
+            String query = HangulUtil.normalize(keyword);
+            matches = new ArrayList<>();
+            for (FoodNutrition food : foodNutritionRepository.searchByFoodNameAfter(
+                    escapeLike(query), afterScore, afterFoodId, PageRequest.ofSize(size + 1))) {
+                boolean prefixMatch = HangulUtil.normalize(food.getFoodName()).startsWith(query);
+                matches.add(new FoodNameSearchIndex.Match(food, FoodNameSearchIndex.score(food.getFoodName(), prefixMatch)));
+            }
+        }
+
+        boolean hasNext = matches.size() > size;
+        List<FoodNameSearchIndex.Match> page = hasNext ? matches.subList(0, size) : matches;
+        List<FoodSearchItemDto> items = page.stream()
+                .map(match -> toItem(match.food()))
+                .toList();
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+        sample.stop(meterRegistry.timer("food.search", "source", source));
+        meterRegistry.summary("food.search.results", "source", source).record(items.size());
+        log.debug("식품 검색 완료: keyword={}, count={}, hasNext={}", keyword, items.size(), hasNext);
+
+        return new FoodSearchPageDto(items, nextCursor);
+    }
+
+    /**
+     * LIKE 패턴 이스케이프 (\, %, _ 앞에 \)
+     */
+    static String escapeLike(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                sb.append('\\');
+            }
+            sb.append(c);
         }
+        return sb.toString();
+    }
+
+    private static FoodSearchItemDto toItem(FoodNutrition food) {
+        return FoodSearchItemDto.builder()
+                .foodId(food.getFoodId())
+                .foodName(food.getFoodName())
+                .servingSize(food.getServingSize())
+                .calories(food.getCalories())
+                .carbohydrate(food.getCarbohydrate())
+                .protein(food.getProtein())
+                .fat(food.getFat())
+                .sodium(food.getSodium())
+                .build();
+    }
 
-        List<FoodNutrition> results = foodNutritionRepository.findByFoodNameContaining(keyword.trim());
-        log.info("식품 검색 완료: keyword={}, count={}", keyword, results.size());
+    /**
+     * 커서 생성 ("점수:식품ID"를 URL-safe Base64로 인코딩)
+     */
+    private static String encodeCursor(FoodNameSearchIndex.Match last) {
+        String raw = last.score() + ":" + last.food().getFoodId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-        return results;
+    private static long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new long[]{Integer.parseInt(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1))};
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다: " + cursor);
+        }
     }
 }
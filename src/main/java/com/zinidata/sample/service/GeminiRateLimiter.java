@@ -0,0 +1,334 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.GeminiRateLimitConfig;
+import com.zinidata.sample.dto.GeminiRateLimitStatsDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Gemini API 호출량 제한기 (토큰 버킷)
+ *
+ * 분당 요청 수와 분당 토큰 수 두 개의 버킷으로 API 할당량을 넘지 않도록 호출 전에 대기시킵니다.
+ * 대기 요청은 사용자별 대기열에 넣고 사용자 간 라운드로빈으로 허용하여,
+ * 한 사용자가 몰아서 보낸 요청이 다른 사용자를 밀어내지 않도록 합니다.
+ * 대기열이 가득 차거나 최대 대기 시간을 넘긴 요청은 거절합니다.
+ *
+ * 메트릭: gemini.limiter.queued, gemini.limiter.requests(result=granted|shed|coalesced), gemini.limiter.wait
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@Slf4j
+public class GeminiRateLimiter implements MeterBinder {
+
+    private final GeminiRateLimitConfig config;
+    private final LongSupplier nanoTime;
+
+    /** 사용자별 대기열 (순서 = 다음 허용 차례, 빈 대기열은 두지 않음) */
+    private final LinkedHashMap<String, Deque<Waiter>> queues = new LinkedHashMap<>();
+    private int queued;
+
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+
+    private final LongAdder grantedCount = new LongAdder();
+    private final LongAdder shedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+
+    // 테스트용 시간 생성자가 따로 있으므로 Spring이 사용할 생성자를 지정
+    @Autowired
+    public GeminiRateLimiter(GeminiRateLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    /**
+     * @param config   호출량 제한 설정
+     * @param nanoTime 현재 시각 (나노초, 버킷 충전과 대기 시간 계산용)
+     */
+    GeminiRateLimiter(GeminiRateLimitConfig config, LongSupplier nanoTime) {
+        this.config = config;
+        this.nanoTime = nanoTime;
+        this.availableRequests = config.getRequestsPerMinute();
+        this.availableTokens = config.getTokensPerMinute();
+        this.lastRefillNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * 대기열 처리 스케줄 시작
+     */
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-rate-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = config.getDrainInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 호출 허가 요청
+     *
+     * 허가되면 완료되고, 거절되면 {@link RejectedException}으로 종료됩니다.
+     * 구독을 취소하면 대기열에서 빠집니다.
+     *
+     * @param userId 사용자 ID
+     * @param prompt 사용자 질문 (토큰 추정용)
+     * @return 허가 신호
+     */
+    public Mono<Void> acquire(String userId, String prompt) {
+        if (!config.isEnabled()) {
+            return Mono.empty();
+        }
+
+        int tokens = estimateTokens(prompt);
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(userId, tokens, sink, nanoTime.getAsLong());
+            boolean granted = false;
+            boolean enqueued = false;
+
+            synchronized (this) {
+                refill();
+                if (queued == 0 && tryConsume(tokens)) {
+                    granted = true;
+                } else if (queued < config.getMaxQueueSize() && queueSizeOf(userId) < config.getMaxQueuePerUser()) {
+                    queues.computeIfAbsent(userId, key -> new ArrayDeque<>()).addLast(waiter);
+                    queued++;
+                    enqueued = true;
+                }
+            }
+
+            if (granted) {
+                grant(waiter);
+            } else if (enqueued) {
+                sink.onCancel(() -> cancel(waiter));
+            } else {
+                shed(waiter, "대기 중인 요청이 너무 많습니다.");
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("gemini.limiter.queued", this, GeminiRateLimiter::queuedCount)
+                .register(registry);
+        FunctionCounter.builder("gemini.limiter.requests", grantedCount, LongAdder::sum)
+                .tag("result", "granted")
+                .register(registry);
+        FunctionCounter.builder("gemini.limiter.requests", shedCount, LongAdder::sum)
+                .tag("result", "shed")
+                .register(registry);
+        FunctionCounter.builder("gemini.limiter.requests", coalescedCount, LongAdder::sum)
+                .tag("result", "coalesced")
+                .register(registry);
+        FunctionTimer.builder("gemini.limiter.wait", this,
+                        limiter -> limiter.grantedCount.sum(), limiter -> limiter.totalWaitNanos.sum(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+    }
+
+    private synchronized int queuedCount() {
+        return queued;
+    }
+
+    /**
+     * 진행 중인 동일 요청에 합류한 횟수 기록
+     */
+    public void recordCoalesced() {
+        coalescedCount.increment();
+    }
+
+    /**
+     * 통계 조회
+     *
+     * @return 호출량 제한 통계
+     */
+    public GeminiRateLimitStatsDto getStats() {
+        long granted = grantedCount.sum();
+        double averageWaitMillis = granted == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / granted;
+
+        synchronized (this) {
+            refill();
+            return new GeminiRateLimitStatsDto(queued, granted, shedCount.sum(), coalescedCount.sum(),
+                    averageWaitMillis, maxWaitNanos.get() / 1_000_000.0, availableRequests, availableTokens);
+        }
+    }
+
+    /**
+     * 대기열 처리: 시간 초과 요청을 거절하고, 버킷이 허용하는 만큼 사용자 순서대로 허가합니다.
+     */
+    void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        List<Waiter> expired = new ArrayList<>();
+
+        synchronized (this) {
+            if (queued == 0) {
+                return;
+            }
+            refill();
+            removeExpired(expired);
+
+            outer:
+            while (queued > 0) {
+                for (String userId : new ArrayList<>(queues.keySet())) {
+                    Deque<Waiter> queue = queues.get(userId);
+                    Waiter head = queue.peekFirst();
+                    if (!tryConsume(head.tokens)) {
+                        break outer;
+                    }
+                    queue.pollFirst();
+                    queued--;
+                    granted.add(head);
+
+                    // 허가받은 사용자는 다음 차례를 맨 뒤로
+                    queues.remove(userId);
+                    if (!queue.isEmpty()) {
+                        queues.put(userId, queue);
+                    }
+                }
+            }
+        }
+
+        expired.forEach(waiter -> shed(waiter, "대기 시간이 초과되었습니다."));
+        granted.forEach(this::grant);
+    }
+
+    private void removeExpired(List<Waiter> expired) {
+        long deadline = nanoTime.getAsLong() - config.getMaxWait().toNanos();
+        Iterator<Map.Entry<String, Deque<Waiter>>> it = queues.entrySet().iterator();
+        while (it.hasNext()) {
+            Deque<Waiter> queue = it.next().getValue();
+            queue.removeIf(waiter -> {
+                if (waiter.enqueuedAt < deadline) {
+                    expired.add(waiter);
+                    return true;
+                }
+                return false;
+            });
+            if (queue.isEmpty()) {
+                it.remove();
+            }
+        }
+        queued -= expired.size();
+    }
+
+    private synchronized void cancel(Waiter waiter) {
+        Deque<Waiter> queue = queues.get(waiter.userId);
+        if (queue != null && queue.remove(waiter)) {
+            queued--;
+            if (queue.isEmpty()) {
+                queues.remove(waiter.userId);
+            }
+        }
+    }
+
+    private int queueSizeOf(String userId) {
+        Deque<Waiter> queue = queues.get(userId);
+        return queue != null ? queue.size() : 0;
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        double elapsedMinutes = (now - lastRefillNanos) / 60_000_000_000.0;
+        lastRefillNanos = now;
+
+        availableRequests = Math.min(config.getRequestsPerMinute(),
+                availableRequests + elapsedMinutes * config.getRequestsPerMinute());
+        availableTokens = Math.min(config.getTokensPerMinute(),
+                availableTokens + elapsedMinutes * config.getTokensPerMinute());
+    }
+
+    private boolean tryConsume(int tokens) {
+        // 버킷 크기보다 큰 요청도 언젠가는 허가되도록 버킷 크기로 제한
+        int required = Math.min(tokens, config.getTokensPerMinute());
+        if (availableRequests < 1 || availableTokens < required) {
+            return false;
+        }
+        availableRequests -= 1;
+        availableTokens -= required;
+        return true;
+    }
+
+    private void grant(Waiter waiter) {
+        long waited = nanoTime.getAsLong() - waiter.enqueuedAt;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        grantedCount.increment();
+        waiter.sink.success();
+    }
+
+    private void shed(Waiter waiter, String reason) {
+        shedCount.increment();
+        log.warn("Gemini 요청 거절: userId={}, reason={}", waiter.userId, reason);
+        waiter.sink.error(new RejectedException(reason));
+    }
+
+    /**
+     * 요청 토큰 추정 (한글은 보수적으로 글자 수를 토큰 수로 간주) + 출력 예약분
+     */
+    private int estimateTokens(String prompt) {
+        return prompt.length() + config.getReservedOutputTokens();
+    }
+
+    private static final class Waiter {
+
+        private final String userId;
+        private final int tokens;
+        private final MonoSink<Void> sink;
+        private final long enqueuedAt;
+
+        Waiter(String userId, int tokens, MonoSink<Void> sink, long enqueuedAt) {
+            this.userId = userId;
+            this.tokens = tokens;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * 호출량 제한으로 요청이 거절된 경우
+     */
+    public static class RejectedException extends RuntimeException {
+
+        public RejectedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.GeminiCacheConfig;
+import com.zinidata.sample.dto.GeminiCacheStatsDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini 응답 캐시
+ *
+ * 정규화된 프롬프트 + 모델명 + 시스템 지시문을 키로 완료된 스트리밍 응답 청크를 저장하고,
+ * 적중 시 같은 청크를 그대로 다시 스트리밍합니다.
+ * SHINGLE 모드에서는 짧은 프롬프트에 한해 글자 shingle 유사도로도 적중을 판단합니다.
+ * 유사 항목은 shingle 역색인으로 후보만 골라 비교하며, 이 탐색은 전역 잠금 밖에서 수행합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeminiResponseCache {
+
+    /** 통계에 노출할 프롬프트 최대 길이 */
+    private static final int PROMPT_PREVIEW_LENGTH = 50;
+
+    private final GeminiCacheConfig config;
+
+    /** 접근 순서 유지 (LRU 제거용) */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    /** scope → shingle → 해당 shingle을 가진 항목 (유사도 비교 대상만, 변경은 잠금 안에서) */
+    private final Map<String, Map<String, Set<Entry>>> shingleIndex = new ConcurrentHashMap<>();
+
+    private long totalBytes;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong similarHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param prompt            사용자 질문
+     * @param model             모델명
+     * @param systemInstruction 시스템 지시문
+     * @return 캐시 키
+     */
+    public Key keyOf(String prompt, String model, String systemInstruction) {
+        String normalized = normalizePrompt(prompt);
+        String scope = model + '\u0000' + systemInstruction;
+        Set<String> shingles = null;
+        if (config.getMode() == GeminiCacheConfig.Mode.SHINGLE
+                && normalized.length() <= config.getSimilarityMaxLength()) {
+            shingles = shingles(normalized, config.getShingleSize());
+        }
+        return new Key(scope, normalized, shingles);
+    }
+
+    /**
+     * 캐시된 응답 조회
+     *
+     * @param key 캐시 키
+     * @return 응답 청크 목록 (없으면 null)
+     */
+    public List<String> get(Key key) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key.getId());
+            if (entry != null && isExpired(entry)) {
+                remove(key.getId());
+                entry = null;
+            }
+        }
+
+        if (entry == null && key.getShingles() != null) {
+            entry = findSimilar(key);
+            if (entry != null) {
+                touch(entry);
+                similarHitCount.incrementAndGet();
+            }
+        }
+
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        entry.hits.incrementAndGet();
+        hitCount.incrementAndGet();
+        return entry.chunks;
+    }
+
+    /**
+     * 스트림이 정상 완료되면 응답을 캐시에 저장하도록 감쌉니다.
+     *
+     * 오류로 끝나거나 클라이언트가 중간에 끊은 응답은 저장하지 않습니다.
+     *
+     * @param key      캐시 키
+     * @param upstream 원본 응답 스트림
+     * @return 저장 동작이 추가된 스트림
+     */
+    public Flux<String> record(Key key, Flux<String> upstream) {
+        if (!config.isEnabled()) {
+            return upstream;
+        }
+        return Flux.defer(() -> {
+            List<String> chunks = new ArrayList<>();
+            return upstream
+                    .doOnNext(chunks::add)
+                    .doOnComplete(() -> put(key, chunks));
+        });
+    }
+
+    /**
+     * 응답 저장
+     */
+    public synchronized void put(Key key, List<String> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        long bytes = 0;
+        for (String chunk : chunks) {
+            bytes += chunk.getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (bytes > config.getMaxBytes()) {
+            return;
+        }
+
+        Entry entry = new Entry(key, List.copyOf(chunks), bytes, System.currentTimeMillis());
+        Entry previous = entries.put(key.getId(), entry);
+        if (previous != null) {
+            totalBytes -= previous.bytes;
+            unindex(previous);
+        }
+        totalBytes += bytes;
+        index(entry);
+        evictOverflow();
+    }
+
+    /**
+     * 캐시 비우기
+     */
+    public synchronized void clear() {
+        entries.clear();
+        shingleIndex.clear();
+        totalBytes = 0;
+        log.info("Gemini 응답 캐시 비우기 완료");
+    }
+
+    /**
+     * 캐시 통계 조회
+     *
+     * @param limit 항목별 통계 최대 개수
+     * @return 캐시 통계
+     */
+    public synchronized GeminiCacheStatsDto getStats(int limit) {
+        long now = System.currentTimeMillis();
+        List<GeminiCacheStatsDto.Entry> top = entries.values().stream()
+                .sorted(Comparator.comparingLong((Entry e) -> e.hits.get()).reversed())
+                .limit(limit)
+                .map(e -> new GeminiCacheStatsDto.Entry(
+                        preview(e.key.getPrompt()),
+                        e.chunks.size(),
+                        e.bytes,
+                        e.hits.get(),
+                        (now - e.createdAt) / 1000))
+                .toList();
+
+        return new GeminiCacheStatsDto(config.getMode().name(), entries.size(), totalBytes,
+                hitCount.get(), similarHitCount.get(), missCount.get(), evictionCount.get(), top);
+    }
+
+    /**
+     * 유사 항목 탐색 (잠금 없이 shingle 색인만 읽음)
+     *
+     * Jaccard 유사도가 기준 t 이상이면 질의 shingle n개 중 ceil(t * n)개 이상을 공유하므로,
+     * 항목이 적은 shingle부터 n - ceil(t * n) + 1개의 posting만 모아도 적중 가능한 후보가 빠지지 않습니다 (prefix filter).
+     */
+    private Entry findSimilar(Key key) {
+        Map<String, Set<Entry>> postings = shingleIndex.get(key.getScope());
+        if (postings == null) {
+            return null;
+        }
+        Set<String> shingles = key.getShingles();
+        double threshold = config.getSimilarityThreshold();
+
+        List<Set<Entry>> lists = new ArrayList<>(shingles.size());
+        for (String shingle : shingles) {
+            lists.add(postings.getOrDefault(shingle, Set.of()));
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        int prefixLength = Math.min(lists.size(), shingles.size() - (int) Math.ceil(threshold * shingles.size()) + 1);
+        Set<Entry> candidates = new HashSet<>();
+        for (int i = 0; i < prefixLength; i++) {
+            candidates.addAll(lists.get(i));
+        }
+
+        Entry best = null;
+        double bestScore = threshold;
+        List<Entry> expired = new ArrayList<>();
+        for (Entry candidate : candidates) {
+            if (isExpired(candidate)) {
+                expired.add(candidate);
+                continue;
+            }
+            Set<String> other = candidate.key.getShingles();
+            // Jaccard 유사도는 작은 집합 크기 / 큰 집합 크기를 넘을 수 없으므로 먼저 걸러냅니다
+            double sizeRatio = (double) Math.min(shingles.size(), other.size()) / Math.max(shingles.size(), other.size());
+            if (sizeRatio < bestScore) {
+                continue;
+            }
+            double score = jaccard(shingles, other);
+            if (score >= bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        if (!expired.isEmpty()) {
+            removeExpired(expired);
+        }
+        return best;
+    }
+
+    /**
+     * 탐색 중 만난 만료 항목 제거 (그 사이 같은 id로 새로 저장된 항목은 유지)
+     */
+    private synchronized void removeExpired(List<Entry> expired) {
+        for (Entry entry : expired) {
+            if (entries.remove(entry.key.getId(), entry)) {
+                totalBytes -= entry.bytes;
+                unindex(entry);
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 접근 순서 갱신 (유사 적중 항목)
+     */
+    private synchronized void touch(Entry entry) {
+        entries.get(entry.key.getId());
+    }
+
+    private void index(Entry entry) {
+        Set<String> shingles = entry.key.getShingles();
+        if (shingles == null) {
+            return;
+        }
+        Map<String, Set<Entry>> postings = shingleIndex.computeIfAbsent(entry.key.getScope(), scope -> new ConcurrentHashMap<>());
+        for (String shingle : shingles) {
+            postings.computeIfAbsent(shingle, k -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        Set<String> shingles = entry.key.getShingles();
+        Map<String, Set<Entry>> postings = shingles == null ? null : shingleIndex.get(entry.key.getScope());
+        if (postings == null) {
+            return;
+        }
+        for (String shingle : shingles) {
+            postings.computeIfPresent(shingle, (k, set) -> {
+                set.remove(entry);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (totalBytes > config.getMaxBytes() && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            totalBytes -= eldest.bytes;
+            unindex(eldest);
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private void remove(String id) {
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+            unindex(removed);
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.currentTimeMillis() - entry.createdAt > config.getTtl().toMillis();
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (String s : smaller) {
+            if (larger.contains(s)) {
+                intersection++;
+            }
+        }
+        int union = a.size() + b.size() - intersection;
+        return union == 0 ? 1.0 : (double) intersection / union;
+    }
+
+    /**
+     * 프롬프트 정규화 (문자/숫자만 남기고 소문자 변환, 숫자 사이의 구분 기호는 유지)
+     *
+     * 예) "김치찌개 칼로리?" → "김치찌개칼로리", "1.5인분" → "1.5인분" ("15인분"과 구분)
+     */
+    static String normalizePrompt(String prompt) {
+        StringBuilder sb = new StringBuilder(prompt.length());
+        for (int i = 0; i < prompt.length(); i++) {
+            char c = prompt.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            } else if (!Character.isWhitespace(c) && i > 0 && i + 1 < prompt.length()
+                    && Character.isDigit(prompt.charAt(i - 1)) && Character.isDigit(prompt.charAt(i + 1))) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    static Set<String> shingles(String value, int size) {
+        Set<String> shingles = new HashSet<>();
+        if (value.length() <= size) {
+            shingles.add(value);
+            return shingles;
+        }
+        for (int i = 0; i + size <= value.length(); i++) {
+            shingles.add(value.substring(i, i + size));
+        }
+        return shingles;
+    }
+
+    private static String preview(String prompt) {
+        return prompt.length() <= PROMPT_PREVIEW_LENGTH ? prompt : prompt.substring(0, PROMPT_PREVIEW_LENGTH) + "...";
+    }
+
+    /**
+     * 캐시 키
+     */
+    @Getter
+    public static final class Key {
+
+        /** 모델명 + 시스템 지시문 */
+        private final String scope;
+
+        /** 정규화된 프롬프트 */
+        private final String prompt;
+
+        /** 유사도 비교용 shingle 집합 (정확 일치만 사용하면 null) */
+        private final Set<String> shingles;
+
+        /** 정확 일치 조회용 ID */
+        private final String id;
+
+        Key(String scope, String prompt, Set<String> shingles) {
+            this.scope = scope;
+            this.prompt = prompt;
+            this.shingles = shingles;
+            this.id = scope + '\u0000' + prompt;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final List<String> chunks;
+        private final long bytes;
+        private final long createdAt;
+        private final AtomicLong hits = new AtomicLong();
+
+        Entry(Key key, List<String> chunks, long bytes, long createdAt) {
+            this.key = key;
+            this.chunks = chunks;
+            this.bytes = bytes;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -1,26 +1,35 @@
 package com.zinidata.sample.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zinidata.sample.config.GeminiConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 import reactor.util.retry.Retry;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Gemini API 호출 서비스
  * 
  * Google Gemini API를 호출하여 텍스트 생성 및 스트리밍 응답을 제공합니다.
- * 429 에러 발생 시 자동으로 재시도합니다.
+ * 호출 전 할당량에 맞춰 대기하며, 429 에러 발생 시 자동으로 재시도합니다.
+ * 
+ * 메트릭: gemini.stream.first.token(첫 청크까지), gemini.stream.duration(결과별 전체 시간),
+ * gemini.stream.tokens / gemini.stream.tokens.per.second(출력 글자 수 기준 추정), gemini.retries, gemini.rate.limited(429)
  * 
  * @author NICE ZiniData 개발팀
  * @since 1.0
@@ -31,8 +40,13 @@ import java.util.Map;
 public class GeminiService {
 
     private final GeminiConfig geminiConfig;
-    private final WebClient.Builder webClientBuilder;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebClient geminiWebClient;
+    private final GeminiResponseCache geminiResponseCache;
+    private final GeminiRateLimiter geminiRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    /** 진행 중인 요청 (캐시 키 → 공유 스트림) */
+    private final Map<String, Flux<String>> inFlightRequests = new ConcurrentHashMap<>();
 
     /** 최대 재시도 횟수 */
     private static final int MAX_RETRY_ATTEMPTS = 3;
@@ -40,15 +54,92 @@ public class GeminiService {
     /** 초기 재시도 대기 시간 (초) */
     private static final int INITIAL_BACKOFF_SECONDS = 2;
 
+    /** 시스템 지시문 (영양상담사 역할 설정) */
+    private static final String SYSTEM_INSTRUCTION = "너는 전문 영양상담사야. 사용자의 식단을 분석하고 " +
+            "영양학적 관점에서 조언을 제공해. 친절하고 전문적으로 답변해줘.";
+
     /**
      * Gemini API를 호출하여 스트리밍 응답을 반환합니다.
      * 429 에러 발생 시 지수 백오프 방식으로 재시도합니다.
+     * 같은 질문의 응답이 캐시에 있으면 API를 호출하지 않고 캐시된 응답을 스트리밍합니다.
+     * 같은 질문이 이미 호출 중이면 새로 호출하지 않고 진행 중인 응답을 함께 받습니다.
      * 
      * @param prompt 사용자 질문
+     * @param userId 사용자 ID (호출량 제한 대기열 구분용)
      * @return 스트리밍 텍스트 응답
      */
-    public Flux<String> generateContentStream(String prompt) {
-        log.info("Gemini API 호출 시작: prompt={}", prompt);
+    public Flux<String> generateContentStream(String prompt, String userId) {
+        GeminiResponseCache.Key cacheKey = geminiResponseCache.keyOf(prompt, geminiConfig.getModel(), SYSTEM_INSTRUCTION);
+        List<String> cached = geminiResponseCache.get(cacheKey);
+        if (cached != null) {
+            log.debug("Gemini 응답 캐시 적중: prompt={}", prompt);
+            return Flux.fromIterable(cached);
+        }
+
+        String requestId = cacheKey.getId();
+        AtomicReference<Flux<String>> self = new AtomicReference<>();
+        Flux<String> created = callWithRateLimit(prompt, userId)
+                // 정상 완료된 응답만 캐시에 저장 (오류 안내 문구는 저장하지 않음)
+                .transform(flux -> geminiResponseCache.record(cacheKey, flux))
+                .doFinally(signal -> inFlightRequests.remove(requestId, self.get()))
+                .replay()
+                .refCount();
+        self.set(created);
+
+        Flux<String> inFlight = inFlightRequests.putIfAbsent(requestId, created);
+        if (inFlight != null) {
+            log.debug("진행 중인 동일 요청에 합류: prompt={}", prompt);
+            geminiRateLimiter.recordCoalesced();
+        }
+
+        return (inFlight != null ? inFlight : created)
+                .onErrorResume(error -> {
+                    if (error instanceof GeminiRateLimiter.RejectedException) {
+                        return Flux.just("⚠️ 요청이 많아 잠시 후 다시 시도해주세요. (" + error.getMessage() + ")");
+                    }
+                    if (error instanceof WebClientResponseException.TooManyRequests) {
+                        return Flux.just("⚠️ API 요청 제한에 도달했습니다. 잠시 후 다시 시도해주세요.");
+                    }
+                    if (error instanceof WebClientResponseException) {
+                        WebClientResponseException wcre = (WebClientResponseException) error;
+                        log.error("API 에러 응답: {}", wcre.getResponseBodyAsString());
+                    }
+                    return Flux.just("오류가 발생했습니다: " + error.getMessage());
+                });
+    }
+
+    /**
+     * 호출량 제한 허가를 받은 뒤 API 호출 (429 재시도 포함)
+     * 
+     * 재시도도 할당량을 쓰므로 시도마다 호출량 제한기에서 다시 허가를 받습니다.
+     * 
+     * @param prompt 사용자 질문
+     * @param userId 사용자 ID
+     * @return 스트리밍 텍스트 응답
+     */
+    private Flux<String> callWithRateLimit(String prompt, String userId) {
+        return geminiRateLimiter.acquire(userId, prompt)
+                .thenMany(Flux.defer(() -> instrument(callApi(prompt))))
+                .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, Duration.ofSeconds(INITIAL_BACKOFF_SECONDS))
+                        .filter(this::isRetryableError)
+                        .doBeforeRetry(retrySignal -> {
+                            meterRegistry.counter("gemini.retries").increment();
+                            log.warn("API 요청 재시도 중... 시도 횟수: {}", retrySignal.totalRetries() + 1);
+                        })
+                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure()))
+                // 호출량 제한 거절은 제한기에서 WARN으로 기록
+                .doOnError(error -> !(error instanceof GeminiRateLimiter.RejectedException),
+                        error -> log.error("Gemini API 호출 오류: {}", error.getMessage(), error));
+    }
+
+    /**
+     * Gemini 스트리밍 API 호출 (한 번 시도)
+     * 
+     * @param prompt 사용자 질문
+     * @return 스트리밍 텍스트 응답
+     */
+    private Flux<String> callApi(String prompt) {
+        log.debug("Gemini API 호출 시작: prompt={}", prompt);
 
         String url = String.format("%s/models/%s:streamGenerateContent?alt=sse&key=%s",
                 geminiConfig.getBaseUrl(),
@@ -60,37 +151,64 @@ public class GeminiService {
         log.debug("요청 URL: {}", url.replaceAll("key=.*", "key=***"));
         log.debug("요청 바디: {}", requestBody);
 
-        WebClient webClient = webClientBuilder
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
-                .build();
-
-        return webClient.post()
-                .uri(url)
-                .header("Content-Type", "application/json")
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToFlux(String.class)
-                .doOnNext(response -> log.debug("원본 응답: {}", response))
-                .map(this::extractTextFromResponse)
-                .filter(text -> text != null && !text.isEmpty())
-                .retryWhen(Retry.backoff(MAX_RETRY_ATTEMPTS, Duration.ofSeconds(INITIAL_BACKOFF_SECONDS))
-                        .filter(this::isRetryableError)
-                        .doBeforeRetry(
-                                retrySignal -> log.warn("API 요청 재시도 중... 시도 횟수: {}", retrySignal.totalRetries() + 1))
-                        .onRetryExhaustedThrow((retryBackoffSpec, retrySignal) -> retrySignal.failure()))
-                .doOnError(error -> log.error("Gemini API 호출 오류: {}", error.getMessage(), error))
-                .onErrorResume(error -> {
-                    if (error instanceof WebClientResponseException.TooManyRequests) {
-                        return Flux.just("⚠️ API 요청 제한에 도달했습니다. 잠시 후 다시 시도해주세요.");
+        // 재시도마다 새 디코더를 쓰도록 defer
+        return Flux.defer(() -> {
+                    GeminiSseTextDecoder decoder = new GeminiSseTextDecoder(geminiConfig.getMaxInMemorySize());
+                    return geminiWebClient.post()
+                            .uri(url)
+                            .header("Content-Type", "application/json")
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .concatMapIterable(decoder::decode)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(decoder.flush())))
+                            .doOnError(WebClientResponseException.TooManyRequests.class,
+                                    error -> meterRegistry.counter("gemini.rate.limited").increment());
+                })
+                // 첫 청크까지만 응답 타임아웃 적용 (이후 청크 간격은 readTimeout이 담당)
+                .timeout(Mono.delay(geminiConfig.getResponseTimeout()), chunk -> Mono.never());
+    }
+
+    /**
+     * 스트림 메트릭 기록 (호출량 제한 대기 이후부터, 시도마다 기록)
+     * 
+     * 토큰 수는 응답에 포함되지 않으므로 호출량 제한기와 같은 기준(한글 글자 수 = 토큰 수)으로 추정합니다.
+     */
+    private Flux<String> instrument(Flux<String> stream) {
+        long start = System.nanoTime();
+        long[] firstChunkAt = {0};
+        long[] chars = {0};
+        return stream
+                .doOnNext(text -> {
+                    if (firstChunkAt[0] == 0) {
+                        firstChunkAt[0] = System.nanoTime();
+                        meterRegistry.timer("gemini.stream.first.token")
+                                .record(firstChunkAt[0] - start, TimeUnit.NANOSECONDS);
                     }
-                    if (error instanceof WebClientResponseException) {
-                        WebClientResponseException wcre = (WebClientResponseException) error;
-                        log.error("API 에러 응답: {}", wcre.getResponseBodyAsString());
+                    chars[0] += text.length();
+                })
+                .doFinally(signal -> {
+                    long end = System.nanoTime();
+                    meterRegistry.timer("gemini.stream.duration", "outcome", outcomeOf(signal))
+                            .record(end - start, TimeUnit.NANOSECONDS);
+                    if (signal == SignalType.ON_COMPLETE && firstChunkAt[0] != 0) {
+                        meterRegistry.summary("gemini.stream.tokens").record(chars[0]);
+                        if (end > firstChunkAt[0]) {
+                            meterRegistry.summary("gemini.stream.tokens.per.second")
+                                    .record(chars[0] * 1e9 / (end - firstChunkAt[0]));
+                        }
                     }
-                    return Flux.just("오류가 발생했습니다: " + error.getMessage());
                 });
     }
 
+    private static String outcomeOf(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> "complete";
+            case ON_ERROR -> "error";
+            default -> "cancel";
+        };
+    }
+
     /**
      * 재시도 가능한 에러인지 확인
      */
@@ -108,8 +226,7 @@ public class GeminiService {
         // System Instruction (영양상담사 역할 설정)
         Map<String, Object> systemInstruction = new HashMap<>();
         Map<String, String> systemPart = new HashMap<>();
-        systemPart.put("text", "너는 전문 영양상담사야. 사용자의 식단을 분석하고 " +
-                "영양학적 관점에서 조언을 제공해. 친절하고 전문적으로 답변해줘.");
+        systemPart.put("text", SYSTEM_INSTRUCTION);
         systemInstruction.put("parts", List.of(systemPart));
         requestBody.put("system_instruction", systemInstruction);
 
@@ -124,42 +241,14 @@ public class GeminiService {
     }
 
     /**
-     * SSE 응답에서 텍스트 추출 (Jackson ObjectMapper 사용)
+     * SSE 응답 한 건에서 텍스트 추출
+     * 
+     * @param response SSE 이벤트 (data: 접두사 포함 가능)
+     * @return 추출된 텍스트 (없으면 빈 문자열)
      */
-    private String extractTextFromResponse(String response) {
-        try {
-            String jsonData = response;
-
-            // SSE 형식: data: {"candidates":[...]}
-            if (response.startsWith("data: ")) {
-                jsonData = response.substring(6).trim();
-            }
-
-            // 빈 응답 또는 종료 신호 무시
-            if (jsonData.isEmpty() || jsonData.equals("[DONE]")) {
-                return "";
-            }
-
-            // Jackson으로 JSON 파싱
-            JsonNode root = objectMapper.readTree(jsonData);
-
-            // candidates[0].content.parts[0].text 경로에서 텍스트 추출
-            JsonNode candidates = root.path("candidates");
-            if (candidates.isArray() && candidates.size() > 0) {
-                JsonNode content = candidates.get(0).path("content");
-                JsonNode parts = content.path("parts");
-                if (parts.isArray() && parts.size() > 0) {
-                    JsonNode textNode = parts.get(0).path("text");
-                    if (!textNode.isMissingNode()) {
-                        return textNode.asText();
-                    }
-                }
-            }
-
-            return "";
-        } catch (Exception e) {
-            log.warn("응답 파싱 오류: {}", response, e);
-            return "";
-        }
+    static String extractTextFromResponse(String response) {
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        String text = GeminiSseTextDecoder.extractLine(bytes, 0, bytes.length);
+        return text != null ? text : "";
     }
 }
@@ -0,0 +1,213 @@
+package com.zinidata.sample.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Gemini SSE 응답 텍스트 디코더
+ *
+ * 수신한 바이트를 줄 단위로 잘라 "data:" 줄의 JSON에서
+ * candidates[0].content.parts[0].text 값만 Jackson 스트리밍 파서로 꺼냅니다.
+ * 이벤트를 String으로 만들거나 JsonNode 트리를 만들지 않습니다.
+ *
+ * 줄이 여러 버퍼에 걸쳐 올 수 있으므로 상태를 가지며, 스트림(구독)마다 새로 생성해야 합니다.
+ * 줄바꿈 없이 maxLineBytes를 넘게 쌓이면 {@link DataBufferLimitException}으로 스트림을 종료합니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+@Slf4j
+public class GeminiSseTextDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final byte[] DATA_PREFIX = "data:".getBytes(StandardCharsets.US_ASCII);
+
+    /** 기본 최대 줄 크기 (WebClient maxInMemorySize 기본값과 같음) */
+    static final int DEFAULT_MAX_LINE_BYTES = 10 * 1024 * 1024;
+
+    private final int maxLineBytes;
+
+    /** 아직 줄바꿈을 만나지 못한 바이트 */
+    private byte[] pending = new byte[8 * 1024];
+    private int pendingLength;
+
+    public GeminiSseTextDecoder() {
+        this(DEFAULT_MAX_LINE_BYTES);
+    }
+
+    /**
+     * @param maxLineBytes 한 줄의 최대 크기 (바이트)
+     */
+    public GeminiSseTextDecoder(int maxLineBytes) {
+        this.maxLineBytes = maxLineBytes;
+    }
+
+    /**
+     * 버퍼를 디코딩하여 완성된 줄의 텍스트 목록을 반환하고 버퍼를 해제합니다.
+     *
+     * @param buffer 수신 버퍼
+     * @return 추출된 텍스트 목록 (빈 텍스트 제외)
+     */
+    public List<String> decode(DataBuffer buffer) {
+        try {
+            int length = buffer.readableByteCount();
+            ensureCapacity(pendingLength + length);
+            buffer.read(pending, pendingLength, length);
+            pendingLength += length;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+        List<String> texts = drainLines();
+        // 남은 바이트는 모두 끝나지 않은 한 줄이므로 상한을 넘으면 더 받지 않음
+        if (pendingLength > maxLineBytes) {
+            pending = new byte[0];
+            pendingLength = 0;
+            throw new DataBufferLimitException("SSE 한 줄이 최대 크기(" + maxLineBytes + " bytes)를 넘었습니다.");
+        }
+        return texts;
+    }
+
+    /**
+     * 스트림 종료 시 줄바꿈 없이 남은 마지막 줄을 처리합니다.
+     *
+     * @return 추출된 텍스트 목록
+     */
+    public List<String> flush() {
+        List<String> texts = new ArrayList<>(1);
+        if (pendingLength > 0) {
+            addText(texts, pending, 0, pendingLength);
+            pendingLength = 0;
+        }
+        return texts;
+    }
+
+    private List<String> drainLines() {
+        List<String> texts = new ArrayList<>(2);
+        int lineStart = 0;
+        for (int i = 0; i < pendingLength; i++) {
+            if (pending[i] == '\n') {
+                addText(texts, pending, lineStart, i - lineStart);
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart > 0) {
+            System.arraycopy(pending, lineStart, pending, 0, pendingLength - lineStart);
+            pendingLength -= lineStart;
+        }
+        return texts;
+    }
+
+    private static void addText(List<String> texts, byte[] bytes, int offset, int length) {
+        String text = extractLine(bytes, offset, length);
+        if (text != null && !text.isEmpty()) {
+            texts.add(text);
+        }
+    }
+
+    /**
+     * SSE 한 줄에서 텍스트 추출
+     *
+     * "data:" 접두사가 있으면 제거합니다.
+     *
+     * @return 추출된 텍스트 (없으면 null)
+     */
+    static String extractLine(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        // 줄 끝 CR 제거
+        while (end > offset && (bytes[end - 1] == '\r' || bytes[end - 1] == ' ')) {
+            end--;
+        }
+        int start = offset;
+        if (startsWith(bytes, start, end, DATA_PREFIX)) {
+            start += DATA_PREFIX.length;
+        }
+        while (start < end && bytes[start] == ' ') {
+            start++;
+        }
+        // JSON 객체가 아닌 줄 (빈 줄, 주석, [DONE] 등)은 무시
+        if (start >= end || bytes[start] != '{') {
+            return null;
+        }
+        return extractText(bytes, start, end - start);
+    }
+
+    /**
+     * Gemini 응답 JSON에서 candidates[0].content.parts[0].text 추출
+     *
+     * @return 텍스트 (경로가 없거나 파싱에 실패하면 null)
+     */
+    static String extractText(byte[] json, int offset, int length) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json, offset, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            if (!moveToField(parser, "candidates") || !moveToFirstArrayObject(parser)) {
+                return null;
+            }
+            if (!moveToField(parser, "content") || parser.currentToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            if (!moveToField(parser, "parts") || !moveToFirstArrayObject(parser)) {
+                return null;
+            }
+            if (!moveToField(parser, "text") || parser.currentToken() != JsonToken.VALUE_STRING) {
+                return null;
+            }
+            return parser.getText();
+        } catch (IOException e) {
+            log.warn("응답 파싱 오류: {}", new String(json, offset, length, StandardCharsets.UTF_8), e);
+            return null;
+        }
+    }
+
+    /**
+     * 현재 객체 안에서 지정한 필드의 값 위치로 이동 (다른 필드 값은 건너뜀)
+     */
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 현재 배열의 첫 번째 객체 위치로 이동
+     */
+    private static boolean moveToFirstArrayObject(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.START_ARRAY && parser.nextToken() == JsonToken.START_OBJECT;
+    }
+
+    private static boolean startsWith(byte[] bytes, int start, int end, byte[] prefix) {
+        if (end - start < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[start + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > pending.length) {
+            pending = Arrays.copyOf(pending, Math.max(required, Math.min(pending.length * 2, maxLineBytes)));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.zinidata.sample.service;
 
+import com.zinidata.sample.common.util.TransactionUtil;
 import com.zinidata.sample.domain.member.Member;
+import com.zinidata.sample.domain.member.MemberIdFilter;
 import com.zinidata.sample.domain.member.MemberRepository;
 import com.zinidata.sample.dto.MemberDto;
 import com.zinidata.sample.dto.MemberInfoDto;
@@ -21,10 +23,11 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberIdFilter memberIdFilter;
 
     @Transactional
     public void signup(MemberDto memberDto) {
-        if (memberRepository.findByMemberId(memberDto.getMemberId()).isPresent()) {
+        if (memberRepository.existsByMemberId(memberDto.getMemberId())) {
             throw new IllegalArgumentException("이미 존재하는 아이디입니다.");
         }
 
@@ -39,11 +42,26 @@ public class MemberService {
                 .build();
 
         memberRepository.save(member);
+        String memberId = member.getMemberId();
+        TransactionUtil.afterCommit(() -> memberIdFilter.add(memberId));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 아이디 중복 확인
+     * 
+     * 아이디 필터가 "확실히 없음"으로 판단하면 DB를 조회하지 않습니다.
+     * (트랜잭션을 열면 커넥션을 먼저 잡으므로 트랜잭션 없이 실행)
+     * 
+     * @param memberId 회원 ID
+     * @return 중복 여부 (true: 이미 사용 중)
+     */
     public boolean checkIdDuplicate(String memberId) {
-        return memberRepository.existsByMemberId(memberId);
+        if (!memberIdFilter.mightExist(memberId)) {
+            return false;
+        }
+        boolean exists = memberRepository.existsByMemberId(memberId);
+        memberIdFilter.recordFallback(exists);
+        return exists;
     }
 
     /**
@@ -54,8 +72,17 @@ public class MemberService {
     @Transactional(readOnly = true)
     public MemberInfoDto getCurrentMemberInfo() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String memberId = authentication.getName();
+        return getMemberInfo(authentication.getName());
+    }
 
+    /**
+     * 사용자 정보 조회
+     * 
+     * @param memberId 회원 아이디
+     * @return 사용자 정보 (나이, 성별)
+     */
+    @Transactional(readOnly = true)
+    public MemberInfoDto getMemberInfo(String memberId) {
         Member member = memberRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -71,7 +98,7 @@ public class MemberService {
      * @param birthDate 생년월일 (YYYYMMDD)
      * @return 만 나이
      */
-    private Integer calculateAge(String birthDate) {
+    static Integer calculateAge(String birthDate) {
         if (birthDate == null || birthDate.length() != 8) {
             return null;
         }
@@ -0,0 +1,141 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.common.util.CsvReader;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV/XLSX 파일을 한 행씩 읽는 리더
+ *
+ * 두 형식 모두 행 단위 스트리밍으로 읽어 파일 크기와 관계없이 현재 행만 메모리에 둡니다.
+ * XLSX는 POI 이벤트(SAX) 방식으로 첫 번째 시트만 읽으며, 공유 문자열 테이블만 메모리에 올립니다.
+ *
+ * @author NICE ZiniData 개발팀
+ */
+final class SpreadsheetRowReader {
+
+    /**
+     * 행 처리기 (첫 행은 헤더)
+     */
+    @FunctionalInterface
+    interface RowHandler {
+        void handle(List<String> fields) throws Exception;
+    }
+
+    private SpreadsheetRowReader() {
+    }
+
+    /**
+     * 확장자(.csv, .xlsx)에 따라 파일 읽기
+     *
+     * @param file     파일
+     * @param fileName 원본 파일명 (확장자 판별용)
+     * @param charset  CSV 문자셋 (공공데이터 CSV는 MS949인 경우가 많음)
+     * @param handler  행 처리기
+     */
+    static void read(Path file, String fileName, Charset charset, RowHandler handler) throws Exception {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            readCsv(file, charset, handler);
+        } else if (name.endsWith(".xlsx")) {
+            readXlsx(file, handler);
+        } else {
+            throw new IllegalArgumentException("CSV 또는 XLSX 파일만 적재할 수 있습니다: " + fileName);
+        }
+    }
+
+    static void readCsv(Path file, Charset charset, RowHandler handler) throws Exception {
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, charset))) {
+            List<String> fields;
+            while ((fields = reader.readRow()) != null) {
+                handler.handle(fields);
+            }
+        }
+    }
+
+    static void readXlsx(Path file, RowHandler handler) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            RowCollector collector = new RowCollector(handler);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(xssfReader.getStylesTable(),
+                        new ReadOnlySharedStringsTable(pkg), collector, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            } catch (HandlerException e) {
+                throw e.handlerCause;
+            }
+        }
+    }
+
+    /**
+     * 시트 이벤트를 행 단위 필드 목록으로 모음 (빈 셀은 "")
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> fields = new ArrayList<>();
+
+        RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            fields.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            try {
+                handler.handle(new ArrayList<>(fields));
+            } catch (Exception e) {
+                throw new HandlerException(e);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : fields.size();
+            while (fields.size() < column) {
+                fields.add("");
+            }
+            fields.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+
+    /**
+     * SAX 콜백 밖으로 행 처리기 예외를 전달하기 위한 래퍼
+     */
+    private static final class HandlerException extends RuntimeException {
+
+        private final Exception handlerCause;
+
+        HandlerException(Exception handlerCause) {
+            super(handlerCause);
+            this.handlerCause = handlerCause;
+        }
+    }
+}
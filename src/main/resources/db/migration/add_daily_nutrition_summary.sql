@@ -0,0 +1,30 @@
+-- 일일 영양 합계 테이블 추가 및 기존 기록 집계
+-- 작성일: 2026-10-17
+-- 설명: 사용자/날짜별 영양 합계를 미리 집계하여 주간/월간 조회 시 원본 기록을 다시 집계하지 않도록 함
+--       이후에는 음식 기록 저장/삭제 시 애플리케이션이 증감분을 반영하고, 매일 최근 기간을 재집계함
+
+CREATE TABLE IF NOT EXISTS TB_DAILY_NUTRITION_SUMMARY (
+    USER_ID VARCHAR(20) NOT NULL,
+    RECORD_DATE VARCHAR(8) NOT NULL,
+    CALORIES NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    CARBOHYDRATE NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PROTEIN NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    FAT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    SODIUM NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    ITEM_COUNT INTEGER NOT NULL DEFAULT 0,
+    CHG_DT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT PK_TB_DAILY_NUTRITION_SUMMARY PRIMARY KEY (USER_ID, RECORD_DATE)
+);
+
+COMMENT ON TABLE TB_DAILY_NUTRITION_SUMMARY IS '일일 영양 합계';
+
+INSERT INTO TB_DAILY_NUTRITION_SUMMARY
+    (USER_ID, RECORD_DATE, CALORIES, CARBOHYDRATE, PROTEIN, FAT, SODIUM, ITEM_COUNT, CHG_DT)
+SELECT R.USER_ID, R.RECORD_DATE,
+       COALESCE(SUM(N.CALORIES), 0), COALESCE(SUM(N.CARBOHYDRATE), 0), COALESCE(SUM(N.PROTEIN), 0),
+       COALESCE(SUM(N.FAT), 0), COALESCE(SUM(N.SODIUM), 0),
+       COUNT(*), CURRENT_TIMESTAMP
+FROM TB_FOOD_RECORD R
+LEFT JOIN TB_FOOD_NUTRITION N ON N.FOOD_ID = R.FOOD_ID
+GROUP BY R.USER_ID, R.RECORD_DATE
+ON CONFLICT (USER_ID, RECORD_DATE) DO NOTHING;
@@ -0,0 +1,10 @@
+-- 식품코드 컬럼 추가
+-- 작성일: 2026-10-17
+-- 설명: 공공 식품영양성분 DB 일괄 적재 시 식품코드로 기존 식품을 찾아 갱신(UPSERT)하기 위한 자연키
+--       직접 등록한 식품은 NULL (UNIQUE 제약은 NULL을 중복으로 보지 않음)
+
+ALTER TABLE TB_FOOD_NUTRITION ADD COLUMN IF NOT EXISTS FOOD_CODE VARCHAR(40);
+
+CREATE UNIQUE INDEX IF NOT EXISTS UK_TB_FOOD_NUTRITION_FOOD_CODE ON TB_FOOD_NUTRITION (FOOD_CODE);
+
+COMMENT ON COLUMN TB_FOOD_NUTRITION.FOOD_CODE IS '식품코드';
@@ -0,0 +1,77 @@
+-- 음식 기록 DATE 컬럼 및 조회 인덱스 추가
+-- 작성일: 2026-10-17
+-- 설명: TB_FOOD_RECORD는 RECORD_ID PK 외에 인덱스가 없어 사용자/날짜 조회가 전체 테이블을 읽음
+--       VARCHAR(8) RECORD_DATE 대신 DATE 타입 RECORD_DT로 조회하고, (USER_ID, RECORD_DT) 인덱스에 FOOD_ID를 포함시킴
+--       RECORD_DATE는 일일 영양 합계 키로 계속 사용하므로 유지
+--
+-- 무중단 적용 순서 (psql 자동 커밋 모드에서 단계별 실행)
+--   1. 컬럼 추가 (NULL 허용, 기본값 없음 → 테이블 재작성 없이 즉시 완료)
+--      + 이전 버전 애플리케이션이 저장하는 행에도 RECORD_DT를 채우는 트리거
+--   2. 기존 행 백필 (RECORD_ID 범위 단위로 나누어 커밋, 잠금 시간을 짧게 유지)
+--   3. 인덱스 생성 (CONCURRENTLY, 쓰기 차단 없음)
+--   4. RECORD_DT로 조회하는 애플리케이션 배포
+--      (1~3이 끝난 뒤 배포해야 함: 백필 전에 배포하면 이전 버전이 저장한 행이 오늘/추이 조회에서 빠짐)
+--   5. NOT NULL 제약 (NOT VALID CHECK 후 VALIDATE → SET NOT NULL은 검증된 CHECK를 사용해 전체 검사 생략)
+--      + 이전 버전 인스턴스가 모두 내려간 뒤 트리거 삭제
+
+-- 1. 컬럼 추가
+ALTER TABLE TB_FOOD_RECORD ADD COLUMN IF NOT EXISTS RECORD_DT DATE;
+
+COMMENT ON COLUMN TB_FOOD_RECORD.RECORD_DT IS '날짜';
+
+CREATE OR REPLACE FUNCTION FN_TB_FOOD_RECORD_FILL_DT() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.RECORD_DT IS NULL THEN
+        NEW.RECORD_DT := TO_DATE(NEW.RECORD_DATE, 'YYYYMMDD');
+    END IF;
+    RETURN NEW;
+END $$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS TRG_TB_FOOD_RECORD_FILL_DT ON TB_FOOD_RECORD;
+CREATE TRIGGER TRG_TB_FOOD_RECORD_FILL_DT
+    BEFORE INSERT OR UPDATE ON TB_FOOD_RECORD
+    FOR EACH ROW EXECUTE FUNCTION FN_TB_FOOD_RECORD_FILL_DT();
+
+-- 2. 백필 (10,000 ID 구간마다 커밋, 다른 트랜잭션과의 경합을 줄이기 위해 구간 사이에 잠시 대기)
+DO $$
+DECLARE
+    batch_size CONSTANT BIGINT := 10000;
+    last_id BIGINT := 0;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(RECORD_ID), 0) INTO max_id FROM TB_FOOD_RECORD;
+    WHILE last_id < max_id LOOP
+        UPDATE TB_FOOD_RECORD
+           SET RECORD_DT = TO_DATE(RECORD_DATE, 'YYYYMMDD')
+         WHERE RECORD_ID > last_id
+           AND RECORD_ID <= last_id + batch_size
+           AND RECORD_DT IS NULL;
+        last_id := last_id + batch_size;
+        COMMIT;
+        PERFORM pg_sleep(0.01);
+    END LOOP;
+END $$;
+
+-- 3. 인덱스 생성
+--    인덱스는 이 스크립트에서만 만듦 (엔티티에 선언하지 않으므로 4단계 배포 시 Hibernate가 만들지 않음)
+--    이전 배포에서 INCLUDE (FOOD_ID) 없이 생성된 IDX_TB_FOOD_RECORD_USER_DT가 있으면
+--    DROP INDEX CONCURRENTLY IDX_TB_FOOD_RECORD_USER_DT; 로 먼저 지운 뒤 실행
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_TB_FOOD_RECORD_USER_DT
+    ON TB_FOOD_RECORD (USER_ID, RECORD_DT) INCLUDE (FOOD_ID);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS IDX_TB_FOOD_RECORD_DT
+    ON TB_FOOD_RECORD (RECORD_DT);
+
+-- 인덱스만으로 조회(Index Only Scan)하려면 visibility map이 갱신되어 있어야 함
+VACUUM (ANALYZE) TB_FOOD_RECORD;
+
+-- 4. 애플리케이션 배포 (이 스크립트 밖에서 진행)
+
+-- 5. NOT NULL 제약 및 트리거 삭제
+ALTER TABLE TB_FOOD_RECORD ADD CONSTRAINT CK_TB_FOOD_RECORD_RECORD_DT CHECK (RECORD_DT IS NOT NULL) NOT VALID;
+ALTER TABLE TB_FOOD_RECORD VALIDATE CONSTRAINT CK_TB_FOOD_RECORD_RECORD_DT;
+ALTER TABLE TB_FOOD_RECORD ALTER COLUMN RECORD_DT SET NOT NULL;
+ALTER TABLE TB_FOOD_RECORD DROP CONSTRAINT CK_TB_FOOD_RECORD_RECORD_DT;
+
+DROP TRIGGER IF EXISTS TRG_TB_FOOD_RECORD_FILL_DT ON TB_FOOD_RECORD;
+DROP FUNCTION IF EXISTS FN_TB_FOOD_RECORD_FILL_DT();
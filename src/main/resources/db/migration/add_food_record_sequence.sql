@@ -0,0 +1,13 @@
+-- 음식 기록 ID를 시퀀스 할당 방식으로 변경
+-- 작성일: 2026-10-17
+-- 설명: IDENTITY(BIGSERIAL) 키는 INSERT마다 생성된 키를 돌려받아야 해서 Hibernate가 JDBC 배치를 쓰지 못함
+--       애플리케이션이 시퀀스에서 50개씩 미리 할당받도록(pooled) INCREMENT BY 50 시퀀스를 추가하고,
+--       기존 최대 ID 이후부터 할당되도록 시퀀스 값을 맞춤
+
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_FOOD_RECORD START WITH 1 INCREMENT BY 50;
+
+-- pooled 할당은 시퀀스 값 v에 대해 (v - 49) ~ v 를 사용하므로, 다음 nextval이 MAX + 100 이 되도록 설정
+SELECT setval('SEQ_TB_FOOD_RECORD', (SELECT COALESCE(MAX(RECORD_ID), 0) + 50 FROM TB_FOOD_RECORD));
+
+-- 기존 BIGSERIAL 기본값은 애플리케이션 할당 범위와 겹칠 수 있으므로 제거
+ALTER TABLE TB_FOOD_RECORD ALTER COLUMN RECORD_ID DROP DEFAULT;
@@ -0,0 +1,64 @@
+-- 음식 기록 테이블 월별 범위 파티션 전환 (PostgreSQL 13 이상)
+-- 작성일: 2026-10-17
+-- 선행: add_food_record_date_column.sql (RECORD_DT NOT NULL, 조회 인덱스)
+-- 설명: TB_FOOD_RECORD를 RECORD_DT 기준 월별 파티션 테이블로 바꿔 날짜 조건 조회가 해당 월 파티션만 읽도록 함
+--       기존 테이블은 데이터를 옮기지 않고 이번 달까지를 담는 보관 파티션(TB_FOOD_RECORD_LEGACY)으로 붙이며,
+--       다음 달부터는 애플리케이션(FoodRecordPartitionManager)이 월별 파티션을 미리 생성함
+--       파티션 테이블의 PK는 분할 키를 포함해야 하므로 (RECORD_ID, RECORD_DT)로 변경 (RECORD_ID는 시퀀스로 유일하게 할당)
+--
+-- psql 자동 커밋 모드에서 단계별 실행 (1, 2단계는 잠금 없이, 3단계는 짧은 배타 잠금 한 번)
+
+-- 1. 파티션 PK 요건을 만족하는 유니크 인덱스 (ATTACH 시 그대로 사용)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS UK_TB_FOOD_RECORD_LEGACY_ID_DT ON TB_FOOD_RECORD (RECORD_ID, RECORD_DT);
+
+-- 2. 보관 파티션 범위 CHECK를 미리 검증 (ATTACH 시 전체 테이블 검사 생략)
+DO $$
+BEGIN
+    EXECUTE format('ALTER TABLE TB_FOOD_RECORD ADD CONSTRAINT CK_TB_FOOD_RECORD_LEGACY_RANGE CHECK (RECORD_DT < %L) NOT VALID',
+                   (date_trunc('month', current_date) + interval '1 month')::date);
+END $$;
+ALTER TABLE TB_FOOD_RECORD VALIDATE CONSTRAINT CK_TB_FOOD_RECORD_LEGACY_RANGE;
+
+-- 3. 파티션 테이블로 교체 (한 트랜잭션)
+DO $$
+DECLARE
+    legacy_upper DATE := (date_trunc('month', current_date) + interval '1 month')::date;
+    pk_name TEXT;
+BEGIN
+    ALTER TABLE TB_FOOD_RECORD RENAME TO TB_FOOD_RECORD_LEGACY;
+
+    -- 기존 RECORD_ID 단일 PK는 파티션 PK와 함께 둘 수 없으므로 제거 (유일성은 1단계 인덱스가 보장)
+    SELECT conname INTO pk_name FROM pg_constraint
+     WHERE conrelid = 'tb_food_record_legacy'::regclass AND contype = 'p';
+    IF pk_name IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE TB_FOOD_RECORD_LEGACY DROP CONSTRAINT %I', pk_name);
+    END IF;
+    ALTER INDEX IF EXISTS IDX_TB_FOOD_RECORD_USER_DT RENAME TO IDX_TB_FOOD_RECORD_LEGACY_USER_DT;
+    ALTER INDEX IF EXISTS IDX_TB_FOOD_RECORD_DT RENAME TO IDX_TB_FOOD_RECORD_LEGACY_DT;
+
+    CREATE TABLE TB_FOOD_RECORD (LIKE TB_FOOD_RECORD_LEGACY INCLUDING DEFAULTS INCLUDING COMMENTS)
+        PARTITION BY RANGE (RECORD_DT);
+    ALTER TABLE TB_FOOD_RECORD ADD CONSTRAINT PK_TB_FOOD_RECORD PRIMARY KEY (RECORD_ID, RECORD_DT);
+    CREATE INDEX IDX_TB_FOOD_RECORD_USER_DT ON TB_FOOD_RECORD (USER_ID, RECORD_DT) INCLUDE (FOOD_ID);
+    CREATE INDEX IDX_TB_FOOD_RECORD_DT ON TB_FOOD_RECORD (RECORD_DT);
+    COMMENT ON TABLE TB_FOOD_RECORD IS '먹은 음식 기록 (RECORD_DT 월별 파티션)';
+
+    -- 같은 정의의 기존 인덱스는 파티션 인덱스로 연결됨
+    EXECUTE format('ALTER TABLE TB_FOOD_RECORD ATTACH PARTITION TB_FOOD_RECORD_LEGACY FOR VALUES FROM (MINVALUE) TO (%L)',
+                   legacy_upper);
+
+    -- 월별 파티션이 없는 날짜 (보관 기간 밖의 과거 날짜 등)
+    CREATE TABLE TB_FOOD_RECORD_DEFAULT PARTITION OF TB_FOOD_RECORD DEFAULT;
+
+    -- 다음 3개월 (이후는 애플리케이션이 생성)
+    FOR i IN 0..2 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF TB_FOOD_RECORD FOR VALUES FROM (%L) TO (%L)',
+                       'tb_food_record_p' || to_char(legacy_upper + make_interval(months => i), 'YYYYMM'),
+                       (legacy_upper + make_interval(months => i))::date,
+                       (legacy_upper + make_interval(months => i + 1))::date);
+    END LOOP;
+END $$;
+
+ALTER TABLE TB_FOOD_RECORD_LEGACY DROP CONSTRAINT CK_TB_FOOD_RECORD_LEGACY_RANGE;
+
+ANALYZE TB_FOOD_RECORD;
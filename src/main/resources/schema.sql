@@ -20,23 +20,61 @@ COMMENT ON COLUMN TB_MEMBER.USE_YN IS '사용여부';
 COMMENT ON COLUMN TB_MEMBER.REG_DT IS '등록일시';
 COMMENT ON COLUMN TB_MEMBER.CHG_DT IS '수정일시';
 
--- 먹은 음식 기록 테이블
+-- 먹은 음식 기록 테이블 (RECORD_DT 월별 범위 파티션, PostgreSQL)
+-- 월별 파티션은 FoodRecordPartitionManager가 기동 시/매일 미리 생성하며, 범위 밖 날짜는 DEFAULT 파티션에 저장
+-- RECORD_ID는 애플리케이션이 시퀀스에서 50개씩 할당받아 채움 (FoodRecord allocationSize와 INCREMENT BY 일치)
+CREATE SEQUENCE IF NOT EXISTS SEQ_TB_FOOD_RECORD START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS TB_FOOD_RECORD (
-    RECORD_ID BIGSERIAL NOT NULL,
+    RECORD_ID BIGINT NOT NULL,
     RECORD_DATE VARCHAR(8) NOT NULL,
+    RECORD_DT DATE NOT NULL,
     USER_ID VARCHAR(20) NOT NULL,
     FOOD_ID NUMERIC,
     FOOD_LIST TEXT,
     REG_DT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     CHG_DT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    CONSTRAINT PK_TB_FOOD_RECORD PRIMARY KEY (RECORD_ID)
-);
+    CONSTRAINT PK_TB_FOOD_RECORD PRIMARY KEY (RECORD_ID, RECORD_DT)
+) PARTITION BY RANGE (RECORD_DT);
+
+CREATE TABLE IF NOT EXISTS TB_FOOD_RECORD_DEFAULT PARTITION OF TB_FOOD_RECORD DEFAULT;
 
-COMMENT ON TABLE TB_FOOD_RECORD IS '먹은 음식 기록';
+COMMENT ON TABLE TB_FOOD_RECORD IS '먹은 음식 기록 (RECORD_DT 월별 파티션)';
 COMMENT ON COLUMN TB_FOOD_RECORD.RECORD_ID IS '기록 ID';
 COMMENT ON COLUMN TB_FOOD_RECORD.RECORD_DATE IS '날짜(YYYYMMDD)';
+COMMENT ON COLUMN TB_FOOD_RECORD.RECORD_DT IS '날짜';
 COMMENT ON COLUMN TB_FOOD_RECORD.USER_ID IS '유저 아이디';
 COMMENT ON COLUMN TB_FOOD_RECORD.FOOD_ID IS '음식 아이디';
 COMMENT ON COLUMN TB_FOOD_RECORD.FOOD_LIST IS '음식 리스트';
 COMMENT ON COLUMN TB_FOOD_RECORD.REG_DT IS '등록일시';
 COMMENT ON COLUMN TB_FOOD_RECORD.CHG_DT IS '수정일시';
+
+-- 사용자별 날짜 조회용 (FOOD_ID 포함, 음식 ID만 읽는 조회는 테이블 접근 없이 인덱스만으로 처리)
+CREATE INDEX IF NOT EXISTS IDX_TB_FOOD_RECORD_USER_DT ON TB_FOOD_RECORD (USER_ID, RECORD_DT) INCLUDE (FOOD_ID);
+-- 날짜별 조회/재집계용
+CREATE INDEX IF NOT EXISTS IDX_TB_FOOD_RECORD_DT ON TB_FOOD_RECORD (RECORD_DT);
+
+-- 일일 영양 합계 테이블 (TB_FOOD_RECORD + TB_FOOD_NUTRITION 사용자/날짜별 집계)
+CREATE TABLE IF NOT EXISTS TB_DAILY_NUTRITION_SUMMARY (
+    USER_ID VARCHAR(20) NOT NULL,
+    RECORD_DATE VARCHAR(8) NOT NULL,
+    CALORIES NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    CARBOHYDRATE NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    PROTEIN NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    FAT NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    SODIUM NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    ITEM_COUNT INTEGER NOT NULL DEFAULT 0,
+    CHG_DT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT PK_TB_DAILY_NUTRITION_SUMMARY PRIMARY KEY (USER_ID, RECORD_DATE)
+);
+
+COMMENT ON TABLE TB_DAILY_NUTRITION_SUMMARY IS '일일 영양 합계';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.USER_ID IS '유저 아이디';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.RECORD_DATE IS '날짜(YYYYMMDD)';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.CALORIES IS '열량 합계(kcal)';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.CARBOHYDRATE IS '탄수화물 합계(g)';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.PROTEIN IS '단백질 합계(g)';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.FAT IS '지방 합계(g)';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.SODIUM IS '나트륨 합계(mg)';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.ITEM_COUNT IS '음식 기록 수';
+COMMENT ON COLUMN TB_DAILY_NUTRITION_SUMMARY.CHG_DT IS '수정일시';
@@ -3,7 +3,7 @@ package com.zinidata.sample;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "chat.server.port=0")
 class SampleApplicationTests {
 
 	@Test
@@ -0,0 +1,40 @@
+package com.zinidata.sample.common.converter;
+
+import com.zinidata.sample.common.util.AesCryptoEngine;
+import com.zinidata.sample.common.util.AesCryptoUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncryptedStringConverterTest {
+
+    private final EncryptedStringConverter converter =
+            new EncryptedStringConverter(AesCryptoEngine.legacy(AesCryptoUtil.DEFAULT_SECRET_KEY));
+
+    @Test
+    void decryptsOnlyOnFirstReadAndMemoizes() {
+        String stored = converter.convertToDatabaseColumn(EncryptedString.of("홍길동"));
+        long before = decryptCount("test.name");
+
+        EncryptedString loaded = converter.convertToEntityAttribute(stored);
+        assertThat(decryptCount("test.name")).isEqualTo(before);
+
+        assertThat(EncryptedString.reveal(loaded, "test.name")).isEqualTo("홍길동");
+        assertThat(EncryptedString.reveal(loaded, "test.name")).isEqualTo("홍길동");
+        assertThat(decryptCount("test.name")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void unchangedValueIsWrittenBackWithoutReencrypting() {
+        String stored = "O3SGMOWYrPyJMN/0flAsBQ==";
+        EncryptedString loaded = converter.convertToEntityAttribute(stored);
+
+        assertThat(converter.convertToDatabaseColumn(loaded)).isSameAs(stored);
+        assertThat(loaded).isEqualTo(converter.convertToEntityAttribute(stored));
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    private static long decryptCount(String field) {
+        return EncryptedString.getDecryptCounts().getOrDefault(field, 0L);
+    }
+}
@@ -0,0 +1,93 @@
+package com.zinidata.sample.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggerRateLimitFilterTest {
+
+    private final AtomicLong millis = new AtomicLong(1_800_000_000_000L);
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+        LoggerRateLimitFilter filter = new LoggerRateLimitFilter(clock);
+        filter.setPrefix("com.zinidata.sample");
+        filter.setMaxPerSecond(3);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void limitsEachLoggerPerSecondAndReportsSuppressedCount() {
+        Logger service = context.getLogger("com.zinidata.sample.service.FoodNutritionService");
+        Logger other = context.getLogger("com.zinidata.sample.domain.food.FoodRecordService");
+
+        for (int i = 0; i < 10; i++) {
+            service.info("검색 {}", i);
+        }
+        other.info("저장");
+        service.warn("경고는 제한하지 않음");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("검색 0", "검색 1", "검색 2", "저장", "경고는 제한하지 않음");
+
+        millis.addAndGet(1000);
+        appender.list.clear();
+        service.info("다음 구간");
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("로그 건수 제한으로 7건을 기록하지 않았습니다 (최대 3건/초)", "다음 구간");
+    }
+
+    @Test
+    void ignoresDisabledLevelsAndOtherLoggers() {
+        Logger service = context.getLogger("com.zinidata.sample.service.GeminiService");
+        Logger framework = context.getLogger("org.springframework.web");
+
+        for (int i = 0; i < 10; i++) {
+            service.debug("기록되지 않는 로그 {}", i);
+            framework.info("제한 대상 아님 {}", i);
+        }
+        service.info("첫 로그");
+
+        assertThat(appender.list).hasSize(11);
+        assertThat(appender.list.get(10).getFormattedMessage()).isEqualTo("첫 로그");
+    }
+}
@@ -0,0 +1,55 @@
+package com.zinidata.sample.common.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void requestsRehashWhenConfiguredCostChanges() {
+        encoder = new BoundedPasswordEncoder(5, 1, 10, Duration.ofSeconds(5));
+        String cost4 = new BCryptPasswordEncoder(4).encode("password");
+        String cost5 = encoder.encode("password");
+
+        assertThat(encoder.matches("password", cost4)).isTrue();
+        assertThat(encoder.upgradeEncoding(cost4)).isTrue();
+        assertThat(encoder.upgradeEncoding(cost5)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain")).isFalse();
+    }
+
+    @Test
+    void failsWhenHashingThreadIsBusyPastTimeout() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(12, 1, 1, Duration.ofMillis(50));
+        String hash = new BCryptPasswordEncoder(4).encode("password");
+
+        // 유일한 해싱 스레드를 cost 12 해싱으로 점유
+        Thread busy = new Thread(() -> {
+            try {
+                encoder.encode("password");
+            } catch (AuthenticationServiceException ignored) {
+            }
+        });
+        busy.start();
+        while (encoder.getActiveCount() == 0) {
+            Thread.sleep(1);
+        }
+
+        assertThatThrownBy(() -> encoder.matches("password", hash))
+                .isInstanceOf(AuthenticationServiceException.class);
+        assertThat(encoder.getQueuedCount()).isZero();
+    }
+}
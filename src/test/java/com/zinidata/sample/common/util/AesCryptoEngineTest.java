@@ -0,0 +1,90 @@
+package com.zinidata.sample.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AesCryptoEngineTest {
+
+    private static final String KEY_V1 = "0123456789abcdef0123456789abcdef";
+    private static final String KEY_V2 = "fedcba9876543210fedcba9876543210";
+
+    // 기존 AesCryptoUtil로 "홍길동"을 암호화한 값
+    private static final String LEGACY_CIPHER_TEXT = "O3SGMOWYrPyJMN/0flAsBQ==";
+
+    @Test
+    void ecbModeKeepsLegacyFormat() {
+        AesCryptoEngine engine = AesCryptoEngine.legacy(AesCryptoUtil.DEFAULT_SECRET_KEY);
+
+        assertThat(engine.encrypt("홍길동")).isEqualTo(LEGACY_CIPHER_TEXT).doesNotContain(":");
+        assertThat(engine.decrypt(LEGACY_CIPHER_TEXT)).isEqualTo("홍길동");
+    }
+
+    @Test
+    void gcmModeWritesVersionedValuesAndReadsLegacyValues() {
+        AesCryptoEngine engine = new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, KEY_V1), 1);
+
+        String encrypted = engine.encrypt("19900101");
+
+        assertThat(encrypted).startsWith("v1:");
+        assertThat(engine.encrypt("19900101")).isNotEqualTo(encrypted);
+        assertThat(engine.decrypt(encrypted)).isEqualTo("19900101");
+        assertThat(engine.decrypt(LEGACY_CIPHER_TEXT)).isEqualTo("홍길동");
+    }
+
+    @Test
+    void rotatedKeyStillDecryptsPreviousVersion() {
+        String encryptedWithV1 = new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, KEY_V1), 1).encrypt("M");
+        AesCryptoEngine rotated = new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, KEY_V1, 2, KEY_V2), 2);
+
+        assertThat(rotated.encrypt("M")).startsWith("v2:");
+        assertThat(rotated.decrypt(encryptedWithV1)).isEqualTo("M");
+    }
+
+    @Test
+    void rejectsTamperedCipherText() {
+        AesCryptoEngine engine = new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, KEY_V1), 1);
+        String encrypted = engine.encrypt("홍길동");
+        char flipped = encrypted.charAt(10) == 'A' ? 'B' : 'A';
+        String tampered = encrypted.substring(0, 10) + flipped + encrypted.substring(11);
+
+        assertThatThrownBy(() -> engine.decrypt(tampered)).isInstanceOf(RuntimeException.class);
+        assertThat(engine.decrypt(encrypted)).isEqualTo("홍길동");
+    }
+
+    @Test
+    void gcmModeRequiresDistinctActiveKey() {
+        assertThatThrownBy(() -> new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, ""), 1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, AesCryptoUtil.DEFAULT_SECRET_KEY), 1)).isInstanceOf(IllegalStateException.class);
+
+        AesCryptoEngine ecb = new AesCryptoEngine(AesCryptoEngine.Mode.ECB, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, ""), 1);
+        assertThat(ecb.encrypt("홍길동")).isEqualTo(LEGACY_CIPHER_TEXT);
+    }
+
+    @Test
+    void recordsEncryptAndDecryptTimersOnceBound() {
+        AesCryptoEngine engine = new AesCryptoEngine(AesCryptoEngine.Mode.GCM, AesCryptoUtil.DEFAULT_SECRET_KEY,
+                Map.of(1, KEY_V1), 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine.bindTo(registry);
+
+        engine.decrypt(engine.encrypt("홍길동"));
+
+        assertThat(registry.get("crypto.aes").tag("operation", "encrypt").timer().count()).isEqualTo(1);
+        assertThat(registry.get("crypto.aes").tag("operation", "decrypt").tag("mode", "GCM").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("crypto.aes.cipher.idle").tag("transformation", "AES/GCM/NoPadding").gauge().value())
+                .isEqualTo(1);
+    }
+}
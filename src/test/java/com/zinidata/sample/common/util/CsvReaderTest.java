@@ -0,0 +1,45 @@
+package com.zinidata.sample.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAndLineEndings() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "\uFEFF식품코드,식품명,에너지(kcal)\r\n"
+                        + "D001,\"김치찌개, 돼지고기\",250\n"
+                        + "D002,\"\"\"특\"\" 공기밥\",\r\n"
+                        + "D003,\"여러\n줄\",1\n"));
+
+        assertThat(reader.readRow()).containsExactly("식품코드", "식품명", "에너지(kcal)");
+        assertThat(reader.readRow()).containsExactly("D001", "김치찌개, 돼지고기", "250");
+        assertThat(reader.readRow()).containsExactly("D002", "\"특\" 공기밥", "");
+        assertThat(reader.readRow()).containsExactly("D003", "여러\n줄", "1");
+        assertThat(reader.readRow()).isNull();
+        assertThat(reader.getLineNumber()).isEqualTo(4);
+    }
+
+    @Test
+    void readsLastRowWithoutNewline() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\nc,d"));
+
+        assertThat(reader.readRow()).isEqualTo(List.of("a", "b"));
+        assertThat(reader.readRow()).isEqualTo(List.of("c", "d"));
+        assertThat(reader.readRow()).isNull();
+    }
+
+    @Test
+    void rejectsUnclosedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("a,\"b\n"));
+
+        assertThatThrownBy(reader::readRow).isInstanceOf(IOException.class);
+    }
+}
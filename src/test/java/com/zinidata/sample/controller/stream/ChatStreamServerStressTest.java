@@ -0,0 +1,206 @@
+package com.zinidata.sample.controller.stream;
+
+import com.zinidata.sample.config.ChatServerConfig;
+import com.zinidata.sample.config.ChatStreamServer;
+import com.zinidata.sample.config.GeminiCacheConfig;
+import com.zinidata.sample.config.GeminiConfig;
+import com.zinidata.sample.config.GeminiRateLimitConfig;
+import com.zinidata.sample.service.ChatTokenService;
+import com.zinidata.sample.service.DietContextService;
+import com.zinidata.sample.service.GeminiRateLimiter;
+import com.zinidata.sample.service.GeminiResponseCache;
+import com.zinidata.sample.service.GeminiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 전용 채팅 스트리밍 서버 부하 테스트 (로컬 Gemini 스텁 서버 사용)
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew stressTest 로 실행합니다.
+ */
+@Tag("stress")
+class ChatStreamServerStressTest {
+
+    private static final int CONCURRENT_CHATS = 1000;
+    private static final int CHUNKS_PER_ANSWER = 5;
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private static final AtomicInteger upstreamCancelled = new AtomicInteger();
+
+    private static DisposableServer stubGemini;
+    private static ConnectionProvider geminiConnections;
+    private static ConnectionProvider clientConnections;
+    private static ChatStreamHandler handler;
+    private static ChatStreamServer server;
+    private static ChatTokenService tokenService;
+    private static WebClient client;
+
+    @BeforeAll
+    static void setUp() {
+        stubGemini = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> response
+                        .header("Content-Type", "text/event-stream")
+                        .sendString(request.receive().aggregate().asString()
+                                .flatMapMany(ChatStreamServerStressTest::stubAnswer)))
+                .bindNow();
+
+        GeminiConfig geminiConfig = new GeminiConfig();
+        geminiConfig.setBaseUrl("http://127.0.0.1:" + stubGemini.port());
+        geminiConfig.setModel("stub");
+        geminiConfig.setKey("stub");
+        geminiConfig.setMaxConnections(CONCURRENT_CHATS * 2);
+        geminiConfig.setPendingAcquireMaxCount(CONCURRENT_CHATS * 4);
+        geminiConnections = geminiConfig.geminiConnectionProvider();
+
+        GeminiRateLimitConfig rateLimitConfig = new GeminiRateLimitConfig();
+        rateLimitConfig.setEnabled(false);
+        GeminiCacheConfig cacheConfig = new GeminiCacheConfig();
+        cacheConfig.setEnabled(false);
+        GeminiService geminiService = new GeminiService(geminiConfig, geminiConfig.geminiWebClient(geminiConnections),
+                new GeminiResponseCache(cacheConfig), new GeminiRateLimiter(rateLimitConfig), new SimpleMeterRegistry());
+
+        ChatServerConfig chatConfig = new ChatServerConfig();
+        chatConfig.setHost("127.0.0.1");
+        chatConfig.setPort(0);
+        chatConfig.setMaxStreams(CONCURRENT_CHATS * 2);
+        chatConfig.setHeartbeatInterval(Duration.ofMillis(100));
+        chatConfig.setIdleTimeout(Duration.ofSeconds(2));
+        chatConfig.setTokenSecret("stress-test-secret");
+
+        tokenService = new ChatTokenService(chatConfig);
+        handler = new ChatStreamHandler(geminiService, tokenService, mock(DietContextService.class), chatConfig);
+        server = new ChatStreamServer(chatConfig, handler);
+        server.start();
+
+        clientConnections = ConnectionProvider.builder("stress-client")
+                .maxConnections(CONCURRENT_CHATS * 2)
+                .pendingAcquireMaxCount(CONCURRENT_CHATS * 4)
+                .build();
+        client = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getPort())
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(clientConnections)))
+                .build();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.stop();
+        clientConnections.dispose();
+        geminiConnections.dispose();
+        stubGemini.disposeNow();
+    }
+
+    /**
+     * 스텁 응답: "slow"가 포함된 질문은 길게, "silent"는 아무것도 보내지 않고, 나머지는 200ms 간격 5청크
+     */
+    private static Flux<String> stubAnswer(String requestBody) {
+        Flux<Long> ticks;
+        if (requestBody.contains("silent")) {
+            ticks = Flux.never();
+        } else if (requestBody.contains("slow")) {
+            ticks = Flux.interval(Duration.ofMillis(200)).take(1_000);
+        } else {
+            ticks = Flux.interval(Duration.ofMillis(200)).take(CHUNKS_PER_ANSWER);
+        }
+        return ticks
+                .map(i -> "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"chunk" + i + " \"}]}}]}\n\n")
+                .doOnCancel(upstreamCancelled::incrementAndGet);
+    }
+
+    private Flux<ServerSentEvent<String>> open(String prompt, String token) {
+        return client.get()
+                .uri(uri -> uri.path("/chat/stream").queryParam("prompt", prompt).queryParam("token", token).build())
+                .retrieve()
+                .bodyToFlux(SSE_TYPE);
+    }
+
+    @Test
+    void servesThousandConcurrentChats() {
+        long start = System.nanoTime();
+
+        List<List<ServerSentEvent<String>>> results = Flux.range(0, CONCURRENT_CHATS)
+                .flatMap(i -> open("질문 " + i, tokenService.issue("user" + i)).collectList(), CONCURRENT_CHATS)
+                .collectList()
+                .block(Duration.ofSeconds(60));
+
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        assertThat(results).hasSize(CONCURRENT_CHATS);
+        for (List<ServerSentEvent<String>> events : results) {
+            assertThat(events.stream().filter(e -> e.event() == null && e.data() != null)).hasSize(CHUNKS_PER_ANSWER);
+            assertThat(events.stream().anyMatch(e -> e.comment() != null)).as("heartbeat").isTrue();
+            assertThat(events.get(events.size() - 1).event()).isEqualTo("end");
+        }
+        // 모든 스트림이 동시에 열려 있었으므로 전체 시간은 스트림 하나(약 1초)에 가까워야 함
+        assertThat(elapsedMs).as("elapsed ms for %d concurrent chats", CONCURRENT_CHATS).isLessThan(10_000);
+        assertThat(handler.getActiveStreams()).isZero();
+    }
+
+    @Test
+    void clientDisconnectCancelsUpstream() throws InterruptedException {
+        int cancelledBefore = upstreamCancelled.get();
+
+        List<ServerSentEvent<String>> received = open("slow 질문", tokenService.issue("user"))
+                .filter(e -> e.data() != null)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(received).hasSize(2);
+        awaitUntil(() -> upstreamCancelled.get() > cancelledBefore);
+        awaitUntil(() -> handler.getActiveStreams() == 0);
+    }
+
+    @Test
+    void silentUpstreamEndsWithErrorEventAfterIdleTimeout() throws InterruptedException {
+        int cancelledBefore = upstreamCancelled.get();
+
+        List<ServerSentEvent<String>> events = open("silent 질문", tokenService.issue("user"))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(events).isNotEmpty();
+        assertThat(events.stream().filter(e -> e.comment() != null).count()).isGreaterThan(5);
+        assertThat(events.get(events.size() - 1).event()).isEqualTo("error");
+        awaitUntil(() -> upstreamCancelled.get() > cancelledBefore);
+    }
+
+    @Test
+    void rejectsInvalidToken() {
+        assertThatThrownBy(() -> open("질문", "forged.0.token").blockLast(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientResponseException.Unauthorized.class);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
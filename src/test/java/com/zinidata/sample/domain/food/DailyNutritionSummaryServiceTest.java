@@ -0,0 +1,133 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.NutritionSummaryConfig;
+import com.zinidata.sample.config.NutritionTrendConfig;
+import com.zinidata.sample.domain.food.dto.DailyNutritionSummaryDto;
+import com.zinidata.sample.service.FoodNutritionCacheService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 음식 기록 저장/삭제 시 일일 영양 합계 증감 반영과 재집계 결과가 일치하는지 검증
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Import({ FoodRecordService.class, FoodNutritionCacheService.class, DailyNutritionSummaryService.class,
+        NutritionTrendService.class, CacheConfig.class, NutritionSummaryConfig.class, NutritionTrendConfig.class })
+class DailyNutritionSummaryServiceTest {
+
+    private static final String USER_ID = "user";
+
+    @Autowired
+    private FoodRecordService foodRecordService;
+
+    @Autowired
+    private DailyNutritionSummaryService summaryService;
+
+    @Autowired
+    private FoodNutritionRepository foodNutritionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private FoodNutrition kimchiStew;
+    private FoodNutrition rice;
+
+    @BeforeEach
+    void setUp() {
+        kimchiStew = foodNutritionRepository.save(food("김치찌개", "250", "12", "15", "14", "1200"));
+        rice = foodNutritionRepository.save(food("공기밥", "300", "65.5", "5.2", "0.5", "2"));
+    }
+
+    @Test
+    void savesAndDeletesAdjustTodayRow() {
+        foodRecordService.saveFoodRecord(USER_ID, kimchiStew.getFoodId(), "김치찌개");
+        FoodRecord second = foodRecordService.saveFoodRecord(USER_ID, rice.getFoodId(), "공기밥");
+        foodRecordService.saveFoodRecord(USER_ID, rice.getFoodId(), "공기밥");
+
+        DailyNutritionSummaryDto today = today();
+        assertThat(today.getItemCount()).isEqualTo(3);
+        assertThat(today.getCalories()).isEqualByComparingTo("850");
+        assertThat(today.getCarbohydrate()).isEqualByComparingTo("143");
+
+        foodRecordService.deleteFoodRecord(second.getRecordId());
+
+        today = today();
+        assertThat(today.getItemCount()).isEqualTo(2);
+        assertThat(today.getCalories()).isEqualByComparingTo("550");
+        assertThat(today.getSodium()).isEqualByComparingTo("1202");
+    }
+
+    @Test
+    void deletingLastRecordRemovesRow() {
+        FoodRecord only = foodRecordService.saveFoodRecord(USER_ID, kimchiStew.getFoodId(), "김치찌개");
+
+        foodRecordService.deleteFoodRecord(only.getRecordId());
+
+        assertThat(summaries()).isEmpty();
+    }
+
+    @Test
+    void rebuildMatchesIncrementalTotals() {
+        foodRecordService.saveFoodRecord(USER_ID, kimchiStew.getFoodId(), "김치찌개");
+        foodRecordService.saveFoodRecord(USER_ID, rice.getFoodId(), "공기밥");
+        foodRecordService.saveFoodRecord(USER_ID, null, "직접 입력");
+        DailyNutritionSummaryDto incremental = today();
+
+        assertThat(summaryService.rebuild(LocalDate.now(), LocalDate.now())).isEqualTo(1);
+
+        DailyNutritionSummaryDto rebuilt = today();
+        assertThat(rebuilt.getItemCount()).isEqualTo(incremental.getItemCount()).isEqualTo(3);
+        assertThat(rebuilt.getCalories()).isEqualByComparingTo(incremental.getCalories());
+        assertThat(rebuilt.getProtein()).isEqualByComparingTo(incremental.getProtein());
+        assertThat(rebuilt.getFat()).isEqualByComparingTo(incremental.getFat());
+    }
+
+    @Test
+    void rebuildRemovesRowsWithoutRecords() {
+        foodRecordService.saveFoodRecord(USER_ID, kimchiStew.getFoodId(), "김치찌개");
+        entityManager.flush();
+        // 합계를 거치지 않고 원본 기록만 삭제 (재집계로 보정되어야 하는 상태)
+        entityManager.createQuery("delete from FoodRecord r where r.userId = :userId")
+                .setParameter("userId", USER_ID)
+                .executeUpdate();
+
+        summaryService.rebuild(LocalDate.now(), LocalDate.now());
+
+        assertThat(summaries()).isEmpty();
+    }
+
+    private DailyNutritionSummaryDto today() {
+        List<DailyNutritionSummaryDto> summaries = summaries();
+        assertThat(summaries).hasSize(1);
+        return summaries.get(0);
+    }
+
+    private List<DailyNutritionSummaryDto> summaries() {
+        entityManager.flush();
+        entityManager.clear();
+        return summaryService.getSummaries(USER_ID, LocalDate.now().minusDays(1), LocalDate.now());
+    }
+
+    private static FoodNutrition food(String name, String calories, String carbohydrate, String protein,
+                                      String fat, String sodium) {
+        return FoodNutrition.builder()
+                .foodName(name)
+                .calories(new BigDecimal(calories))
+                .carbohydrate(new BigDecimal(carbohydrate))
+                .protein(new BigDecimal(protein))
+                .fat(new BigDecimal(fat))
+                .sodium(new BigDecimal(sodium))
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.zinidata.sample.domain.food;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FoodNameSearchIndexTest {
+
+    private FoodNameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        FoodNutritionRepository repository = mock(FoodNutritionRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                food(1L, "김치찌개"),
+                food(2L, "된장찌개"),
+                food(3L, "김치볶음밥"),
+                food(4L, "공기밥"),
+                food(5L, "Chicken Salad")));
+        index = new FoodNameSearchIndex(repository);
+        index.rebuild();
+    }
+
+    @Test
+    void searchesBySubstring() {
+        assertThat(ids("찌개")).containsExactly(1L, 2L);
+        assertThat(ids("밥")).containsExactly(3L, 4L);
+        assertThat(ids("김치볶음")).containsExactly(3L);
+        assertThat(ids("라면")).isEmpty();
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        assertThat(ids("chicken salad")).containsExactly(5L);
+        assertThat(ids("김치 찌개")).containsExactly(1L);
+    }
+
+    @Test
+    void searchesByChosung() {
+        assertThat(ids("ㄱㅊ")).containsExactly(1L, 3L);
+        assertThat(ids("김치ㅉ")).containsExactly(1L);
+    }
+
+    @Test
+    void reflectsWrites() {
+        index.put(food(6L, "부대찌개"));
+        index.put(food(1L, "김치전"));
+        index.remove(2L);
+
+        assertThat(ids("찌개")).containsExactly(6L);
+        assertThat(ids("김치")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void ranksPrefixAndShorterNamesFirst() {
+        index.put(food(7L, "김치"));
+        index.put(food(8L, "열무김치"));
+
+        assertThat(matchIds(index.search("김치", -1, 0, 10))).containsExactly(7L, 1L, 3L, 8L);
+        assertThat(matchIds(index.search("밥", -1, 0, 10))).containsExactly(4L, 3L);
+        assertThat(matchIds(index.search("ㄱㅊ", -1, 0, 10))).containsExactly(7L, 1L, 3L, 8L);
+    }
+
+    @Test
+    void pagesWithKeysetCursor() {
+        index.put(food(7L, "김치"));
+        index.put(food(8L, "열무김치"));
+
+        List<FoodNameSearchIndex.Match> first = index.search("김치", -1, 0, 2);
+        assertThat(matchIds(first)).containsExactly(7L, 1L);
+
+        FoodNameSearchIndex.Match last = first.get(first.size() - 1);
+        List<FoodNameSearchIndex.Match> second = index.search("김치", last.score(), last.food().getFoodId(), 2);
+        assertThat(matchIds(second)).containsExactly(3L, 8L);
+        assertThat(second.get(1).score()).isGreaterThan(FoodNameSearchIndex.NON_PREFIX_PENALTY);
+
+        last = second.get(second.size() - 1);
+        assertThat(index.search("김치", last.score(), last.food().getFoodId(), 2)).isEmpty();
+    }
+
+    @Test
+    void scoresByOriginalNameLength() {
+        // DB 검색 경로와 같은 점수여야 커서를 이어 쓸 수 있음 (공백 포함 원래 이름 길이)
+        assertThat(index.search("chicken", -1, 0, 10)).singleElement()
+                .extracting(FoodNameSearchIndex.Match::score).isEqualTo("Chicken Salad".length());
+        assertThat(index.search("salad", -1, 0, 10)).singleElement()
+                .extracting(FoodNameSearchIndex.Match::score)
+                .isEqualTo(FoodNameSearchIndex.NON_PREFIX_PENALTY + "Chicken Salad".length());
+    }
+
+    private static FoodNutrition food(Long id, String name) {
+        return FoodNutrition.builder().foodId(id).foodName(name).build();
+    }
+
+    /**
+     * 일치하는 식품 ID 전체 (ID 순)
+     */
+    private List<Long> ids(String keyword) {
+        return index.search(keyword, -1, 0, 100).stream().map(match -> match.food().getFoodId()).sorted().toList();
+    }
+
+    private static List<Long> matchIds(List<FoodNameSearchIndex.Match> matches) {
+        return matches.stream().map(match -> match.food().getFoodId()).toList();
+    }
+}
@@ -0,0 +1,185 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.NutritionSummaryConfig;
+import com.zinidata.sample.config.NutritionTrendConfig;
+import com.zinidata.sample.domain.food.dto.DailyNutritionSummaryDto;
+import com.zinidata.sample.domain.food.dto.FoodRecordRequestDto;
+import com.zinidata.sample.service.FoodNutritionCacheService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 음식 기록 일괄 저장이 JDBC 배치로 전송되고 일일 합계가 날짜별로 한 번씩 반영되는지 검증
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.sql.init.mode=never"
+})
+@Import({ FoodRecordService.class, FoodNutritionCacheService.class, DailyNutritionSummaryService.class,
+        NutritionTrendService.class, CacheConfig.class, NutritionSummaryConfig.class, NutritionTrendConfig.class })
+class FoodRecordBatchInsertTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FoodRecordBatchInsertTest.class);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Autowired
+    private FoodRecordService foodRecordService;
+
+    @Autowired
+    private DailyNutritionSummaryService summaryService;
+
+    @Autowired
+    private FoodNutritionRepository foodNutritionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<FoodNutrition> foods;
+
+    @BeforeEach
+    void setUp() {
+        foods = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            foods.add(foodNutritionRepository.save(FoodNutrition.builder()
+                    .foodName("음식" + i)
+                    .calories(BigDecimal.valueOf(100))
+                    .protein(BigDecimal.valueOf(5))
+                    .build()));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void insertsThousandRecordsInJdbcBatches() {
+        entityManager.flush();
+        statistics.clear();
+
+        List<FoodRecord> saved = foodRecordService.saveFoodRecords("batch", items(FoodRecordService.MAX_BATCH_SIZE, null));
+        entityManager.flush();
+
+        assertThat(saved).hasSize(FoodRecordService.MAX_BATCH_SIZE);
+        assertThat(saved).extracting(FoodRecord::getRecordId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(FoodRecordService.MAX_BATCH_SIZE);
+        // 배치가 적용되지 않으면 INSERT마다 문장을 준비하므로 1000회 이상
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+    }
+
+    @Test
+    void addsSummaryOncePerDate() {
+        String yesterday = LocalDate.now().minusDays(1).format(DATE_FORMAT);
+        List<FoodRecordRequestDto> items = new ArrayList<>(items(3, null));
+        items.addAll(items(2, yesterday));
+        items.add(new FoodRecordRequestDto(null, "직접 입력", yesterday));
+
+        foodRecordService.saveFoodRecords("meal", items);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<DailyNutritionSummaryDto> summaries =
+                summaryService.getSummaries("meal", LocalDate.now().minusDays(1), LocalDate.now());
+        assertThat(summaries).hasSize(2);
+        assertThat(summaries.get(0).getItemCount()).isEqualTo(3);
+        assertThat(summaries.get(0).getCalories()).isEqualByComparingTo("200");
+        assertThat(summaries.get(1).getItemCount()).isEqualTo(3);
+        assertThat(summaries.get(1).getCalories()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    void rejectsInvalidBatch() {
+        String tomorrow = LocalDate.now().plusDays(1).format(DATE_FORMAT);
+
+        assertThatThrownBy(() -> foodRecordService.saveFoodRecords("user", List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> foodRecordService.saveFoodRecords("user",
+                items(FoodRecordService.MAX_BATCH_SIZE + 1, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> foodRecordService.saveFoodRecords("user", items(1, tomorrow)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> foodRecordService.saveFoodRecords("user", items(1, "20261301")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 요청당 1/10/1000건 저장 처리량 (건별 저장과 비교, 호출마다 커밋)
+     *
+     * ./gradlew stressTest 로 실행하며 결과는 INFO 로그로 남깁니다.
+     * H2 인메모리 DB 기준이므로 실제 DB에서는 왕복 시간만큼 차이가 더 커집니다.
+     */
+    @Test
+    @Tag("stress")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void reportsThroughputPerBatchSize() {
+        int totalRecords = 5_000;
+        double single = measure("single x" + totalRecords, totalRecords, () -> {
+            for (int i = 0; i < totalRecords; i++) {
+                foodRecordService.saveFoodRecord("single", foods.get(i % foods.size()).getFoodId(), "음식");
+            }
+        });
+        double batched = 0;
+        for (int batchSize : new int[]{1, 10, 1000}) {
+            int calls = totalRecords / batchSize;
+            List<FoodRecordRequestDto> items = items(batchSize, null);
+            batched = measure("batch " + batchSize + " x" + calls, totalRecords, () -> {
+                for (int i = 0; i < calls; i++) {
+                    foodRecordService.saveFoodRecords("batch" + batchSize, items);
+                }
+            });
+        }
+
+        // 요청당 1000건은 커밋과 합계 반영을 1000건마다 한 번만 하므로 건별 저장보다 빨라야 함
+        assertThat(batched).as("records/s, batch 1000 vs single").isGreaterThan(single);
+    }
+
+    /**
+     * 워밍업 1회 후 측정
+     *
+     * @return 초당 저장 건수
+     */
+    private static double measure(String label, int records, Runnable task) {
+        task.run();
+        long start = System.nanoTime();
+        task.run();
+        long elapsedNanos = System.nanoTime() - start;
+        double recordsPerSecond = records / (elapsedNanos / 1e9);
+        log.info("{}: {} ms, {} records/s", label, elapsedNanos / 1_000_000, Math.round(recordsPerSecond));
+        return recordsPerSecond;
+    }
+
+    private List<FoodRecordRequestDto> items(int count, String recordDate) {
+        List<FoodRecordRequestDto> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FoodNutrition food = foods.get(i % foods.size());
+            items.add(new FoodRecordRequestDto(food.getFoodId(), food.getFoodName(), recordDate));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,106 @@
+package com.zinidata.sample.domain.food;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TB_FOOD_RECORD 조회 인덱스 실행 계획 검증 (PostgreSQL, 1,000만 행)
+ *
+ * 세션 임시 테이블에 운영 테이블과 같은 구조/인덱스로 데이터를 만들어 EXPLAIN 결과를 확인하므로 기존 데이터는 건드리지 않습니다.
+ * FOOD_RECORD_EXPLAIN_URL에 JDBC URL(계정 포함)을 지정하고 ./gradlew stressTest 로 실행합니다.
+ * 예) FOOD_RECORD_EXPLAIN_URL=jdbc:postgresql://localhost:5432/sample?user=sample&password=sample
+ */
+@Tag("stress")
+@EnabledIfEnvironmentVariable(named = "FOOD_RECORD_EXPLAIN_URL", matches = ".+")
+class FoodRecordIndexExplainTest {
+
+    private static final int ROWS = 10_000_000;
+    private static final int USERS = 10_000;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("FOOD_RECORD_EXPLAIN_URL"));
+        try (Statement statement = connection.createStatement()) {
+            // 임시 테이블이 search_path에서 먼저 조회되므로 같은 이름으로 운영 테이블을 가림
+            statement.execute("""
+                    CREATE TEMP TABLE TB_FOOD_RECORD (
+                        RECORD_ID BIGINT NOT NULL PRIMARY KEY,
+                        RECORD_DATE VARCHAR(8) NOT NULL,
+                        RECORD_DT DATE NOT NULL,
+                        USER_ID VARCHAR(20) NOT NULL,
+                        FOOD_ID NUMERIC,
+                        FOOD_LIST TEXT,
+                        REG_DT TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                        CHG_DT TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                    )""");
+            // 사용자 1만 명 x 1,000일, 사용자/날짜마다 1건
+            statement.execute("""
+                    INSERT INTO TB_FOOD_RECORD (RECORD_ID, RECORD_DATE, RECORD_DT, USER_ID, FOOD_ID, FOOD_LIST)
+                    SELECT g, TO_CHAR(d, 'YYYYMMDD'), d, 'user' || (g %% %d), g %% 5000, '음식'
+                    FROM (SELECT g, DATE '2024-01-01' + (g / %d)::INT AS d
+                          FROM generate_series(0, %d - 1) g) s
+                    """.formatted(USERS, USERS, ROWS));
+            statement.execute("CREATE INDEX IDX_TB_FOOD_RECORD_USER_DT ON TB_FOOD_RECORD (USER_ID, RECORD_DT) INCLUDE (FOOD_ID)");
+            statement.execute("CREATE INDEX IDX_TB_FOOD_RECORD_DT ON TB_FOOD_RECORD (RECORD_DT)");
+            statement.execute("VACUUM (ANALYZE) TB_FOOD_RECORD");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void readsFoodIdsOfUserDayFromIndexOnly() throws SQLException {
+        String plan = explain("SELECT FOOD_ID FROM TB_FOOD_RECORD WHERE USER_ID = 'user42' AND RECORD_DT = DATE '2025-06-01'");
+
+        assertThat(plan).contains("Index Only Scan using idx_tb_food_record_user_dt");
+        assertThat(plan).contains("Heap Fetches: 0");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void findsRecordsOfUserDayByIndex() throws SQLException {
+        // findByUserIdAndRecordDt와 같은 조건 (FOOD_LIST 등 전체 컬럼이 필요하므로 해당 행만 테이블에서 읽음)
+        String plan = explain("SELECT * FROM TB_FOOD_RECORD WHERE USER_ID = 'user42' AND RECORD_DT = DATE '2025-06-01'");
+
+        assertThat(plan).contains("Index Scan using idx_tb_food_record_user_dt");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void findsRecordsOfDayByIndex() throws SQLException {
+        String plan = explain("SELECT * FROM TB_FOOD_RECORD WHERE RECORD_DT = DATE '2025-06-01'");
+
+        assertThat(plan).containsPattern("(Bitmap Heap|Index) Scan");
+        assertThat(plan).contains("idx_tb_food_record_dt");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (ANALYZE, COSTS OFF) " + sql)) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+}
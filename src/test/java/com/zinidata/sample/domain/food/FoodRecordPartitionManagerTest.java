@@ -0,0 +1,55 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.domain.food.FoodRecordPartitionManager.Partition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FoodRecordPartitionManagerTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2026, 10);
+
+    @Test
+    void parsesPartitionBounds() {
+        Partition month = Partition.of("tb_food_record_p202611", "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        Partition legacy = Partition.of("tb_food_record_legacy", "FOR VALUES FROM (MINVALUE) TO ('2026-11-01')");
+        Partition other = Partition.of("tb_food_record_default", "DEFAULT");
+
+        assertThat(month.from()).isEqualTo(LocalDate.of(2026, 11, 1));
+        assertThat(month.to()).isEqualTo(LocalDate.of(2026, 12, 1));
+        assertThat(legacy.from()).isEqualTo(LocalDate.MIN);
+        assertThat(other.isDefault()).isTrue();
+    }
+
+    @Test
+    void createsOnlyUncoveredUpcomingMonths() {
+        List<Partition> partitions = List.of(
+                Partition.of("tb_food_record_legacy", "FOR VALUES FROM (MINVALUE) TO ('2026-11-01')"),
+                Partition.of("tb_food_record_p202611", "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')"),
+                Partition.of("tb_food_record_default", "DEFAULT"));
+
+        assertThat(FoodRecordPartitionManager.missingMonths(partitions, OCTOBER, 3))
+                .containsExactly(YearMonth.of(2026, 12), YearMonth.of(2027, 1));
+        assertThat(FoodRecordPartitionManager.partitionName(YearMonth.of(2027, 1)))
+                .isEqualTo("tb_food_record_p202701");
+    }
+
+    @Test
+    void expiresPartitionsEndingBeforeCutoff() {
+        List<Partition> partitions = List.of(
+                Partition.of("tb_food_record_legacy", "FOR VALUES FROM (MINVALUE) TO ('2026-08-01')"),
+                Partition.of("tb_food_record_p202608", "FOR VALUES FROM ('2026-08-01') TO ('2026-09-01')"),
+                Partition.of("tb_food_record_p202609", "FOR VALUES FROM ('2026-09-01') TO ('2026-10-01')"),
+                Partition.of("tb_food_record_default", "DEFAULT"));
+
+        // 보관 2개월 (9월, 10월) → 8월까지 분리
+        LocalDate cutoff = OCTOBER.minusMonths(1).atDay(1);
+        assertThat(FoodRecordPartitionManager.expiredPartitions(partitions, cutoff))
+                .extracting(Partition::name)
+                .containsExactly("tb_food_record_legacy", "tb_food_record_p202608");
+    }
+}
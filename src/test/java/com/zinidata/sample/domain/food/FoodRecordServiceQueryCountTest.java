@@ -0,0 +1,101 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.NutritionSummaryConfig;
+import com.zinidata.sample.config.NutritionTrendConfig;
+import com.zinidata.sample.domain.food.dto.FoodRecordResponseDto;
+import com.zinidata.sample.service.FoodNutritionCacheService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오늘의 음식 기록 조회가 기록 수와 무관하게 고정된 SQL 수로 처리되는지 검증 (N+1 회귀 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never"
+})
+@Import({ FoodRecordService.class, FoodNutritionCacheService.class, DailyNutritionSummaryService.class,
+        NutritionTrendService.class, CacheConfig.class, NutritionSummaryConfig.class, NutritionTrendConfig.class })
+class FoodRecordServiceQueryCountTest {
+
+    private static final String USER_ID = "user";
+
+    @Autowired
+    private FoodRecordService foodRecordService;
+
+    @Autowired
+    private FoodRecordRepository foodRecordRepository;
+
+    @Autowired
+    private FoodNutritionRepository foodNutritionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void todayRecordsWithNutritionUsesConstantStatementCount() {
+        for (int i = 0; i < 30; i++) {
+            FoodNutrition nutrition = foodNutritionRepository.save(FoodNutrition.builder()
+                    .foodName("음식" + i)
+                    .calories(BigDecimal.valueOf(100 + i))
+                    .protein(BigDecimal.valueOf(i))
+                    .build());
+            foodRecordRepository.save(FoodRecord.builder()
+                    .recordDt(LocalDate.now())
+                    .userId(USER_ID)
+                    .foodId(nutrition.getFoodId())
+                    .foodList(nutrition.getFoodName())
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<FoodRecordResponseDto> records = foodRecordService.getTodayFoodRecordsWithNutrition(USER_ID);
+
+        assertThat(records).hasSize(30);
+        assertThat(records).allSatisfy(dto -> assertThat(dto.getCalories()).isNotNull());
+        // 기록 조회 1회 + 영양 정보 IN 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // 두 번째 호출은 영양 정보가 캐시에서 조회되어 기록 조회 1회만 발생
+        entityManager.clear();
+        statistics.clear();
+        foodRecordService.getTodayFoodRecordsWithNutrition(USER_ID);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void todayRecordsWithoutEntriesSkipsNutritionLookup() {
+        statistics.clear();
+
+        List<FoodRecordResponseDto> records = foodRecordService.getTodayFoodRecordsWithNutrition(USER_ID);
+
+        assertThat(records).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.zinidata.sample.domain.food;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.NutritionTrendConfig;
+import com.zinidata.sample.domain.food.dto.NutritionTrendDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NutritionTrendServiceTest {
+
+    private static final String USER_ID = "user";
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    private DailyNutritionSummaryRepository repository;
+    private ConcurrentMapCacheManager cacheManager;
+    private NutritionTrendConfig config;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DailyNutritionSummaryRepository.class);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.NUTRITION_SERIES);
+        config = new NutritionTrendConfig();
+        config.setWindowDays(120);
+
+        when(repository.findByUserIdAndRecordDateBetweenOrderByRecordDate(eq(USER_ID), anyString(), anyString()))
+                .thenReturn(List.of(
+                        summary("20260920", "1800", 3),
+                        summary("20261015", "2100", 4),
+                        summary("20261017", "600", 1)));
+    }
+
+    @Test
+    void aggregatesRecentDaysFromSeries() {
+        NutritionTrendDto trend = service("2026-10-17T12:00:00Z").getTrend(USER_ID, 7);
+
+        assertThat(trend.getStartDate()).isEqualTo("20261011");
+        assertThat(trend.getEndDate()).isEqualTo("20261017");
+        assertThat(trend.getCalories()).containsExactly(0, 0, 0, 0, 2100, 0, 600);
+        assertThat(trend.getRecordedDays()).isEqualTo(2);
+        assertThat(trend.getTotals()[0]).isEqualTo(2700);
+        assertThat(trend.getDailyAverages()[0]).isEqualTo(1350);
+
+        NutritionTrendDto month = service("2026-10-17T12:00:00Z").getTrend(USER_ID, 30);
+        assertThat(month.getRecordedDays()).isEqualTo(3);
+        assertThat(month.getTotals()[0]).isEqualTo(4500);
+    }
+
+    @Test
+    void loadsSeriesOncePerUserUntilEvicted() {
+        NutritionTrendService service = service("2026-10-17T12:00:00Z");
+
+        service.getTrend(USER_ID, 7);
+        service.getTrend(USER_ID, 90);
+        verify(repository, times(1))
+                .findByUserIdAndRecordDateBetweenOrderByRecordDate(USER_ID, "20260620", "20261017");
+
+        service.evict(USER_ID);
+        service.getTrend(USER_ID, 30);
+        verify(repository, times(2))
+                .findByUserIdAndRecordDateBetweenOrderByRecordDate(USER_ID, "20260620", "20261017");
+    }
+
+    @Test
+    void reloadsWhenDayChanges() {
+        service("2026-10-17T12:00:00Z").getTrend(USER_ID, 7);
+
+        NutritionTrendDto trend = service("2026-10-18T00:10:00Z").getTrend(USER_ID, 7);
+
+        assertThat(trend.getEndDate()).isEqualTo("20261018");
+        verify(repository).findByUserIdAndRecordDateBetweenOrderByRecordDate(USER_ID, "20260621", "20261018");
+    }
+
+    @Test
+    void rejectsDaysOutsideWindow() {
+        NutritionTrendService service = service("2026-10-17T12:00:00Z");
+
+        assertThatThrownBy(() -> service.getTrend(USER_ID, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getTrend(USER_ID, 121)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /** 같은 캐시를 공유하고 시각만 다른 서비스 */
+    private NutritionTrendService service(String now) {
+        return new NutritionTrendService(repository, config, cacheManager, Clock.fixed(Instant.parse(now), ZONE));
+    }
+
+    private static DailyNutritionSummary summary(String recordDate, String calories, int itemCount) {
+        return DailyNutritionSummary.builder()
+                .userId(USER_ID)
+                .recordDate(recordDate)
+                .calories(new BigDecimal(calories))
+                .carbohydrate(BigDecimal.TEN)
+                .protein(BigDecimal.ONE)
+                .fat(BigDecimal.ONE)
+                .sodium(BigDecimal.ZERO)
+                .itemCount(itemCount)
+                .build();
+    }
+}
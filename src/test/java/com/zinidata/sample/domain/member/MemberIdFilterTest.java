@@ -0,0 +1,74 @@
+package com.zinidata.sample.domain.member;
+
+import com.zinidata.sample.config.MemberIdFilterConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberIdFilterTest {
+
+    private MemberRepository repository;
+    private MemberIdFilter nodeA;
+    private MemberIdFilter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MemberRepository.class);
+        when(repository.findAllMemberIds()).thenReturn(List.of("admin", "user01", "홍길동"));
+
+        MemberIdFilterConfig config = new MemberIdFilterConfig();
+        config.setExpectedInsertions(1_000);
+
+        // 두 노드가 하나의 채널을 공유
+        LocalMemberEventChannel channel = new LocalMemberEventChannel();
+        nodeA = new MemberIdFilter(repository, config, channel);
+        nodeB = new MemberIdFilter(repository, config, channel);
+        nodeA.subscribe();
+        nodeB.subscribe();
+    }
+
+    @Test
+    void answersMaybeUntilBuilt() {
+        assertThat(nodeA.mightExist("newbie")).isTrue();
+        assertThat(nodeA.getStats().isReady()).isFalse();
+    }
+
+    @Test
+    void existingIdsAreNeverReportedMissing() {
+        nodeA.rebuild();
+
+        assertThat(nodeA.mightExist("admin")).isTrue();
+        assertThat(nodeA.mightExist("홍길동")).isTrue();
+        assertThat(nodeA.mightExist("newbie")).isFalse();
+        assertThat(nodeA.getStats().getDefiniteMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void signupOnOneNodeIsVisibleOnOthers() {
+        nodeA.rebuild();
+        nodeB.rebuild();
+
+        nodeA.add("newbie");
+
+        assertThat(nodeB.mightExist("newbie")).isTrue();
+    }
+
+    @Test
+    void signupCommittedDuringRebuildIsKept() {
+        nodeA.rebuild();
+        // DB 조회 도중 (조회 결과에는 없는) 가입이 커밋되는 경우
+        when(repository.findAllMemberIds()).thenAnswer(invocation -> {
+            nodeA.add("newbie");
+            return List.of("admin", "user01", "홍길동");
+        });
+
+        nodeA.rebuild();
+
+        assertThat(nodeA.mightExist("newbie")).isTrue();
+    }
+}
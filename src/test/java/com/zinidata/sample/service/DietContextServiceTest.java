@@ -0,0 +1,81 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.domain.food.FoodRecordService;
+import com.zinidata.sample.domain.food.dto.FoodRecordResponseDto;
+import com.zinidata.sample.dto.MemberInfoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DietContextServiceTest {
+
+    private static final String USER_ID = "user";
+    private static final String DATE = "20261017";
+
+    private FoodRecordService foodRecordService;
+    private MemberService memberService;
+    private DietContextService service;
+
+    @BeforeEach
+    void setUp() {
+        foodRecordService = mock(FoodRecordService.class);
+        memberService = mock(MemberService.class);
+        service = new DietContextService(foodRecordService, memberService,
+                new ConcurrentMapCacheManager(CacheConfig.DIET_CONTEXT));
+
+        when(foodRecordService.getFoodRecordsWithNutrition(USER_ID, DATE)).thenReturn(List.of(
+                record("김치찌개", "250", "12.04", "15", "14", "1200"),
+                record("공기밥", "300", "65.5", "5.2", "0.5", null)));
+        when(memberService.getMemberInfo(USER_ID)).thenReturn(new MemberInfoDto(34, "M", "남성"));
+    }
+
+    @Test
+    void buildsCompactContextWithTotals() {
+        assertThat(service.getContext(USER_ID, DATE)).isEqualTo("""
+                [사용자] 34세 남성
+                [식단 20261017] 음식: 열량kcal/탄수화물g/단백질g/지방g/나트륨mg
+                - 김치찌개: 250/12/15/14/1200
+                - 공기밥: 300/65.5/5.2/0.5/-
+                [합계] 550/77.5/20.2/14.5/1200
+                """);
+    }
+
+    @Test
+    void cachesPerUserAndDateUntilEvicted() {
+        service.getContext(USER_ID, DATE);
+        service.getContext(USER_ID, DATE);
+        verify(foodRecordService, times(1)).getFoodRecordsWithNutrition(USER_ID, DATE);
+
+        service.evict(USER_ID, DATE);
+        service.getContext(USER_ID, DATE);
+        verify(foodRecordService, times(2)).getFoodRecordsWithNutrition(USER_ID, DATE);
+    }
+
+    @Test
+    void emptyDayHasNoPrompt() {
+        assertThat(service.getContext(USER_ID, "20000101")).isEmpty();
+        assertThat(service.getTodayAnalysisPrompt("nobody")).isEmpty();
+    }
+
+    private static FoodRecordResponseDto record(String name, String calories, String carbohydrate, String protein,
+                                                String fat, String sodium) {
+        return FoodRecordResponseDto.builder()
+                .foodName(name)
+                .calories(new BigDecimal(calories))
+                .carbohydrate(new BigDecimal(carbohydrate))
+                .protein(new BigDecimal(protein))
+                .fat(new BigDecimal(fat))
+                .sodium(sodium != null ? new BigDecimal(sodium) : null)
+                .build();
+    }
+}
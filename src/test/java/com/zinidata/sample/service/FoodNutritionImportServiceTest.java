@@ -0,0 +1,157 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.CacheConfig;
+import com.zinidata.sample.config.FoodImportConfig;
+import com.zinidata.sample.domain.food.FoodNameSearchIndex;
+import com.zinidata.sample.domain.food.FoodNutrition;
+import com.zinidata.sample.domain.food.FoodNutritionRepository;
+import com.zinidata.sample.dto.FoodImportStatusDto;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식품 영양 정보 일괄 적재 검증 (H2, JDBC 배치 MERGE 경로)
+ *
+ * 적재는 자체 커넥션으로 chunk마다 커밋하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "food.import.chunk-size=2"
+})
+@Import({ FoodNutritionImportService.class, FoodNutritionCacheService.class, FoodNameSearchIndex.class,
+        CacheConfig.class, FoodImportConfig.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FoodNutritionImportServiceTest {
+
+    private static final String HEADER = "식품코드,식품명,영양성분함량기준량,에너지(kcal),탄수화물(g),단백질(g),지방(g),나트륨(mg)\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private FoodNutritionImportService importService;
+
+    @Autowired
+    private FoodNutritionRepository foodNutritionRepository;
+
+    @Autowired
+    private FoodNameSearchIndex searchIndex;
+
+    @AfterEach
+    void tearDown() {
+        foodNutritionRepository.deleteAll();
+    }
+
+    @Test
+    void importsCsvInChunksAndUpsertsByFoodCode() throws IOException {
+        Path file = write("foods.csv", HEADER
+                + "D001,\"김치찌개, 돼지고기\",100g,250,12,15,14,\"1,200\"\n"
+                + "D002,공기밥,210g,300,65.5,5.2,0.5,-\n"
+                + "D003,된장찌개,100g,180,10,9,6,950\n"
+                + ",이름만 있음,100g,1,1,1,1,1\n"
+                + "D004,잘못된 숫자,100g,abc,1,1,1,1\n"
+                + "D002,공기밥(흑미),210g,310,66,6,1,3\n");
+
+        FoodImportStatusDto status = importService.importFile(file, "foods.csv", StandardCharsets.UTF_8);
+
+        assertThat(status.getError()).isNull();
+        assertThat(status.isRunning()).isFalse();
+        assertThat(status.getMethod()).isEqualTo("BATCH");
+        assertThat(status.getSkippedRows()).isEqualTo(2);
+        assertThat(foods()).extracting(FoodNutrition::getFoodCode).containsExactly("D001", "D002", "D003");
+
+        FoodNutrition stew = foods().get(0);
+        assertThat(stew.getFoodName()).isEqualTo("김치찌개, 돼지고기");
+        assertThat(stew.getServingSize()).isEqualByComparingTo("100");
+        assertThat(stew.getSodium()).isEqualByComparingTo("1200");
+        FoodNutrition rice = foods().get(1);
+        assertThat(rice.getFoodName()).isEqualTo("공기밥(흑미)");
+        assertThat(rice.getCalories()).isEqualByComparingTo("310");
+
+        // 같은 파일을 다시 적재해도 행이 늘지 않고 갱신만 됨
+        importService.importFile(file, "foods.csv", StandardCharsets.UTF_8);
+        assertThat(foodNutritionRepository.count()).isEqualTo(3);
+
+        assertThat(searchIndex.search("찌개", -1, 0, 10)).extracting(match -> match.food().getFoodCode())
+                .containsExactly("D003", "D001");
+    }
+
+    @Test
+    void importsFirstSheetOfXlsx() throws IOException {
+        Path file = tempDir.resolve("foods.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("식품코드");
+            header.createCell(1).setCellValue("식품명");
+            header.createCell(3).setCellValue("에너지(kcal)");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue("X001");
+            row.createCell(1).setCellValue("비빔밥");
+            row.createCell(3).setCellValue(550.5);
+            workbook.write(out);
+        }
+
+        FoodImportStatusDto status = importService.importFile(file, "foods.xlsx", StandardCharsets.UTF_8);
+
+        assertThat(status.getError()).isNull();
+        assertThat(status.getLoadedRows()).isEqualTo(1);
+        FoodNutrition food = foods().get(0);
+        assertThat(food.getFoodName()).isEqualTo("비빔밥");
+        assertThat(food.getCalories()).isEqualByComparingTo("550.5");
+        assertThat(food.getProtein()).isNull();
+    }
+
+    @Test
+    void reportsMissingRequiredColumns() throws IOException {
+        Path file = write("foods.csv", "식품명,에너지(kcal)\n김치찌개,250\n");
+
+        FoodImportStatusDto status = importService.importFile(file, "foods.csv", StandardCharsets.UTF_8);
+
+        assertThat(status.getError()).contains("필수 열");
+        assertThat(status.isRunning()).isFalse();
+        assertThat(foodNutritionRepository.count()).isZero();
+    }
+
+    @Test
+    void abortReleasesRunningImport() {
+        assertThat(importService.begin("foods.csv")).isTrue();
+        assertThat(importService.begin("foods.csv")).isFalse();
+
+        importService.abort("적재 작업을 시작하지 못했습니다.");
+
+        assertThat(importService.getStatus().isRunning()).isFalse();
+        assertThat(importService.getStatus().getError()).isEqualTo("적재 작업을 시작하지 못했습니다.");
+        assertThat(importService.begin("foods.csv")).isTrue();
+        importService.abort("테스트 종료");
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private List<FoodNutrition> foods() {
+        return foodNutritionRepository.findAll().stream()
+                .sorted(Comparator.comparing(FoodNutrition::getFoodCode))
+                .toList();
+    }
+}
@@ -0,0 +1,128 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.GeminiRateLimitConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 호출량 제한기 검증
+ *
+ * 분당 1건으로 두고 시각을 직접 옮기며 drain()을 호출하므로 스케줄러 없이 순서대로 확인합니다.
+ */
+class GeminiRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final List<String> events = new ArrayList<>();
+    private GeminiRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        GeminiRateLimitConfig config = new GeminiRateLimitConfig();
+        config.setRequestsPerMinute(1);
+        config.setTokensPerMinute(100_000);
+        config.setReservedOutputTokens(0);
+        config.setMaxQueueSize(3);
+        config.setMaxQueuePerUser(2);
+        config.setMaxWait(Duration.ofSeconds(90));
+        limiter = new GeminiRateLimiter(config, now::get);
+    }
+
+    @Test
+    void queuesWhenBucketIsEmptyAndGrantsAfterRefill() {
+        acquire("a", "a1");
+        acquire("a", "a2");
+
+        assertThat(events).containsExactly("a1 granted");
+        assertThat(limiter.getStats().getQueued()).isEqualTo(1);
+
+        limiter.drain();
+        assertThat(events).containsExactly("a1 granted");
+
+        advanceSeconds(60);
+        limiter.drain();
+        assertThat(events).containsExactly("a1 granted", "a2 granted");
+        assertThat(limiter.getStats().getQueued()).isZero();
+        assertThat(limiter.getStats().getMaxWaitMillis()).isEqualTo(60_000);
+    }
+
+    @Test
+    void drainsUsersRoundRobin() {
+        acquire("a", "a1");
+        acquire("a", "a2");
+        acquire("a", "a3");
+        acquire("b", "b1");
+
+        advanceSeconds(60);
+        limiter.drain();
+        advanceSeconds(60);
+        limiter.drain();
+        advanceSeconds(60);
+        limiter.drain();
+
+        // a가 먼저 몰아서 보냈어도 a2 다음은 b1
+        assertThat(events).containsExactly("a1 granted", "a2 granted", "b1 granted", "a3 granted");
+    }
+
+    @Test
+    void shedsWhenUserQueueOrTotalQueueIsFull() {
+        acquire("a", "a1");
+        acquire("a", "a2");
+        acquire("a", "a3");
+        acquire("a", "a4");
+        acquire("b", "b1");
+        acquire("c", "c1");
+
+        assertThat(events).containsExactly("a1 granted", "a4 rejected: 대기 중인 요청이 너무 많습니다.",
+                "c1 rejected: 대기 중인 요청이 너무 많습니다.");
+        assertThat(limiter.getStats().getQueued()).isEqualTo(3);
+        assertThat(limiter.getStats().getShedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shedsWaitersOverMaxWait() {
+        acquire("a", "a1");
+        acquire("a", "a2");
+        advanceSeconds(30);
+        acquire("b", "b1");
+
+        // a2는 91초, b1은 61초 대기 → a2만 시간 초과, 충전된 1건은 b1에 허가
+        advanceSeconds(61);
+        limiter.drain();
+
+        assertThat(events).containsExactly("a1 granted", "a2 rejected: 대기 시간이 초과되었습니다.", "b1 granted");
+    }
+
+    @Test
+    void cancelRemovesWaiterFromQueue() {
+        acquire("a", "a1");
+        Disposable a2 = acquire("a", "a2");
+        acquire("b", "b1");
+
+        a2.dispose();
+        assertThat(limiter.getStats().getQueued()).isEqualTo(1);
+
+        advanceSeconds(60);
+        limiter.drain();
+        assertThat(events).containsExactly("a1 granted", "b1 granted");
+    }
+
+    private Disposable acquire(String userId, String name) {
+        return limiter.acquire(userId, "질문").subscribe(
+                unused -> { },
+                error -> events.add(name + " rejected: " + error.getMessage()),
+                () -> events.add(name + " granted"));
+    }
+
+    private void advanceSeconds(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+}
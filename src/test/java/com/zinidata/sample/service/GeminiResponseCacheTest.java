@@ -0,0 +1,103 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.GeminiCacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiResponseCacheTest {
+
+    private static final String MODEL = "gemini";
+    private static final String SYSTEM = "system";
+
+    private GeminiCacheConfig config;
+    private GeminiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config = new GeminiCacheConfig();
+        cache = new GeminiResponseCache(config);
+    }
+
+    @Test
+    void replaysCompletedStreamForNormalizedPrompt() {
+        Flux<String> upstream = Flux.just("김치찌개는 ", "약 450kcal입니다.");
+        cache.record(cache.keyOf("김치찌개 칼로리?", MODEL, SYSTEM), upstream).blockLast();
+
+        assertThat(cache.get(cache.keyOf("김치찌개  칼로리", MODEL, SYSTEM)))
+                .containsExactly("김치찌개는 ", "약 450kcal입니다.");
+        assertThat(cache.get(cache.keyOf("김치찌개 칼로리", "other-model", SYSTEM))).isNull();
+        assertThat(cache.getStats(10).getHitCount()).isEqualTo(1);
+        assertThat(cache.getStats(10).getEntries().get(0).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotStoreFailedStream() {
+        Flux<String> upstream = Flux.concat(Flux.just("부분 응답"), Flux.error(new IllegalStateException()));
+        cache.record(cache.keyOf("오늘 식단 평가해줘", MODEL, SYSTEM), upstream)
+                .onErrorResume(e -> Flux.empty())
+                .blockLast();
+
+        assertThat(cache.get(cache.keyOf("오늘 식단 평가해줘", MODEL, SYSTEM))).isNull();
+    }
+
+    @Test
+    void shingleModeMatchesSmallWordingDifferences() {
+        config.setMode(GeminiCacheConfig.Mode.SHINGLE);
+        config.setSimilarityThreshold(0.7);
+        cache.put(cache.keyOf("오늘 먹은 식단을 평가해줘", MODEL, SYSTEM), List.of("좋습니다"));
+
+        assertThat(cache.get(cache.keyOf("오늘 먹은 식단 평가해줘", MODEL, SYSTEM))).containsExactly("좋습니다");
+        assertThat(cache.get(cache.keyOf("된장찌개 칼로리", MODEL, SYSTEM))).isNull();
+        assertThat(cache.getStats(10).getSimilarHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shingleModeSkipsEvictedEntries() {
+        config.setMode(GeminiCacheConfig.Mode.SHINGLE);
+        config.setSimilarityThreshold(0.7);
+        config.setMaxBytes(20);
+        cache.put(cache.keyOf("오늘 먹은 식단을 평가해줘", MODEL, SYSTEM), List.of("좋습니다"));
+        cache.put(cache.keyOf("된장찌개 칼로리 알려줘", MODEL, SYSTEM), List.of("약 180kcal"));
+
+        assertThat(cache.get(cache.keyOf("오늘 먹은 식단 평가해줘", MODEL, SYSTEM))).isNull();
+        assertThat(cache.get(cache.keyOf("된장찌개 칼로리 알려줘요", MODEL, SYSTEM))).containsExactly("약 180kcal");
+    }
+
+    @Test
+    void shingleModeRemovesExpiredCandidates() {
+        config.setMode(GeminiCacheConfig.Mode.SHINGLE);
+        config.setSimilarityThreshold(0.7);
+        config.setTtl(Duration.ofMillis(-1));
+        cache.put(cache.keyOf("오늘 먹은 식단을 평가해줘", MODEL, SYSTEM), List.of("좋습니다"));
+
+        assertThat(cache.get(cache.keyOf("오늘 먹은 식단 평가해줘", MODEL, SYSTEM))).isNull();
+        assertThat(cache.getStats(10).getEntries()).isEmpty();
+        assertThat(cache.getStats(10).getTotalBytes()).isZero();
+    }
+
+    @Test
+    void keepsSeparatorsBetweenDigits() {
+        assertThat(GeminiResponseCache.normalizePrompt("김치찌개 1.5인분 칼로리?")).isEqualTo("김치찌개1.5인분칼로리");
+        assertThat(GeminiResponseCache.normalizePrompt("김치찌개 15인분 칼로리")).isEqualTo("김치찌개15인분칼로리");
+        assertThat(GeminiResponseCache.normalizePrompt("1/2공기")).isEqualTo("1/2공기");
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesOverMaxBytes() {
+        config.setMaxBytes(10);
+        cache.put(cache.keyOf("a", MODEL, SYSTEM), List.of("12345"));
+        cache.put(cache.keyOf("b", MODEL, SYSTEM), List.of("12345"));
+        cache.get(cache.keyOf("a", MODEL, SYSTEM));
+        cache.put(cache.keyOf("c", MODEL, SYSTEM), List.of("12345"));
+
+        assertThat(cache.get(cache.keyOf("a", MODEL, SYSTEM))).isNotNull();
+        assertThat(cache.get(cache.keyOf("b", MODEL, SYSTEM))).isNull();
+        assertThat(cache.getStats(10).getTotalBytes()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,96 @@
+package com.zinidata.sample.service;
+
+import com.zinidata.sample.config.GeminiCacheConfig;
+import com.zinidata.sample.config.GeminiConfig;
+import com.zinidata.sample.config.GeminiRateLimitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gemini 호출 서비스 검증 (WebClient 응답을 직접 만들어 실제 API는 호출하지 않음)
+ */
+class GeminiServiceTest {
+
+    private static final String EVENT = "data: {\"candidates\": [{\"content\": {\"parts\": [{\"text\": \"약 450kcal입니다.\"}]}}]}\n\n";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private GeminiConfig geminiConfig;
+    private GeminiCacheConfig cacheConfig;
+    private GeminiRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        geminiConfig = new GeminiConfig();
+        geminiConfig.setBaseUrl("http://gemini.test");
+        geminiConfig.setModel("test");
+        geminiConfig.setKey("test");
+        cacheConfig = new GeminiCacheConfig();
+        cacheConfig.setEnabled(false);
+        rateLimiter = new GeminiRateLimiter(new GeminiRateLimitConfig());
+    }
+
+    @Test
+    void concurrentIdenticalPromptsShareOneUpstreamCall() {
+        // 응답을 늦춰 두 번째 요청이 진행 중인 호출에 합류하도록 함
+        GeminiService service = serviceWith(request -> Mono.delay(Duration.ofMillis(200)).map(tick -> ok()));
+
+        Flux<String> first = service.generateContentStream("김치찌개 칼로리", "user1");
+        Flux<String> second = service.generateContentStream("김치찌개 칼로리", "user2");
+        List<List<String>> answers = Flux.merge(first.collectList(), second.collectList())
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(calls).hasValue(1);
+        assertThat(answers).containsExactly(List.of("약 450kcal입니다."), List.of("약 450kcal입니다."));
+        assertThat(rateLimiter.getStats().getGrantedCount()).isEqualTo(1);
+        assertThat(rateLimiter.getStats().getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterTooManyRequestsAcquiresRateLimitAgain() {
+        GeminiService service = serviceWith(request -> Mono.just(calls.get() == 1
+                ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build()
+                : ok()));
+
+        List<String> answer = service.generateContentStream("된장찌개 칼로리", "user1")
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(answer).containsExactly("약 450kcal입니다.");
+        assertThat(calls).hasValue(2);
+        assertThat(rateLimiter.getStats().getGrantedCount()).isEqualTo(2);
+    }
+
+    private GeminiService serviceWith(ExchangeFunction exchange) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    calls.incrementAndGet();
+                    return exchange.exchange(request);
+                })
+                .build();
+        return new GeminiService(geminiConfig, webClient, new GeminiResponseCache(cacheConfig), rateLimiter,
+                new SimpleMeterRegistry());
+    }
+
+    private static ClientResponse ok() {
+        return ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                .body(EVENT)
+                .build();
+    }
+}
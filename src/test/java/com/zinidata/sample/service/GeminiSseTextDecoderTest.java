@@ -0,0 +1,58 @@
+package com.zinidata.sample.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiSseTextDecoderTest {
+
+    private static final String EVENT = "data: {\"candidates\": [{\"content\": {\"parts\": [{\"text\": \"김치찌개는 \\\"약 450kcal\\\"\"}],"
+            + "\"role\": \"model\"},\"index\": 0}],\"usageMetadata\": {\"promptTokenCount\": 9}}\r\n\r\n";
+
+    private static final String EVENT_WITH_EXTRA_FIELDS = "data: {\"modelVersion\": \"x\",\"candidates\": [{\"safetyRatings\": [{\"a\": 1}],"
+            + "\"content\": {\"role\": \"model\",\"parts\": [{\"thought\": true,\"text\": \"입니다.\"}]}}]}\n\n";
+
+    @Test
+    void decodesEventsSplitAcrossBuffers() {
+        byte[] bytes = (EVENT + EVENT_WITH_EXTRA_FIELDS + "data: [DONE]").getBytes(StandardCharsets.UTF_8);
+        GeminiSseTextDecoder decoder = new GeminiSseTextDecoder();
+        List<String> texts = new ArrayList<>();
+
+        // 7바이트씩 잘라 한글 멀티바이트 문자와 줄이 버퍼 경계에 걸치도록 함
+        for (int i = 0; i < bytes.length; i += 7) {
+            byte[] chunk = Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + 7));
+            texts.addAll(decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(chunk)));
+        }
+        texts.addAll(decoder.flush());
+
+        assertThat(texts).containsExactly("김치찌개는 \"약 450kcal\"", "입니다.");
+    }
+
+    @Test
+    void ignoresLinesWithoutText() {
+        byte[] line = "data: {\"candidates\": [{\"finishReason\": \"STOP\"}]}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(GeminiSseTextDecoder.extractLine(line, 0, line.length)).isNull();
+    }
+
+    @Test
+    void failsWhenLineExceedsMaxSize() {
+        GeminiSseTextDecoder decoder = new GeminiSseTextDecoder(16);
+        byte[] complete = EVENT.getBytes(StandardCharsets.UTF_8);
+        byte[] endless = "data: {\"candidates\": [".getBytes(StandardCharsets.UTF_8);
+
+        // 줄바꿈으로 끝난 줄은 상한보다 길어도 처리
+        assertThat(decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(complete)))
+                .containsExactly("김치찌개는 \"약 450kcal\"");
+        assertThatThrownBy(() -> decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(endless)))
+                .isInstanceOf(DataBufferLimitException.class);
+    }
+}